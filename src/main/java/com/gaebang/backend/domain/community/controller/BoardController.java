@@ -3,6 +3,7 @@ package com.gaebang.backend.domain.community.controller;
 import com.gaebang.backend.domain.community.dto.reqeust.BoardCreateAndEditRequestDto;
 import com.gaebang.backend.domain.community.dto.response.BoardDetailResponseDto;
 import com.gaebang.backend.domain.community.dto.response.BoardListResponseDto;
+import com.gaebang.backend.domain.community.dto.response.CursorPageResponseDto;
 import com.gaebang.backend.domain.community.service.BoardService;
 import com.gaebang.backend.global.springsecurity.PrincipalDetails;
 import com.gaebang.backend.global.util.ResponseDTO;
@@ -13,6 +14,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 @RequestMapping("/api")
 @RestController
@@ -32,6 +35,18 @@ public class BoardController {
         return ResponseEntity.status(responseDTO.getCode()).body(responseDTO);
     }
 
+    // 게시판 전문 검색(관련도 순)
+    @GetMapping("/boards/search/relevance")
+    public ResponseEntity<ResponseDTO<Page<BoardListResponseDto>>> searchBoardByRelevance(
+            @RequestParam("keyword") String keyword,
+            Pageable pageable) {
+
+        Page<BoardListResponseDto> boardDto = boardService.searchBoardByRelevance(keyword, pageable);
+
+        ResponseDTO<Page<BoardListResponseDto>> responseDTO = ResponseDTO.okWithData(boardDto);
+        return ResponseEntity.status(responseDTO.getCode()).body(responseDTO);
+    }
+
     // 게시판 조회(조건 없음)
     @GetMapping("/boards")
     public ResponseEntity<ResponseDTO<Page<BoardListResponseDto>>> getBoard(Pageable pageable) {
@@ -44,6 +59,30 @@ public class BoardController {
                 .body(listResponseDTO);
     }
 
+    // 인기 게시글 조회(시간 감쇠 점수 순)
+    @GetMapping("/boards/trending")
+    public ResponseEntity<ResponseDTO<List<BoardListResponseDto>>> getTrendingBoards(
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        List<BoardListResponseDto> boardDto = boardService.getTrendingBoards(size);
+
+        ResponseDTO<List<BoardListResponseDto>> responseDTO = ResponseDTO.okWithData(boardDto);
+        return ResponseEntity.status(responseDTO.getCode()).body(responseDTO);
+    }
+
+    // 게시판 조회(커서 기반, 무한 스크롤용)
+    @GetMapping("/boards/cursor")
+    public ResponseEntity<ResponseDTO<CursorPageResponseDto<BoardListResponseDto>>> getBoardByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "includeCount", defaultValue = "false") boolean includeCount) {
+
+        CursorPageResponseDto<BoardListResponseDto> boardDto = boardService.getBoardByCursor(cursor, size, includeCount);
+
+        ResponseDTO<CursorPageResponseDto<BoardListResponseDto>> responseDTO = ResponseDTO.okWithData(boardDto);
+        return ResponseEntity.status(responseDTO.getCode()).body(responseDTO);
+    }
+
     // 게시판 상세 조회
     @GetMapping("/boards/{boardId}")
     public ResponseEntity<ResponseDTO<BoardDetailResponseDto>> getBoardDetail(
@@ -1,6 +1,8 @@
 package com.gaebang.backend.domain.community.controller;
 
 import com.gaebang.backend.domain.community.dto.reqeust.CommentRequestDto;
+import com.gaebang.backend.domain.community.dto.response.CommentResponseDto;
+import com.gaebang.backend.domain.community.dto.response.CursorPageResponseDto;
 import com.gaebang.backend.domain.community.service.CommentService;
 import com.gaebang.backend.global.springsecurity.PrincipalDetails;
 import com.gaebang.backend.global.util.ResponseDTO;
@@ -16,6 +18,21 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    // 댓글 조회(커서 기반, 무한 스크롤용)
+    @GetMapping("/boards/{boardId}/comments/cursor")
+    public ResponseEntity<ResponseDTO<CursorPageResponseDto<CommentResponseDto>>> getCommentsByCursor(
+            @PathVariable("boardId") Long boardId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "includeCount", defaultValue = "false") boolean includeCount) {
+
+        CursorPageResponseDto<CommentResponseDto> comments =
+                commentService.getCommentsByCursor(boardId, cursor, size, includeCount);
+
+        ResponseDTO<CursorPageResponseDto<CommentResponseDto>> responseDTO = ResponseDTO.okWithData(comments);
+        return ResponseEntity.status(responseDTO.getCode()).body(responseDTO);
+    }
+
     // 댓글 생성
     @PostMapping("/comments")
     public ResponseEntity<ResponseDTO<Void>> addComment(@RequestBody CommentRequestDto commentRequestDto,
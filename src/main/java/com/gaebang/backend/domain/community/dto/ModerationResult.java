@@ -5,6 +5,10 @@ package com.gaebang.backend.domain.community.dto;
  * OpenAI, Gemini 등 다양한 AI Gateway에서 재사용 가능
  */
 public class ModerationResult {
+
+    // 모든 AI 제공자 호출 실패 시 보수적으로 차단할 때 사용하는 사유 (판정 캐시 대상 아님)
+    public static final String SYSTEM_FAILURE_REASON = "AI 검열 시스템 장애로 인한 임시 차단 - 관리자 검토 필요";
+
     private final boolean inappropriate;
     private final String reason;
 
@@ -21,6 +25,14 @@ public class ModerationResult {
         return reason;
     }
 
+    public boolean isSystemFailure() {
+        return SYSTEM_FAILURE_REASON.equals(reason);
+    }
+
+    public static ModerationResult systemFailure() {
+        return new ModerationResult(true, SYSTEM_FAILURE_REASON);
+    }
+
     @Override
     public String toString() {
         return "ModerationResult{" +
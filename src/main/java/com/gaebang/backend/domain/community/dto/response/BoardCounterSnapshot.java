@@ -0,0 +1,17 @@
+package com.gaebang.backend.domain.community.dto.response;
+
+/**
+ * 카운터 재계산용 프로젝션 (board의 카운터 값 + 실제 댓글/좋아요 테이블 기준 개수)
+ */
+public interface BoardCounterSnapshot {
+
+    Long getBoardId();
+
+    Long getStoredCommentCount();
+
+    Long getStoredLikeCount();
+
+    Long getCommentCount();
+
+    Long getLikeCount();
+}
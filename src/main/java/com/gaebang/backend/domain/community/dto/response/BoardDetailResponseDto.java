@@ -22,7 +22,7 @@ public record BoardDetailResponseDto(
         Page<CommentResponseDto> comments   // 댓글 목록(페이징)
 ) {
 
-    public static BoardDetailResponseDto fromEntity(Board board, String displayTime, int writerLevel, Long commentCount, Long likeCount, Page<CommentResponseDto> comments) {
+    public static BoardDetailResponseDto fromEntity(Board board, String displayTime, int writerLevel, Long viewCount, Long commentCount, Long likeCount, Page<CommentResponseDto> comments) {
         return BoardDetailResponseDto.builder()
                 .boardId(board.getId())
                 .title(board.getTitle())
@@ -31,7 +31,7 @@ public record BoardDetailResponseDto(
                 .writerLevel(writerLevel)
                 .imageUrl(board.getImages().stream().map(img -> img.getImageUrl()).toList())
                 .createdDate(displayTime)
-                .viewCount(board.getViewCount())
+                .viewCount(viewCount)
                 .likeCount(likeCount)
                 .content(board.getContent())
                 .comments(comments)
@@ -0,0 +1,11 @@
+package com.gaebang.backend.domain.community.dto.response;
+
+/**
+ * 전문 검색 결과 (게시글 ID + 관련도 점수) 네이티브 쿼리 프로젝션
+ */
+public interface BoardSearchHit {
+
+    Long getBoardId();
+
+    Double getScore();
+}
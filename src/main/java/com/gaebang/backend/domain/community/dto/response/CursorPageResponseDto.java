@@ -0,0 +1,15 @@
+package com.gaebang.backend.domain.community.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CursorPageResponseDto<T>(
+        List<T> content,            // 조회 결과
+        int size,                   // 요청한 페이지 크기
+        boolean hasNext,            // 다음 페이지 존재 여부
+        String nextCursor,          // 다음 페이지 조회용 토큰 (마지막 페이지면 null)
+        Long totalCount             // 전체 개수 (요청 시에만 포함)
+) {
+}
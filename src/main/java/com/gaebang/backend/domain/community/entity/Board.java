@@ -16,10 +16,17 @@ import java.util.List;
 @AllArgsConstructor
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_board_delete_yn_created_at", columnList = "delete_yn, created_at, board_id"),
+        @Index(name = "idx_board_moderation_status_created_at", columnList = "moderation_status, created_at")
+})
 public class Board extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "board_id_generator")
+    @TableGenerator(name = "board_id_generator", table = "id_generator",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "board", allocationSize = 50)
     @Column(name = "board_id")
     private Long id;
 
@@ -40,6 +47,7 @@ public class Board extends BaseTimeEntity {
     private List<BoardReport> boardReports = new ArrayList<>();
 
     @OneToMany(mappedBy = "board")
+    @OrderBy("position ASC, id ASC")
     @Builder.Default
     private List<Image> images = new ArrayList<>();
 
@@ -54,10 +62,23 @@ public class Board extends BaseTimeEntity {
 
     private String category;
 
+    // 목록 조회용 대표 이미지 (첫 번째 이미지 URL)
+    private String thumbnailUrl;
+
     @Builder.Default
     @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 1")
     private Long viewCount = 0L;
 
+    // 댓글 수 (BoardCounterService가 비동기로 반영)
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long commentCount = 0L;
+
+    // 좋아요 수 (BoardCounterService가 비동기로 반영)
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long likeCount = 0L;
+
     @Enumerated(EnumType.STRING)
     @Builder.Default
     @Column(nullable = false)
@@ -71,14 +92,18 @@ public class Board extends BaseTimeEntity {
         this.category = dto.category();
     }
 
-    public void plusviewCount() {
-        this.viewCount++;
-    }
-
     public void softDelete() {
         this.deleteYn = "Y";
     }
 
+    public void changeThumbnailUrl(List<String> imageUrls) {
+        this.thumbnailUrl = (imageUrls == null || imageUrls.isEmpty()) ? null : imageUrls.get(0);
+    }
+
+    public void clearThumbnailUrl() {
+        this.thumbnailUrl = null;
+    }
+
     public void censorContent(String censoredTitle, String censoredContent) {
         this.title = censoredTitle;
         this.content = censoredContent;
@@ -10,7 +10,8 @@ import lombok.*;
 @Builder
 @Getter
 @Entity
-@Table(name = "board_like")
+@Table(name = "board_like",
+        uniqueConstraints = @UniqueConstraint(name = "uk_board_like_board_member", columnNames = {"board_id", "member_id"}))
 public class BoardLike extends BaseTimeEntity {
 
     @Id
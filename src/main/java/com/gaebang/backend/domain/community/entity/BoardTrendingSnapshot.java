@@ -0,0 +1,39 @@
+package com.gaebang.backend.domain.community.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 랭킹 스냅샷 (서버별)
+ * 재시작 시 랭킹 복원을 위해 스냅샷 시점 기준으로 감쇠된 점수를 서버(instance_id)별로 저장
+ * 서버마다 자기 행만 지우고 다시 쓰므로 여러 서버가 서로의 점수를 덮어쓰지 않음
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Builder
+@Entity
+@Table(name = "board_trending_instance_snapshot",
+        uniqueConstraints = @UniqueConstraint(name = "uk_board_trending_instance_board", columnNames = {"instance_id", "board_id"}),
+        indexes = @Index(name = "idx_board_trending_snapshot_at", columnList = "snapshot_at"))
+public class BoardTrendingSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id")
+    private Long id;
+
+    @Column(name = "instance_id", nullable = false, length = 100)
+    private String instanceId;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private Double score;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+}
@@ -14,10 +14,17 @@ import java.util.List;
 @Getter
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_board_created_at", columnList = "board_id, delete_yn, created_at, comment_id"),
+        @Index(name = "idx_comment_moderation_status_created_at", columnList = "moderation_status, created_at")
+})
 public class Comment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id_generator")
+    @TableGenerator(name = "comment_id_generator", table = "id_generator",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "comment", allocationSize = 50)
     @Column(name = "comment_id")
     private Long id;
 
@@ -9,10 +9,14 @@ import lombok.*;
 @Builder
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_image_image_url", columnList = "image_url"))
 public class Image extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "image_id_generator")
+    @TableGenerator(name = "image_id_generator", table = "id_generator",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "image", allocationSize = 50)
     @Column(name = "image_id")
     private Long id;
 
@@ -21,4 +25,12 @@ public class Image extends BaseTimeEntity {
     private Board board;
 
     private String imageUrl;
+
+    // 게시글 내 표시 순서 (0부터, 기존 행은 null이며 ID 순으로 표시)
+    @Column(name = "position")
+    private Integer position;
+
+    public void changePosition(int position) {
+        this.position = position;
+    }
 }
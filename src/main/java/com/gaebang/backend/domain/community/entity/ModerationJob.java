@@ -0,0 +1,66 @@
+package com.gaebang.backend.domain.community.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검열 작업 큐 (DB 기반)
+ * - 게시글/댓글 저장과 같은 트랜잭션에서 등록되어 큐가 가득 차거나 서버가 재시작되어도 작업이 유실되지 않음
+ * - 대상당 한 행만 유지하며, 처리 중 다시 등록되면 revision을 올려 이전 처리 결과가 작업을 지우지 않도록 함
+ * - 실제 등록/점유/완료는 ModerationJobQueue에서 JdbcTemplate으로 처리하고, 엔티티는 스키마 관리용
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Builder
+@Entity
+@Table(name = "moderation_job",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_moderation_job_target", columnNames = {"target_type", "target_id"})
+        },
+        indexes = {
+                @Index(name = "idx_moderation_job_status_available", columnList = "status, available_at")
+        })
+public class ModerationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private ModerationTargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ModerationJobStatus status;
+
+    @Column(nullable = false)
+    private Integer revision;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    // 이 시각 이후에 가져갈 수 있음 (재시도 백오프)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    // 처리 중인 작업의 가시성 제한 시각, 지나면 다른 워커가 다시 가져감
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "enqueued_at", nullable = false)
+    private LocalDateTime enqueuedAt;
+}
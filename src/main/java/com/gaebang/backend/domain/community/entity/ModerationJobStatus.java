@@ -0,0 +1,11 @@
+package com.gaebang.backend.domain.community.entity;
+
+/**
+ * 검열 작업 상태
+ * 완료된 작업은 행을 삭제하므로 상태로 두지 않음
+ */
+public enum ModerationJobStatus {
+    PENDING,     // 처리 대기 (available_at 이후 가져갈 수 있음)
+    PROCESSING,  // 워커가 가져가 처리 중 (locked_until이 지나면 다시 가져갈 수 있음)
+    FAILED       // 재시도 횟수 초과, 관리자 확인 필요
+}
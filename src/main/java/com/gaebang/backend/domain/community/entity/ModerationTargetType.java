@@ -0,0 +1,9 @@
+package com.gaebang.backend.domain.community.entity;
+
+/**
+ * 검열 작업 대상 종류
+ */
+public enum ModerationTargetType {
+    BOARD,
+    COMMENT
+}
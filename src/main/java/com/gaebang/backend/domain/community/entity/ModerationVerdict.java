@@ -0,0 +1,31 @@
+package com.gaebang.backend.domain.community.entity;
+
+import com.gaebang.backend.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 검열 판정 캐시 (컨텐츠 해시 → 판정)
+ * 같은 텍스트/이미지에 대해 LLM 검열을 반복하지 않도록 재시작 후에도 판정을 유지
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Builder
+@Entity
+@Table(name = "moderation_verdict", indexes = {
+        @Index(name = "idx_moderation_verdict_created_at", columnList = "created_at")
+})
+public class ModerationVerdict extends BaseTimeEntity {
+
+    // 종류 접두사(T:/I:) + SHA-256 hex
+    @Id
+    @Column(name = "content_hash", length = 66)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private boolean inappropriate;
+
+    @Column(columnDefinition = "TEXT")
+    private String reason;
+}
@@ -0,0 +1,18 @@
+package com.gaebang.backend.domain.community.event;
+
+/**
+ * 게시글 삭제 이벤트
+ * 트랜잭션 커밋 후 게시판 목록 캐시를 무효화하기 위한 이벤트
+ */
+public class BoardDeletedEvent {
+    
+    private final Long boardId;
+    
+    public BoardDeletedEvent(Long boardId) {
+        this.boardId = boardId;
+    }
+    
+    public Long getBoardId() {
+        return boardId;
+    }
+}
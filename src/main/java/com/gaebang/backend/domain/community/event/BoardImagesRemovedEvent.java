@@ -0,0 +1,26 @@
+package com.gaebang.backend.domain.community.event;
+
+import java.util.List;
+
+/**
+ * 게시글 이미지 제거 이벤트
+ * 트랜잭션 커밋 후 더 이상 참조되지 않는 S3 객체를 삭제하기 위한 이벤트
+ */
+public class BoardImagesRemovedEvent {
+    
+    private final Long boardId;
+    private final List<String> imageUrls;
+    
+    public BoardImagesRemovedEvent(Long boardId, List<String> imageUrls) {
+        this.boardId = boardId;
+        this.imageUrls = List.copyOf(imageUrls);
+    }
+    
+    public Long getBoardId() {
+        return boardId;
+    }
+    
+    public List<String> getImageUrls() {
+        return imageUrls;
+    }
+}
@@ -0,0 +1,24 @@
+package com.gaebang.backend.domain.community.event;
+
+/**
+ * 게시글 좋아요 변경 이벤트
+ * 트랜잭션 커밋 후 게시판 목록 캐시 무효화 및 인기 게시글 점수 반영을 위한 이벤트
+ */
+public class BoardLikeChangedEvent {
+    
+    private final Long boardId;
+    private final boolean liked;
+    
+    public BoardLikeChangedEvent(Long boardId, boolean liked) {
+        this.boardId = boardId;
+        this.liked = liked;
+    }
+    
+    public Long getBoardId() {
+        return boardId;
+    }
+    
+    public boolean isLiked() {
+        return liked;
+    }
+}
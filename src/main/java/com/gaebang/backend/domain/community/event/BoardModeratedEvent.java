@@ -0,0 +1,18 @@
+package com.gaebang.backend.domain.community.event;
+
+/**
+ * 게시글 검열(차단) 이벤트
+ * 트랜잭션 커밋 후 게시판 목록 캐시를 무효화하기 위한 이벤트
+ */
+public class BoardModeratedEvent {
+    
+    private final Long boardId;
+    
+    public BoardModeratedEvent(Long boardId) {
+        this.boardId = boardId;
+    }
+    
+    public Long getBoardId() {
+        return boardId;
+    }
+}
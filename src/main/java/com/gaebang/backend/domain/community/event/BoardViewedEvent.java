@@ -0,0 +1,18 @@
+package com.gaebang.backend.domain.community.event;
+
+/**
+ * 게시글 조회 이벤트
+ * 인기 게시글 랭킹 점수 반영을 위한 이벤트
+ */
+public class BoardViewedEvent {
+    
+    private final Long boardId;
+    
+    public BoardViewedEvent(Long boardId) {
+        this.boardId = boardId;
+    }
+    
+    public Long getBoardId() {
+        return boardId;
+    }
+}
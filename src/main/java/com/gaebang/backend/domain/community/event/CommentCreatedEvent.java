@@ -7,12 +7,18 @@ package com.gaebang.backend.domain.community.event;
 public class CommentCreatedEvent {
     
     private final Long commentId;
+    private final Long boardId;
     
-    public CommentCreatedEvent(Long commentId) {
+    public CommentCreatedEvent(Long commentId, Long boardId) {
         this.commentId = commentId;
+        this.boardId = boardId;
     }
     
     public Long getCommentId() {
         return commentId;
     }
+    
+    public Long getBoardId() {
+        return boardId;
+    }
 }
\ No newline at end of file
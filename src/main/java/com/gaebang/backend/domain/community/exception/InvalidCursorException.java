@@ -0,0 +1,12 @@
+package com.gaebang.backend.domain.community.exception;
+
+import com.gaebang.backend.global.exception.ApplicationException;
+import com.gaebang.backend.global.exception.ErrorCode;
+
+public class InvalidCursorException extends ApplicationException {
+    private static final ErrorCode ERROR_CODE = ErrorCode.INVALID_CURSOR;
+
+    public InvalidCursorException() {
+        super(ERROR_CODE);
+    }
+}
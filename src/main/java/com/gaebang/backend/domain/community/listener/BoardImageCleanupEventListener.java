@@ -0,0 +1,52 @@
+package com.gaebang.backend.domain.community.listener;
+
+import com.gaebang.backend.domain.community.event.BoardImagesRemovedEvent;
+import com.gaebang.backend.domain.community.repository.ImageRepository;
+import com.gaebang.backend.global.util.S3.S3ImageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 게시글에서 제거된 이미지의 S3 객체 정리 리스너
+ * 트랜잭션 커밋 후 비동기로 실행되어 수정 요청 응답 시간에 영향을 주지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardImageCleanupEventListener {
+
+    private final ImageRepository imageRepository;
+    private final S3ImageService s3ImageService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBoardImagesRemoved(BoardImagesRemovedEvent event) {
+        if (event.getImageUrls().isEmpty()) {
+            return;
+        }
+
+        // 그 사이 다시 등록되었거나 다른 게시글에서 사용 중인 이미지는 유지 (image_url 인덱스로 한 번에 조회)
+        Set<String> referencedUrls = new HashSet<>(imageRepository.findImageUrlsIn(event.getImageUrls()));
+        for (String imageUrl : event.getImageUrls()) {
+            if (referencedUrls.contains(imageUrl)) {
+                log.debug("참조 중인 이미지로 S3 삭제 생략 - 게시글 ID: {}, URL: {}", event.getBoardId(), imageUrl);
+                continue;
+            }
+
+            try {
+                s3ImageService.deleteImageFromS3(imageUrl);
+                log.debug("S3 이미지 삭제 완료 - 게시글 ID: {}, URL: {}", event.getBoardId(), imageUrl);
+            } catch (Exception e) {
+                log.error("S3 이미지 삭제 실패 - 게시글 ID: {}, URL: {}, 오류: {}",
+                        event.getBoardId(), imageUrl, e.getMessage());
+            }
+        }
+    }
+}
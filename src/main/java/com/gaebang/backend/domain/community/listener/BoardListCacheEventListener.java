@@ -0,0 +1,68 @@
+package com.gaebang.backend.domain.community.listener;
+
+import com.gaebang.backend.domain.community.event.BoardCreatedEvent;
+import com.gaebang.backend.domain.community.event.BoardDeletedEvent;
+import com.gaebang.backend.domain.community.event.BoardLikeChangedEvent;
+import com.gaebang.backend.domain.community.event.BoardModeratedEvent;
+import com.gaebang.backend.domain.community.event.BoardUpdatedEvent;
+import com.gaebang.backend.domain.community.event.CommentCreatedEvent;
+import com.gaebang.backend.domain.community.event.CommentDeletedEvent;
+import com.gaebang.backend.domain.community.service.BoardListCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시판 목록 캐시 무효화 이벤트 리스너
+ * 트랜잭션 커밋 후 실행되어 커밋 전 데이터가 다시 캐싱되는 것을 방지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardListCacheEventListener {
+
+    private final BoardListCacheService boardListCacheService;
+
+    /**
+     * 새 게시글은 첫 페이지부터 순서를 밀어내므로 전체 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBoardCreated(BoardCreatedEvent event) {
+        boardListCacheService.evictAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBoardUpdated(BoardUpdatedEvent event) {
+        boardListCacheService.evictPagesContaining(event.getBoardId());
+    }
+
+    /**
+     * 삭제된 게시글이 빠지면서 뒤 페이지가 당겨지므로 전체 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBoardDeleted(BoardDeletedEvent event) {
+        boardListCacheService.evictAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBoardModerated(BoardModeratedEvent event) {
+        boardListCacheService.evictPagesContaining(event.getBoardId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBoardLikeChanged(BoardLikeChangedEvent event) {
+        boardListCacheService.evictPagesContaining(event.getBoardId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCommentCreated(CommentCreatedEvent event) {
+        boardListCacheService.evictPagesContaining(event.getBoardId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCommentDeleted(CommentDeletedEvent event) {
+        boardListCacheService.evictPagesContaining(event.getBoardId());
+    }
+}
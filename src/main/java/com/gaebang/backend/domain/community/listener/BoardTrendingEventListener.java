@@ -0,0 +1,50 @@
+package com.gaebang.backend.domain.community.listener;
+
+import com.gaebang.backend.domain.community.event.BoardDeletedEvent;
+import com.gaebang.backend.domain.community.event.BoardLikeChangedEvent;
+import com.gaebang.backend.domain.community.event.BoardViewedEvent;
+import com.gaebang.backend.domain.community.event.CommentCreatedEvent;
+import com.gaebang.backend.domain.community.event.CommentDeletedEvent;
+import com.gaebang.backend.domain.community.service.BoardTrendingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 인기 게시글 랭킹 점수 반영 리스너
+ * 좋아요/댓글/삭제는 트랜잭션 커밋 후에만 반영하여 롤백된 작업이 점수에 남지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardTrendingEventListener {
+
+    private final BoardTrendingService boardTrendingService;
+
+    // 조회는 읽기 전용 트랜잭션이므로 즉시 반영
+    @EventListener
+    public void handleBoardViewed(BoardViewedEvent event) {
+        boardTrendingService.recordView(event.getBoardId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBoardLikeChanged(BoardLikeChangedEvent event) {
+        boardTrendingService.recordLike(event.getBoardId(), event.isLiked());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCommentCreated(CommentCreatedEvent event) {
+        boardTrendingService.recordComment(event.getBoardId(), true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCommentDeleted(CommentDeletedEvent event) {
+        boardTrendingService.recordComment(event.getBoardId(), false);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBoardDeleted(BoardDeletedEvent event) {
+        boardTrendingService.remove(event.getBoardId());
+    }
+}
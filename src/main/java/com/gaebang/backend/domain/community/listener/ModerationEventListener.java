@@ -4,7 +4,8 @@ import com.gaebang.backend.domain.community.event.BoardCreatedEvent;
 import com.gaebang.backend.domain.community.event.BoardUpdatedEvent;
 import com.gaebang.backend.domain.community.event.CommentCreatedEvent;
 import com.gaebang.backend.domain.community.event.CommentUpdatedEvent;
-import com.gaebang.backend.domain.community.service.ModerationService;
+import com.gaebang.backend.domain.community.entity.ModerationTargetType;
+import com.gaebang.backend.domain.community.service.ModerationJobQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,72 +14,59 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * 검열 시스템 이벤트 리스너
- * 트랜잭션 커밋 후 검열을 수행하여 데이터 가시성 문제를 해결
+ * 게시글/댓글 저장 트랜잭션이 커밋되기 직전에 같은 트랜잭션으로 검열 작업(moderation_job)을 등록
+ * - 저장과 작업 등록이 함께 커밋/롤백되므로 작업이 유실되거나 없는 대상을 검열하지 않음
+ * - 실제 검열은 ModerationJobWorker가 커밋된 작업을 가져가 수행
+ * - 작업 등록에 실패하면 예외가 전파되어 저장도 롤백됨 (검열되지 않은 컨텐츠가 남지 않도록)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ModerationEventListener {
     
-    private final ModerationService moderationService;
+    private final ModerationJobQueue moderationJobQueue;
     
     /**
      * 게시글 생성 후 검열 처리
-     * 트랜잭션이 완전히 커밋된 후에 실행되어 "게시글을 찾을 수 없습니다" 오류 방지
+     * 워커는 커밋된 작업만 가져가므로 "게시글을 찾을 수 없습니다" 오류 방지
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleBoardCreated(BoardCreatedEvent event) {
         log.debug("게시글 생성 이벤트 처리 시작: boardId={}", event.getBoardId());
-        try {
-            moderationService.moderateBoardAsync(event.getBoardId());
-            log.debug("게시글 검열 요청 완료: boardId={}", event.getBoardId());
-        } catch (Exception e) {
-            log.error("게시글 검열 처리 중 오류 발생: boardId={}", event.getBoardId(), e);
-        }
+        moderationJobQueue.enqueue(ModerationTargetType.BOARD, event.getBoardId());
+        log.debug("게시글 검열 작업 등록 완료: boardId={}", event.getBoardId());
     }
     
     /**
      * 게시글 수정 후 검열 처리
-     * 트랜잭션이 완전히 커밋된 후에 실행되어 데이터 일관성 보장
+     * 수정과 같은 트랜잭션으로 등록되어 데이터 일관성 보장
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleBoardUpdated(BoardUpdatedEvent event) {
         log.debug("게시글 수정 이벤트 처리 시작: boardId={}", event.getBoardId());
-        try {
-            moderationService.moderateBoardAsync(event.getBoardId());
-            log.debug("게시글 검열 요청 완료: boardId={}", event.getBoardId());
-        } catch (Exception e) {
-            log.error("게시글 검열 처리 중 오류 발생: boardId={}", event.getBoardId(), e);
-        }
+        moderationJobQueue.enqueue(ModerationTargetType.BOARD, event.getBoardId());
+        log.debug("게시글 검열 작업 등록 완료: boardId={}", event.getBoardId());
     }
     
     /**
      * 댓글 생성 후 검열 처리
-     * 트랜잭션이 완전히 커밋된 후에 실행되어 "댓글을 찾을 수 없습니다" 오류 방지
+     * 워커는 커밋된 작업만 가져가므로 "댓글을 찾을 수 없습니다" 오류 방지
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleCommentCreated(CommentCreatedEvent event) {
         log.debug("댓글 생성 이벤트 처리 시작: commentId={}", event.getCommentId());
-        try {
-            moderationService.moderateCommentAsync(event.getCommentId());
-            log.debug("댓글 검열 요청 완료: commentId={}", event.getCommentId());
-        } catch (Exception e) {
-            log.error("댓글 검열 처리 중 오류 발생: commentId={}", event.getCommentId(), e);
-        }
+        moderationJobQueue.enqueue(ModerationTargetType.COMMENT, event.getCommentId());
+        log.debug("댓글 검열 작업 등록 완료: commentId={}", event.getCommentId());
     }
     
     /**
      * 댓글 수정 후 검열 처리
-     * 트랜잭션이 완전히 커밋된 후에 실행되어 데이터 일관성 보장
+     * 수정과 같은 트랜잭션으로 등록되어 데이터 일관성 보장
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleCommentUpdated(CommentUpdatedEvent event) {
         log.debug("댓글 수정 이벤트 처리 시작: commentId={}", event.getCommentId());
-        try {
-            moderationService.moderateCommentAsync(event.getCommentId());
-            log.debug("댓글 검열 요청 완료: commentId={}", event.getCommentId());
-        } catch (Exception e) {
-            log.error("댓글 검열 처리 중 오류 발생: commentId={}", event.getCommentId(), e);
-        }
+        moderationJobQueue.enqueue(ModerationTargetType.COMMENT, event.getCommentId());
+        log.debug("댓글 검열 작업 등록 완료: commentId={}", event.getCommentId());
     }
 }
\ No newline at end of file
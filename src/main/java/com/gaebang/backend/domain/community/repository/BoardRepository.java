@@ -1,14 +1,20 @@
 package com.gaebang.backend.domain.community.repository;
 
+import com.gaebang.backend.domain.community.dto.response.BoardCounterSnapshot;
 import com.gaebang.backend.domain.community.dto.response.BoardListProjectionDto;
+import com.gaebang.backend.domain.community.dto.response.BoardSearchHit;
 import com.gaebang.backend.domain.community.entity.Board;
+import com.gaebang.backend.domain.community.entity.ModerationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
@@ -16,22 +22,17 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     @Query(value = "SELECT new com.gaebang.backend.domain.community.dto.response.BoardListProjectionDto(" +
             "b.id, " +
             "b.title," +
-            "COUNT(distinct c)," +
+            "b.commentCount," +
             "b.member.memberBase.nickname," +
-            "(SELECT img.imageUrl FROM Image img WHERE img.board = b AND img.id = " +
-            "(SELECT MIN(img2.id) FROM Image img2 WHERE img2.board = b))," +
+            "b.thumbnailUrl," +
             "b.createdAt," +
             "b.viewCount, " +
             "b.member.points, " +
-            "COUNT(distinct bl)) FROM Board b " +
-            "LEFT JOIN b.comments c " +
-            "LEFT JOIN b.boardLikes bl " +
+            "b.likeCount) FROM Board b " +
             "WHERE b.deleteYn = 'N' AND (b.title LIKE CONCAT('%', :condition, '%') " +
             "OR b.member.memberBase.nickname LIKE CONCAT('%', :condition, '%') " +
-            "OR b.content LIKE CONCAT('%', :condition, '%')) " +
-            "GROUP BY b",
-            countQuery = "SELECT COUNT(DISTINCT b) FROM Board b " +
-                    "LEFT JOIN b.comments c " +
+            "OR b.content LIKE CONCAT('%', :condition, '%'))",
+            countQuery = "SELECT COUNT(b) FROM Board b " +
                     "WHERE b.deleteYn = 'N' " +
                     "AND (b.title LIKE CONCAT('%', :condition, '%') " +
                     "OR b.member.memberBase.nickname LIKE CONCAT('%', :condition, '%') " +
@@ -41,19 +42,15 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     @Query(value = "SELECT new com.gaebang.backend.domain.community.dto.response.BoardListProjectionDto(" +
             "b.id, " +
             "b.title," +
-            "COUNT(distinct c)," +
+            "b.commentCount," +
             "b.member.memberBase.nickname," +
-            "(SELECT img.imageUrl FROM Image img WHERE img.board = b AND img.id = " +
-            "(SELECT MIN(img2.id) FROM Image img2 WHERE img2.board = b))," +
+            "b.thumbnailUrl," +
             "b.createdAt," +
             "b.viewCount, " +
             "b.member.points, " +
-            "COUNT(distinct bl)) FROM Board b " +
-            "LEFT JOIN b.comments c " +
-            "LEFT JOIN b.boardLikes bl " +
-            "WHERE b.deleteYn = 'N' AND b.member.memberBase.nickname like CONCAT('%', :writer, '%') " +
-            "GROUP BY b",
-            countQuery = "SELECT COUNT(DISTINCT b) FROM Board b " +
+            "b.likeCount) FROM Board b " +
+            "WHERE b.deleteYn = 'N' AND b.member.memberBase.nickname like CONCAT('%', :writer, '%')",
+            countQuery = "SELECT COUNT(b) FROM Board b " +
                     "WHERE b.deleteYn = 'N' AND b.member.memberBase.nickname LIKE CONCAT('%', :writer, '%')")
     Page<BoardListProjectionDto> findByWriter(@Param("writer") String writer, Pageable pageable);
 
@@ -75,22 +72,72 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     @Query(value = "SELECT new com.gaebang.backend.domain.community.dto.response.BoardListProjectionDto(" +
             "b.id, " +
             "b.title," +
-            "COUNT(distinct c)," +
+            "b.commentCount," +
             "b.member.memberBase.nickname," +
-            "(SELECT img.imageUrl FROM Image img WHERE img.board = b AND img.id = " +
-            "(SELECT MIN(img2.id) FROM Image img2 WHERE img2.board = b))," +
+            "b.thumbnailUrl," +
             "b.createdAt," +
             "b.viewCount, " +
             "b.member.points, " +
-            "COUNT(distinct bl)) FROM Board b " +
-            "LEFT JOIN b.comments c " +
-            "LEFT JOIN b.boardLikes bl " +
-            "WHERE b.deleteYn = 'N' " +
-            "GROUP BY b",
-            countQuery = "SELECT COUNT(DISTINCT b) FROM Board b " +
+            "b.likeCount) FROM Board b " +
+            "WHERE b.deleteYn = 'N'",
+            countQuery = "SELECT COUNT(b) FROM Board b " +
                     "WHERE b.deleteYn = 'N'")
     Page<BoardListProjectionDto> findAllBoardDtos(Pageable pageable);
 
+    // 커서 기반 조회 (createdAt, id 내림차순), 첫 페이지는 커서 파라미터를 null로 전달
+    @Query("SELECT new com.gaebang.backend.domain.community.dto.response.BoardListProjectionDto(" +
+            "b.id, " +
+            "b.title," +
+            "b.commentCount," +
+            "b.member.memberBase.nickname," +
+            "b.thumbnailUrl," +
+            "b.createdAt," +
+            "b.viewCount, " +
+            "b.member.points, " +
+            "b.likeCount) FROM Board b " +
+            "WHERE b.deleteYn = 'N' " +
+            "AND (:cursorCreatedAt IS NULL " +
+            "OR b.createdAt < :cursorCreatedAt " +
+            "OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardListProjectionDto> findBoardDtosByCursor(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Pageable pageable);
+
+    Long countByDeleteYn(String deleteYn);
+
+    // 전문 검색 (FULLTEXT ngram 인덱스, 관련도 내림차순)
+    // 관련도 점수는 문서가 추가/수정되면 바뀌므로 (score, id) 커서 대신 오프셋 페이징 사용
+    @Query(value = "SELECT b.board_id AS boardId, " +
+            "MATCH(b.title, b.content) AGAINST (:keyword IN NATURAL LANGUAGE MODE) AS score " +
+            "FROM board b " +
+            "WHERE b.delete_yn = 'N' " +
+            "AND MATCH(b.title, b.content) AGAINST (:keyword IN NATURAL LANGUAGE MODE) " +
+            "ORDER BY score DESC, b.board_id DESC",
+            countQuery = "SELECT COUNT(*) FROM board b " +
+                    "WHERE b.delete_yn = 'N' " +
+                    "AND MATCH(b.title, b.content) AGAINST (:keyword IN NATURAL LANGUAGE MODE)",
+            nativeQuery = true)
+    Page<BoardSearchHit> searchByFullText(@Param("keyword") String keyword, Pageable pageable);
+
+    // 검색/인기 결과 ID 목록으로 삭제되지 않은 게시글의 목록 DTO 조회 (정렬은 호출 측에서 재배치)
+    @Query("SELECT new com.gaebang.backend.domain.community.dto.response.BoardListProjectionDto(" +
+            "b.id, " +
+            "b.title," +
+            "b.commentCount," +
+            "b.member.memberBase.nickname," +
+            "b.thumbnailUrl," +
+            "b.createdAt," +
+            "b.viewCount, " +
+            "b.member.points, " +
+            "b.likeCount) FROM Board b " +
+            "WHERE b.id IN :boardIds AND b.deleteYn = 'N'")
+    List<BoardListProjectionDto> findBoardDtosByIds(@Param("boardIds") List<Long> boardIds);
+
+    // ID 목록 중 삭제된 게시글 ID 조회 (인기 게시글 랭킹 정리용)
+    @Query("SELECT b.id FROM Board b WHERE b.id IN :boardIds AND b.deleteYn = 'Y'")
+    List<Long> findDeletedIdsIn(@Param("boardIds") List<Long> boardIds);
+
     @Query("SELECT b FROM Board b WHERE b.id = :id AND b.member.id = :memberId AND b.deleteYn = 'N'")
     Optional<Board> findByIdAndMemberId(@Param("id") Long id, @Param("memberId") Long memberId);
 
@@ -100,10 +147,44 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
             "WHERE b.deleteYn = 'N' AND b.id = :boardId")
     Optional<Board> findBoardDetailById(@Param("boardId") Long boardId);
 
-    @Query("SELECT COUNT(b) FROM Board b " +
-            "WHERE b.member.id = :memberId " +
-            "AND b.deleteYn = 'N' " +
-            "AND b.createdAt > :windowStart")
-    int countByMemberIdAndDeleteYnAndCreatedAtAfter(@Param("memberId") Long memberId, 
-                                                   @Param("windowStart") LocalDateTime windowStart);
+    // 댓글 수 증감 반영 (BoardCounterService 플러시용)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Board b SET b.commentCount = b.commentCount + :delta WHERE b.id = :boardId")
+    int addCommentCount(@Param("boardId") Long boardId, @Param("delta") Long delta);
+
+    // 좋아요 수 증감 반영 (BoardCounterService 플러시용)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Board b SET b.likeCount = b.likeCount + :delta WHERE b.id = :boardId")
+    int addLikeCount(@Param("boardId") Long boardId, @Param("delta") Long delta);
+
+    // 카운터와 실제 댓글/좋아요 테이블 기준 개수가 다른 게시글 조회 (정합성 보정용, ID 구간 단위)
+    @Query(value = "SELECT t.boardId, t.storedCommentCount, t.storedLikeCount, t.commentCount, t.likeCount FROM (" +
+            "SELECT b.board_id AS boardId, b.comment_count AS storedCommentCount, b.like_count AS storedLikeCount, " +
+            "(SELECT COUNT(*) FROM comment c WHERE c.board_id = b.board_id AND c.delete_yn = 'N') AS commentCount, " +
+            "(SELECT COUNT(*) FROM board_like bl WHERE bl.board_id = b.board_id) AS likeCount " +
+            "FROM board b WHERE b.board_id > :fromId AND b.board_id <= :toId) t " +
+            "WHERE t.commentCount <> t.storedCommentCount OR t.likeCount <> t.storedLikeCount",
+            nativeQuery = true)
+    List<BoardCounterSnapshot> findCounterMismatches(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT COALESCE(MAX(b.id), 0) FROM Board b")
+    Long findMaxId();
+
+    // 썸네일이 비어있는 게시글에 첫 번째 이미지 URL 채우기 (기존 데이터 보정용)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Board b SET b.thumbnailUrl = " +
+            "(SELECT img.imageUrl FROM Image img WHERE img.id = " +
+            "(SELECT MIN(img2.id) FROM Image img2 WHERE img2.board = b)) " +
+            "WHERE b.thumbnailUrl IS NULL AND b.deleteYn = 'N' " +
+            "AND EXISTS (SELECT img3.id FROM Image img3 WHERE img3.board = b)")
+    int backfillThumbnailUrls();
+
+    // 검열 대기 적체 메트릭용 (대기 건수, 가장 오래된 대기 건의 작성 시각)
+    long countByModerationStatusAndDeleteYn(ModerationStatus moderationStatus, String deleteYn);
+
+    @Query("SELECT MIN(b.createdAt) FROM Board b WHERE b.moderationStatus = :moderationStatus AND b.deleteYn = 'N'")
+    Optional<LocalDateTime> findOldestCreatedAtByModerationStatus(@Param("moderationStatus") ModerationStatus moderationStatus);
 }
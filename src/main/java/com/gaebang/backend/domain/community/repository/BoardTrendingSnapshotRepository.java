@@ -0,0 +1,17 @@
+package com.gaebang.backend.domain.community.repository;
+
+import com.gaebang.backend.domain.community.entity.BoardTrendingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BoardTrendingSnapshotRepository extends JpaRepository<BoardTrendingSnapshot, Long> {
+
+    // since 이후 저장된 스냅샷 중 삭제되지 않은 게시글만 조회 (삭제 이벤트를 놓친 게시글이 복원되지 않도록)
+    @Query("SELECT s FROM BoardTrendingSnapshot s WHERE s.snapshotAt >= :since " +
+            "AND EXISTS (SELECT 1 FROM Board b WHERE b.id = s.boardId AND b.deleteYn = 'N')")
+    List<BoardTrendingSnapshot> findAllOfActiveBoards(@Param("since") LocalDateTime since);
+}
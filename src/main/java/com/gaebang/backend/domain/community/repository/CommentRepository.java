@@ -1,10 +1,15 @@
 package com.gaebang.backend.domain.community.repository;
 
 import com.gaebang.backend.domain.community.entity.Comment;
+import com.gaebang.backend.domain.community.entity.ModerationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -16,4 +21,28 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     Long countByBoardIdAndDeleteYn(Long boardId, String deleteYn);
 
     Optional<Comment> findByIdAndMemberIdAndDeleteYn(Long commentId, Long memberId, String deleteYn);
+
+    // 게시글 상세용 댓글 페이지 조회 (작성자 함께 조회, COUNT 쿼리 없음)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member " +
+            "WHERE c.board.id = :boardId AND c.deleteYn = 'N' " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findPageWithMemberByBoardId(@Param("boardId") Long boardId, Pageable pageable);
+
+    // 커서 기반 조회 (createdAt, id 내림차순), 첫 페이지는 커서 파라미터를 null로 전달
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member " +
+            "WHERE c.board.id = :boardId AND c.deleteYn = 'N' " +
+            "AND (:cursorCreatedAt IS NULL " +
+            "OR c.createdAt < :cursorCreatedAt " +
+            "OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findByBoardIdAndCursor(@Param("boardId") Long boardId,
+                                         @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
+
+    // 검열 대기 적체 메트릭용 (대기 건수, 가장 오래된 대기 건의 작성 시각)
+    long countByModerationStatusAndDeleteYn(ModerationStatus moderationStatus, String deleteYn);
+
+    @Query("SELECT MIN(c.createdAt) FROM Comment c WHERE c.moderationStatus = :moderationStatus AND c.deleteYn = 'N'")
+    Optional<LocalDateTime> findOldestCreatedAtByModerationStatus(@Param("moderationStatus") ModerationStatus moderationStatus);
 }
@@ -2,6 +2,9 @@ package com.gaebang.backend.domain.community.repository;
 
 import com.gaebang.backend.domain.community.entity.Image;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +15,13 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
 
     void deleteByBoardId(Long boardId);
 
+    // URL 목록 중 아직 참조 중인 이미지 URL만 한 번에 조회
+    @Query("SELECT DISTINCT i.imageUrl FROM Image i WHERE i.imageUrl IN :imageUrls")
+    List<String> findImageUrlsIn(@Param("imageUrls") List<String> imageUrls);
+
+    // 수정 시 제거된 이미지만 한 번에 삭제
+    @Modifying
+    @Query("DELETE FROM Image i WHERE i.id IN :imageIds")
+    void deleteAllByIdIn(@Param("imageIds") List<Long> imageIds);
+
 }
@@ -0,0 +1,34 @@
+package com.gaebang.backend.domain.community.repository;
+
+import com.gaebang.backend.domain.community.entity.ModerationVerdict;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface ModerationVerdictRepository extends JpaRepository<ModerationVerdict, String> {
+
+    Optional<ModerationVerdict> findByContentHashAndCreatedAtAfter(String contentHash, LocalDateTime createdAt);
+
+    // 판정 저장 (이미 있으면 판정과 저장 시각을 갱신하여 TTL을 다시 시작)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO moderation_verdict (content_hash, inappropriate, reason, created_at, updated_at) " +
+            "VALUES (:contentHash, :inappropriate, :reason, :savedAt, :savedAt) " +
+            "ON DUPLICATE KEY UPDATE inappropriate = VALUES(inappropriate), reason = VALUES(reason), " +
+            "created_at = VALUES(created_at), updated_at = VALUES(updated_at)", nativeQuery = true)
+    int upsert(@Param("contentHash") String contentHash,
+               @Param("inappropriate") boolean inappropriate,
+               @Param("reason") String reason,
+               @Param("savedAt") LocalDateTime savedAt);
+
+    // 만료된 판정 정리
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ModerationVerdict v WHERE v.createdAt < :expiredAt")
+    int deleteExpired(@Param("expiredAt") LocalDateTime expiredAt);
+}
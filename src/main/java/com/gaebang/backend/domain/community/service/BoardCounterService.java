@@ -0,0 +1,209 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.dto.response.BoardCounterSnapshot;
+import com.gaebang.backend.domain.community.repository.BoardRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+
+/**
+ * 게시글 댓글/좋아요 카운터 집계 서비스
+ * - 댓글/좋아요 변경분을 메모리에 모아두었다가 주기적으로 board 테이블에 일괄 반영 (write-behind)
+ * - 트랜잭션 커밋 이후에만 변경분을 적재하여 롤백된 작업은 반영되지 않음
+ * - 주기적으로 실제 테이블 기준 재계산을 수행하여 누락/중복을 보정
+ *   재계산은 ID 구간 단위로, 커밋 ~ 변경분 적재 사이의 트랜잭션이 없는 시점에
+ *   구간의 미반영 변경분을 버리고 실제 개수를 읽은 뒤, 다른 게시글만 차이만큼 보정
+ *   (커밋 직전 읽기 잠금을 잡고 변경분 적재 후 해제, 재계산 조회는 쓰기 잠금)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BoardCounterService {
+
+    private final BoardRepository boardRepository;
+
+    private final Map<Long, Long> pendingCommentDeltas = new ConcurrentHashMap<>();
+    private final Map<Long, Long> pendingLikeDeltas = new ConcurrentHashMap<>();
+
+    // 읽기: 커밋 ~ 변경분 적재 구간, 쓰기: 재계산 조회 구간
+    // 쓰기 잠금 안에서는 DB 잠금을 기다리는 작업을 하지 않음 (커밋 대기 중인 트랜잭션이 행 잠금을 쥐고 있음)
+    private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+    // 플러시가 꺼낸 변경분을 반영하기 전에 재계산이 끼어들지 않도록 플러시끼리/재계산과 직렬화
+    private final Object flushMonitor = new Object();
+
+    @Value("${board.counter.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    @Value("${board.counter.reconcile-chunk-size:1000}")
+    private long reconcileChunkSize;
+
+    public void increaseCommentCount(Long boardId) {
+        recordAfterCommit(pendingCommentDeltas, boardId, 1L);
+    }
+
+    public void decreaseCommentCount(Long boardId) {
+        recordAfterCommit(pendingCommentDeltas, boardId, -1L);
+    }
+
+    public void increaseLikeCount(Long boardId) {
+        recordAfterCommit(pendingLikeDeltas, boardId, 1L);
+    }
+
+    public void decreaseLikeCount(Long boardId) {
+        recordAfterCommit(pendingLikeDeltas, boardId, -1L);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 댓글 수 변경분
+     */
+    public long getPendingCommentDelta(Long boardId) {
+        return pendingCommentDeltas.getOrDefault(boardId, 0L);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 수 변경분
+     */
+    public long getPendingLikeDelta(Long boardId) {
+        return pendingLikeDeltas.getOrDefault(boardId, 0L);
+    }
+
+    /**
+     * 누적된 변경분을 board 테이블에 반영
+     */
+    @Scheduled(fixedDelayString = "${board.counter.flush-interval-ms:5000}")
+    public void flush() {
+        synchronized (flushMonitor) {
+            flushDeltas(pendingCommentDeltas, boardRepository::addCommentCount, "댓글");
+            flushDeltas(pendingLikeDeltas, boardRepository::addLikeCount, "좋아요");
+        }
+    }
+
+    /**
+     * 실제 댓글/좋아요 테이블 기준으로 카운터 재계산
+     * 조회 시점까지 커밋된 변경분은 모두 적재되어 있고 실제 개수에 이미 포함되므로 버리고,
+     * 이후 커밋된 변경분은 새 엔트리로 쌓여 보정한 값 위에 더해짐 (이중 집계/누락 없음)
+     * 값이 다른 게시글만 갱신하므로 정합성이 맞으면 쓰기가 발생하지 않음
+     */
+    @Scheduled(cron = "${board.counter.reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        try {
+            long maxId = boardRepository.findMaxId();
+            int updated = 0;
+            for (long fromId = 0; fromId < maxId; fromId += reconcileChunkSize) {
+                updated += reconcileChunk(fromId, Math.min(fromId + reconcileChunkSize, maxId));
+            }
+            log.info("게시글 카운터 재계산 완료 - 보정된 게시글 수: {}", updated);
+        } catch (Exception e) {
+            log.error("게시글 카운터 재계산 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 카운터 컬럼이 추가되기 전 게시글 보정 (값이 맞는 게시글은 갱신하지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("애플리케이션 종료 전 게시글 카운터 반영");
+        flush();
+    }
+
+    private int reconcileChunk(long fromId, long toId) {
+        synchronized (flushMonitor) {
+            List<BoardCounterSnapshot> mismatches;
+            commitLock.writeLock().lock();
+            try {
+                pendingCommentDeltas.keySet().removeIf(boardId -> boardId > fromId && boardId <= toId);
+                pendingLikeDeltas.keySet().removeIf(boardId -> boardId > fromId && boardId <= toId);
+                mismatches = boardRepository.findCounterMismatches(fromId, toId);
+            } finally {
+                commitLock.writeLock().unlock();
+            }
+
+            // 덮어쓰지 않고 조회 시점 대비 차이만 더함 (그 사이 다른 서버가 반영한 변경분 보존)
+            for (BoardCounterSnapshot snapshot : mismatches) {
+                long commentDiff = snapshot.getCommentCount() - snapshot.getStoredCommentCount();
+                long likeDiff = snapshot.getLikeCount() - snapshot.getStoredLikeCount();
+                if (commentDiff != 0) {
+                    boardRepository.addCommentCount(snapshot.getBoardId(), commentDiff);
+                }
+                if (likeDiff != 0) {
+                    boardRepository.addLikeCount(snapshot.getBoardId(), likeDiff);
+                }
+            }
+            return mismatches.size();
+        }
+    }
+
+    private void recordAfterCommit(Map<Long, Long> deltas, Long boardId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitLock.readLock().lock();
+            try {
+                deltas.merge(boardId, delta, Long::sum);
+            } finally {
+                commitLock.readLock().unlock();
+            }
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // 커밋부터 변경분 적재까지 재계산이 끼어들지 않도록 잠금
+                commitLock.readLock().lock();
+                locked = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        deltas.merge(boardId, delta, Long::sum);
+                    }
+                } finally {
+                    if (locked) {
+                        commitLock.readLock().unlock();
+                    }
+                }
+            }
+        });
+    }
+
+    private void flushDeltas(Map<Long, Long> deltas, BiFunction<Long, Long, Integer> updater, String counterName) {
+        for (Long boardId : deltas.keySet()) {
+            // remove는 원자적으로 동작하므로 이후 들어오는 변경분은 새 엔트리로 쌓임
+            Long delta = deltas.remove(boardId);
+            if (delta == null || delta == 0L) {
+                continue;
+            }
+
+            try {
+                updater.apply(boardId, delta);
+            } catch (Exception e) {
+                log.error("{} 카운터 반영 실패 - 게시글 ID: {}, 변경분: {}, 오류: {}",
+                        counterName, boardId, delta, e.getMessage());
+                // 실패한 변경분은 다음 플러시에서 재시도
+                deltas.merge(boardId, delta, Long::sum);
+            }
+        }
+    }
+}
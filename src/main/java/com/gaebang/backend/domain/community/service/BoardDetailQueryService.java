@@ -0,0 +1,80 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.dto.response.BoardDetailResponseDto;
+import com.gaebang.backend.domain.community.dto.response.CommentResponseDto;
+import com.gaebang.backend.domain.community.entity.Board;
+import com.gaebang.backend.domain.community.entity.Comment;
+import com.gaebang.backend.domain.community.event.BoardViewedEvent;
+import com.gaebang.backend.domain.community.exception.BoardNotFoundException;
+import com.gaebang.backend.domain.community.repository.BoardRepository;
+import com.gaebang.backend.domain.community.repository.CommentRepository;
+import com.gaebang.backend.domain.community.util.TimeUtil;
+import com.gaebang.backend.domain.pointTier.service.PointTierLookupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 게시글 상세 조회 전용 읽기 모델
+ * - 게시글(작성자, 이미지 포함) 1회 + 댓글 페이지(작성자 포함) 1회, 총 2회의 쿼리로 상세 화면 구성
+ * - 댓글/좋아요 수는 비정규화 컬럼 + 미반영 변경분, 등급은 메모리 인덱스로 계산
+ * - 댓글 페이지의 전체 개수도 카운터를 사용하여 별도 COUNT 쿼리를 생략
+ */
+@RequiredArgsConstructor
+@Service
+public class BoardDetailQueryService {
+
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final BoardCounterService boardCounterService;
+    private final BoardViewCountService boardViewCountService;
+    private final PointTierLookupService pointTierLookupService;
+    private final TimeUtil timeUtil;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public BoardDetailResponseDto getBoardDetail(Long boardId, Pageable commentPageable) {
+        Board findBoard = boardRepository.findBoardDetailById(boardId)
+                .orElseThrow(BoardNotFoundException::new);
+
+        // 조회수는 메모리에 누적 후 주기적으로 일괄 반영
+        boardViewCountService.increaseViewCount(boardId);
+        Long viewCount = findBoard.getViewCount() + boardViewCountService.getPendingViewCount(boardId);
+        eventPublisher.publishEvent(new BoardViewedEvent(boardId));
+
+        Long commentCount = findBoard.getCommentCount() + boardCounterService.getPendingCommentDelta(boardId);
+        Long likeCount = findBoard.getLikeCount() + boardCounterService.getPendingLikeDelta(boardId);
+
+        int writerLevel = pointTierLookupService.getTierOrder(findBoard.getMember().getPoints());
+        String displayTime = timeUtil.getDisplayTime(findBoard.getCreatedAt());
+
+        Page<CommentResponseDto> comments = getCommentPage(boardId, commentPageable, commentCount);
+
+        return BoardDetailResponseDto.fromEntity(findBoard, displayTime, writerLevel, viewCount,
+                commentCount, likeCount, comments);
+    }
+
+    private Page<CommentResponseDto> getCommentPage(Long boardId, Pageable commentPageable, Long commentCount) {
+        Pageable pageable = PageRequest.of(commentPageable.getPageNumber(), commentPageable.getPageSize());
+
+        List<CommentResponseDto> content = commentRepository.findPageWithMemberByBoardId(boardId, pageable).stream()
+                .map(this::toCommentResponseDto)
+                .toList();
+
+        // 카운터가 아직 반영 전이라 실제 조회 건수보다 작으면 조회 건수 기준으로 보정
+        long total = Math.max(commentCount, pageable.getOffset() + content.size());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private CommentResponseDto toCommentResponseDto(Comment comment) {
+        return CommentResponseDto.fromEntity(comment,
+                pointTierLookupService.getTierOrder(comment.getMember().getPoints()));
+    }
+}
@@ -0,0 +1,55 @@
+package com.gaebang.backend.domain.community.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 전문 검색용 FULLTEXT(ngram) 인덱스 생성
+ * 스키마는 ddl-auto로 관리되므로 테이블 생성 이후(기동 완료 시점)에 인덱스 존재 여부를 확인하고 없으면 생성
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BoardFullTextIndexInitializer {
+
+    private static final String FULLTEXT_INDEX_NAME = "ft_board_title_content";
+
+    private static final String EXISTS_INDEX_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = 'board' AND index_name = ?";
+
+    // ngram 파서는 공백 없는 한국어도 n글자 단위로 토큰화
+    private static final String CREATE_INDEX_SQL =
+            "ALTER TABLE board ADD FULLTEXT INDEX " + FULLTEXT_INDEX_NAME + " (title, content) WITH PARSER ngram";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${board.search.fulltext.auto-create-index:true}")
+    private boolean autoCreateIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createFullTextIndexIfAbsent() {
+        if (!autoCreateIndex) {
+            return;
+        }
+
+        try {
+            Integer count = jdbcTemplate.queryForObject(EXISTS_INDEX_SQL, Integer.class, FULLTEXT_INDEX_NAME);
+            if (count != null && count > 0) {
+                log.debug("게시글 전문 검색 인덱스가 이미 존재합니다 - {}", FULLTEXT_INDEX_NAME);
+                return;
+            }
+
+            log.info("게시글 전문 검색 인덱스 생성 시작 - {}", FULLTEXT_INDEX_NAME);
+            jdbcTemplate.execute(CREATE_INDEX_SQL);
+            log.info("게시글 전문 검색 인덱스 생성 완료 - {}", FULLTEXT_INDEX_NAME);
+        } catch (Exception e) {
+            log.error("게시글 전문 검색 인덱스 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.entity.Board;
+import com.gaebang.backend.domain.community.entity.Image;
+import com.gaebang.backend.domain.community.event.BoardImagesRemovedEvent;
+import com.gaebang.backend.domain.community.repository.ImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 이미지 저장/동기화 서비스
+ * - 수정 시 기존/신규 URL 목록을 비교하여 바뀐 이미지만 추가/삭제
+ * - 요청 목록의 순서를 position으로 저장하여 수정 시 순서 변경도 반영 (첫 이미지 = 썸네일)
+ * - 삭제는 한 번의 IN 조건 DELETE, 추가는 saveAll로 일괄 처리
+ * - 더 이상 참조되지 않는 S3 객체는 커밋 후 비동기로 삭제되도록 이벤트 발행
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BoardImageService {
+
+    private final ImageRepository imageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void saveImages(Board board, List<String> imageUrls) {
+        if (imageUrls == null || imageUrls.isEmpty()) {
+            return;
+        }
+        imageRepository.saveAll(toImages(board, new ArrayList<>(new LinkedHashSet<>(imageUrls))));
+    }
+
+    @Transactional
+    public void reconcileImages(Board board, List<String> imageUrls) {
+        List<String> newUrls = imageUrls == null ? List.of() : new ArrayList<>(new LinkedHashSet<>(imageUrls));
+        Map<String, Integer> positionByUrl = new HashMap<>();
+        for (int i = 0; i < newUrls.size(); i++) {
+            positionByUrl.put(newUrls.get(i), i);
+        }
+        List<Image> currentImages = imageRepository.findByBoardId(board.getId());
+
+        List<Long> removedImageIds = new ArrayList<>();
+        List<String> removedUrls = new ArrayList<>();
+        Set<String> keptUrls = new LinkedHashSet<>();
+        int reordered = 0;
+        for (Image image : currentImages) {
+            // 목록에 남아있는 URL은 한 번만 유지 (중복 행은 정리), 순서가 바뀌었으면 position만 갱신
+            Integer position = positionByUrl.get(image.getImageUrl());
+            if (position != null && keptUrls.add(image.getImageUrl())) {
+                if (!position.equals(image.getPosition())) {
+                    image.changePosition(position);
+                    reordered++;
+                }
+                continue;
+            }
+            removedImageIds.add(image.getId());
+            if (position == null) {
+                removedUrls.add(image.getImageUrl());
+            }
+        }
+
+        List<String> addedUrls = newUrls.stream()
+                .filter(url -> !keptUrls.contains(url))
+                .toList();
+
+        if (removedImageIds.isEmpty() && addedUrls.isEmpty() && reordered == 0) {
+            return;
+        }
+
+        if (!removedImageIds.isEmpty()) {
+            imageRepository.deleteAllByIdIn(removedImageIds);
+        }
+        if (!addedUrls.isEmpty()) {
+            imageRepository.saveAll(addedUrls.stream()
+                    .map(url -> toImage(board, url, positionByUrl.get(url)))
+                    .toList());
+        }
+
+        if (!removedUrls.isEmpty()) {
+            // 트랜잭션 커밋 후 S3 객체 삭제를 위한 이벤트 발행
+            eventPublisher.publishEvent(new BoardImagesRemovedEvent(board.getId(), removedUrls));
+        }
+
+        log.debug("게시글 이미지 동기화 - ID: {}, 추가: {}, 삭제: {}, 순서 변경: {}",
+                board.getId(), addedUrls.size(), removedImageIds.size(), reordered);
+    }
+
+    private List<Image> toImages(Board board, List<String> imageUrls) {
+        List<Image> images = new ArrayList<>(imageUrls.size());
+        for (int i = 0; i < imageUrls.size(); i++) {
+            images.add(toImage(board, imageUrls.get(i), i));
+        }
+        return images;
+    }
+
+    private Image toImage(Board board, String imageUrl, int position) {
+        return Image.builder()
+                .imageUrl(imageUrl)
+                .board(board)
+                .position(position)
+                .build();
+    }
+}
@@ -1,67 +1,89 @@
 package com.gaebang.backend.domain.community.service;
 
 import com.gaebang.backend.domain.community.dto.response.BoardLikeResponseDto;
-import com.gaebang.backend.domain.community.entity.Board;
-import com.gaebang.backend.domain.community.entity.BoardLike;
+import com.gaebang.backend.domain.community.event.BoardLikeChangedEvent;
 import com.gaebang.backend.domain.community.exception.BoardNotFoundException;
-import com.gaebang.backend.domain.community.repository.BoardLikeRepository;
-import com.gaebang.backend.domain.community.repository.BoardRepository;
 import com.gaebang.backend.domain.member.entity.Member;
+import com.gaebang.backend.global.ratelimit.RateLimit;
 import com.gaebang.backend.global.springsecurity.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Optional;
+import java.sql.Timestamp;
+import java.util.List;
 
-@Transactional
+/**
+ * 게시글 좋아요 토글
+ * - board_like의 (board_id, member_id) 유니크 키를 기준으로 DB에서 원자적으로 토글
+ *   INSERT IGNORE가 행을 추가하면 좋아요, 이미 있으면 DELETE로 취소 (엔티티 조회/COUNT 없음)
+ * - 좋아요 수 변경분은 같은 트랜잭션에서 BoardCounterService에 등록하여 커밋 후 반영 (재계산과 정합성 유지)
+ * - 동시 요청이 먼저 취소해 실제로 바뀐 행이 없으면 좋아요 수와 인기 점수를 건드리지 않음
+ */
 @RequiredArgsConstructor
 @Service
 public class BoardLikeService {
 
-    private final BoardLikeRepository boardLikeRepository;
-    private final BoardRepository boardRepository;
+    private static final String SELECT_LIKE_COUNT_SQL =
+            "SELECT like_count FROM board WHERE board_id = ? AND delete_yn = 'N'";
+    private static final String INSERT_LIKE_SQL =
+            "INSERT IGNORE INTO board_like (board_id, member_id, created_at, updated_at) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_LIKE_SQL =
+            "DELETE FROM board_like WHERE board_id = ? AND member_id = ?";
 
-    // 게시글 좋아요(토글)
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardCounterService boardCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 게시글 좋아요(토글), 유니크 키 기준으로 DB에서 원자적으로 토글하고 좋아요 수 변경분은 커밋 후 반영
+    @RateLimit("like")
     public BoardLikeResponseDto togglePostLike(Long boardId, PrincipalDetails principalDetails) {
         Member loginMember = principalDetails.getMember();
-        Board findBoard = boardRepository.findById(boardId)
-                .orElseThrow(BoardNotFoundException::new);
-
-        Optional<BoardLike> findBoardLike = boardLikeRepository.findByBoardIdAndMemberId(boardId, loginMember.getId());
 
-        if (findBoardLike.isPresent()) {
-            return removeBoardLike(boardId, findBoardLike.get());
-        } else {
-            return addBoardLike(boardId, loginMember, findBoard);
+        ToggleOutcome outcome = toggle(boardId, loginMember.getId());
+        if (outcome.changed()) {
+            eventPublisher.publishEvent(new BoardLikeChangedEvent(boardId, outcome.liked()));
         }
-    }
 
-    private BoardLikeResponseDto removeBoardLike(Long boardId, BoardLike findBoardLike) {
-        boardLikeRepository.delete(findBoardLike);
-        Long boardLikeCount = boardLikeRepository.countByBoardId(boardId);
+        // 커밋 후 변경분이 적재되었으므로 저장된 값 + 미반영 변경분이 현재 좋아요 수
+        long likeCount = Math.max(outcome.storedLikeCount() + boardCounterService.getPendingLikeDelta(boardId), 0);
 
         return BoardLikeResponseDto.builder()
-                .liked(false)
-                .likeCount(boardLikeCount)
-                .message("좋아요를 제거했습니다.")
+                .liked(outcome.liked())
+                .likeCount(likeCount)
+                .message(outcome.liked() ? "좋아요를 추가했습니다." : "좋아요를 제거했습니다.")
                 .build();
     }
 
-    private BoardLikeResponseDto addBoardLike(Long boardId, Member loginMember, Board findBoard) {
-        BoardLike createBoardLike = BoardLike.builder()
-                .member(loginMember)
-                .board(findBoard)
-                .build();
+    private ToggleOutcome toggle(Long boardId, Long memberId) {
+        return transactionTemplate.execute(status -> {
+            List<Long> likeCounts = jdbcTemplate.queryForList(SELECT_LIKE_COUNT_SQL, Long.class, boardId);
+            if (likeCounts.isEmpty()) {
+                throw new BoardNotFoundException();
+            }
 
-        boardLikeRepository.save(createBoardLike);
-        Long boardLikeCount = boardLikeRepository.countByBoardId(boardId);
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            if (jdbcTemplate.update(INSERT_LIKE_SQL, boardId, memberId, now, now) > 0) {
+                boardCounterService.increaseLikeCount(boardId);
+                return new ToggleOutcome(true, true, likeCounts.get(0));
+            }
 
-        return BoardLikeResponseDto.builder()
-                .liked(true)
-                .likeCount(boardLikeCount)
-                .message("좋아요를 추가했습니다.")
-                .build();
+            // 다른 요청이 먼저 취소한 경우에는 바뀐 것이 없으므로 개수를 줄이지 않음
+            boolean deleted = jdbcTemplate.update(DELETE_LIKE_SQL, boardId, memberId) > 0;
+            if (deleted) {
+                boardCounterService.decreaseLikeCount(boardId);
+            }
+            return new ToggleOutcome(false, deleted, likeCounts.get(0));
+        });
     }
 
+    /**
+     * @param liked 토글 후 좋아요 상태
+     * @param changed 이 요청으로 board_like 행이 실제로 추가/삭제되었는지
+     */
+    private record ToggleOutcome(boolean liked, boolean changed, long storedLikeCount) {
+    }
 }
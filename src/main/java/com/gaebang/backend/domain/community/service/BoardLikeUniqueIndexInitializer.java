@@ -0,0 +1,57 @@
+package com.gaebang.backend.domain.community.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 좋아요 (board_id, member_id) 유니크 키 보정
+ * - 유니크 제약이 추가되기 전에 쌓인 중복 좋아요가 있으면 ddl-auto가 키를 만들지 못하므로 기동 시 직접 맞춰둠
+ * - 키가 없을 때만 (게시글, 회원)별로 가장 먼저 저장된 행(최소 ID)만 남기고 중복 행을 삭제한 뒤 키를 생성
+ * - 좋아요 수 카운터는 기동 시 재계산(BoardCounterService)에서 보정됨
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BoardLikeUniqueIndexInitializer implements SmartInitializingSingleton {
+
+    // BoardLike 엔티티의 @UniqueConstraint 이름과 같아야 함
+    private static final String INDEX_NAME = "uk_board_like_board_member";
+
+    private static final String INDEX_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = 'board_like' AND index_name = ?";
+    private static final String DELETE_DUPLICATES_SQL =
+            "DELETE t1 FROM board_like t1 JOIN board_like t2 " +
+            "ON t1.board_id = t2.board_id AND t1.member_id = t2.member_id AND t1.board_like_id > t2.board_like_id";
+    private static final String ADD_INDEX_SQL =
+            "ALTER TABLE board_like ADD CONSTRAINT " + INDEX_NAME + " UNIQUE (board_id, member_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${board.like.unique-index.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Integer exists = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Integer.class, INDEX_NAME);
+            if (exists != null && exists > 0) {
+                return;
+            }
+
+            int deleted = jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+            jdbcTemplate.execute(ADD_INDEX_SQL);
+            log.info("좋아요 유니크 키 생성 완료 - 삭제한 중복 행: {}", deleted);
+        } catch (Exception e) {
+            log.error("좋아요 유니크 키 보정 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.dto.response.BoardListResponseDto;
+import com.gaebang.backend.global.config.CacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 목록 앞쪽 페이지 캐시
+ * - 기본 정렬의 앞쪽 N개 페이지만 캐싱 (대부분의 트래픽이 첫 페이지에 집중)
+ * - 새 게시글 작성 시 전체 무효화, 그 외 변경은 해당 게시글이 포함된 페이지만 무효화
+ */
+@Slf4j
+@Service
+public class BoardListCacheService {
+
+    private final Cache cache;
+
+    @Value("${board.list-cache.max-pages:3}")
+    private int maxCachedPages;
+
+    public BoardListCacheService(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheConfig.BOARD_LIST_CACHE);
+    }
+
+    public Page<BoardListResponseDto> getOrLoad(Pageable pageable, Supplier<Page<BoardListResponseDto>> loader) {
+        if (!isCacheable(pageable)) {
+            return loader.get();
+        }
+
+        String key = pageable.getPageNumber() + ":" + pageable.getPageSize();
+        return cache.get(key, loader::get);
+    }
+
+    /**
+     * 캐시된 모든 페이지 무효화 (게시글 추가처럼 페이지 구성이 밀리는 경우)
+     */
+    public void evictAll() {
+        cache.clear();
+        log.debug("게시판 목록 캐시 전체 무효화");
+    }
+
+    /**
+     * 해당 게시글이 포함된 페이지만 무효화
+     */
+    @SuppressWarnings("unchecked")
+    public void evictPagesContaining(Long boardId) {
+        if (!(cache instanceof CaffeineCache caffeineCache)) {
+            cache.clear();
+            return;
+        }
+
+        Map<Object, Object> entries = caffeineCache.getNativeCache().asMap();
+        entries.entrySet().removeIf(entry -> ((Page<BoardListResponseDto>) entry.getValue()).getContent().stream()
+                .anyMatch(dto -> dto.boardId().equals(boardId)));
+        log.debug("게시판 목록 캐시 부분 무효화 - 게시글 ID: {}", boardId);
+    }
+
+    private boolean isCacheable(Pageable pageable) {
+        return pageable.getPageNumber() < maxCachedPages && pageable.getSort().isUnsorted();
+    }
+}
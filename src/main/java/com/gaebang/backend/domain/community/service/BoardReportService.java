@@ -9,6 +9,7 @@ import com.gaebang.backend.domain.community.exception.BoardReportNotFoundExcepti
 import com.gaebang.backend.domain.community.exception.DuplicateReportException;
 import com.gaebang.backend.domain.community.repository.BoardReportRepository;
 import com.gaebang.backend.domain.community.repository.BoardRepository;
+import com.gaebang.backend.global.ratelimit.RateLimit;
 import com.gaebang.backend.global.springsecurity.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -26,6 +27,7 @@ public class BoardReportService {
     private final BoardRepository boardRepository;
     private final BoardReportRepository boardReportRepository;
 
+    @RateLimit("report")
     public void createBoardReport(BoardReportRequestDto boardReportRequestDto,
                                   PrincipalDetails principalDetails) {
 
@@ -4,14 +4,13 @@ import com.gaebang.backend.domain.community.dto.reqeust.BoardCreateAndEditReques
 import com.gaebang.backend.domain.community.dto.response.BoardListResponseDto;
 import com.gaebang.backend.domain.community.dto.response.BoardListProjectionDto;
 import com.gaebang.backend.domain.community.dto.response.BoardDetailResponseDto;
-import com.gaebang.backend.domain.community.dto.response.CommentResponseDto;
+import com.gaebang.backend.domain.community.dto.response.BoardSearchHit;
+import com.gaebang.backend.domain.community.dto.response.CursorPageResponseDto;
 import com.gaebang.backend.domain.community.entity.Board;
-import com.gaebang.backend.domain.community.entity.Image;
 import com.gaebang.backend.domain.community.exception.BoardNotFoundException;
-import com.gaebang.backend.domain.community.repository.BoardLikeRepository;
 import com.gaebang.backend.domain.community.repository.BoardRepository;
-import com.gaebang.backend.domain.community.repository.CommentRepository;
 import com.gaebang.backend.domain.community.repository.ImageRepository;
+import com.gaebang.backend.domain.community.util.CursorUtil;
 import com.gaebang.backend.domain.community.util.TimeUtil;
 import com.gaebang.backend.domain.member.entity.Member;
 import com.gaebang.backend.domain.member.repository.MemberRepository;
@@ -21,17 +20,23 @@ import com.gaebang.backend.domain.point.entity.PointType;
 import com.gaebang.backend.domain.point.repository.PointRepository;
 import com.gaebang.backend.domain.point.service.PointService;
 import com.gaebang.backend.domain.community.event.BoardCreatedEvent;
+import com.gaebang.backend.domain.community.event.BoardDeletedEvent;
 import com.gaebang.backend.domain.community.event.BoardUpdatedEvent;
 import com.gaebang.backend.global.springsecurity.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -39,16 +44,22 @@ public class BoardService {
 
     private final BoardRepository boardRepository;
     private final ImageRepository imageRepository;
-    private final CommentRepository commentRepository;
-    private final BoardLikeRepository boardLikeRepository;
-    private final CommentService commentService;
     private final MemberService memberService;
     private final PointService pointService;
     private final TimeUtil timeUtil;
     private final PostRateLimitService postRateLimitService;
     private final ModerationService moderationService;
+    private final BoardCounterService boardCounterService;
+    private final BoardViewCountService boardViewCountService;
+    private final BoardDetailQueryService boardDetailQueryService;
+    private final BoardListCacheService boardListCacheService;
+    private final BoardTrendingService boardTrendingService;
+    private final BoardImageService boardImageService;
     private final ApplicationEventPublisher eventPublisher;
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MIN_FULLTEXT_KEYWORD_LENGTH = 2;
+
     // 검색 조건 있을 시 사용
     @Transactional(readOnly = true)
     public Page<BoardListResponseDto> getBoardByCondition(String condition, Pageable pageable) {
@@ -56,6 +67,56 @@ public class BoardService {
         return transformBoardDtos(getDtos);
     }
 
+    // 전문 검색 (관련도 순, 오프셋 페이징 - 관련도 점수는 문서 변경에 따라 바뀌어 커서로 쓸 수 없음)
+    @Transactional(readOnly = true)
+    public Page<BoardListResponseDto> searchBoardByRelevance(String keyword, Pageable pageable) {
+        // 정렬은 관련도 순으로 고정
+        Pageable pageRequest = PageRequest.of(pageable.getPageNumber(),
+                Math.min(Math.max(pageable.getPageSize(), 1), MAX_CURSOR_PAGE_SIZE));
+        String trimmedKeyword = keyword == null ? "" : keyword.trim();
+
+        // ngram 토큰 크기(기본 2)보다 짧은 검색어는 인덱스로 찾을 수 없음
+        if (trimmedKeyword.length() < MIN_FULLTEXT_KEYWORD_LENGTH) {
+            return Page.empty(pageRequest);
+        }
+
+        Page<BoardSearchHit> hits = boardRepository.searchByFullText(trimmedKeyword, pageRequest);
+
+        List<Long> boardIds = hits.getContent().stream().map(BoardSearchHit::getBoardId).toList();
+        Map<Long, BoardListProjectionDto> dtoById = boardIds.isEmpty()
+                ? Map.of()
+                : boardRepository.findBoardDtosByIds(boardIds).stream()
+                        .collect(Collectors.toMap(BoardListProjectionDto::boardId, Function.identity()));
+
+        List<BoardListResponseDto> content = boardIds.stream()
+                .map(dtoById::get)
+                .filter(Objects::nonNull)
+                .map(this::toBoardListResponseDto)
+                .toList();
+
+        return new PageImpl<>(content, pageRequest, hits.getTotalElements());
+    }
+
+    // 인기 게시글 조회 (메모리 랭킹 상위 K개 → ID 목록으로 한 번에 조회)
+    @Transactional(readOnly = true)
+    public List<BoardListResponseDto> getTrendingBoards(int size) {
+        int limit = Math.min(Math.max(size, 1), boardTrendingService.getTopK());
+        List<Long> boardIds = boardTrendingService.getTopBoardIds(limit);
+        if (boardIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, BoardListProjectionDto> dtoById = boardRepository.findBoardDtosByIds(boardIds).stream()
+                .collect(Collectors.toMap(BoardListProjectionDto::boardId, Function.identity()));
+
+        // 랭킹 순서 유지, 그 사이 삭제된 게시글은 조회 쿼리에서 제외됨
+        return boardIds.stream()
+                .map(dtoById::get)
+                .filter(Objects::nonNull)
+                .map(this::toBoardListResponseDto)
+                .toList();
+    }
+
     // 마이페이지 조회 시 사용
     @Transactional(readOnly = true)
     public Page<BoardListResponseDto> getBoardByWriter(String writer, Pageable pageable) {
@@ -70,11 +131,42 @@ public class BoardService {
         return convertPageToList(getDtos);
     }*/
 
-    // 검색 조건 없이 조회
-    @Transactional(readOnly = true)
+    // 검색 조건 없이 조회 (앞쪽 페이지는 캐시에서 응답하므로 트랜잭션 없이 진입)
     public Page<BoardListResponseDto> getBoard(Pageable pageable) {
-        Page<BoardListProjectionDto> getDtos = boardRepository.findAllBoardDtos(pageable);
-        return transformBoardDtos(getDtos);
+        return boardListCacheService.getOrLoad(pageable, () -> {
+            Page<BoardListProjectionDto> getDtos = boardRepository.findAllBoardDtos(pageable);
+            return transformBoardDtos(getDtos);
+        });
+    }
+
+    // 커서 기반 조회 (무한 스크롤용), 전체 개수는 요청 시에만 계산
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<BoardListResponseDto> getBoardByCursor(String cursor, int size, boolean includeCount) {
+        CursorUtil.Cursor decodedCursor = CursorUtil.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<BoardListProjectionDto> getDtos = boardRepository.findBoardDtosByCursor(
+                decodedCursor != null ? decodedCursor.createdAt() : null,
+                decodedCursor != null ? decodedCursor.id() : null,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = getDtos.size() > pageSize;
+        List<BoardListProjectionDto> pageDtos = hasNext ? getDtos.subList(0, pageSize) : getDtos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            BoardListProjectionDto last = pageDtos.get(pageDtos.size() - 1);
+            nextCursor = CursorUtil.encode(last.createdDate(), last.boardId());
+        }
+
+        return CursorPageResponseDto.<BoardListResponseDto>builder()
+                .content(pageDtos.stream().map(this::toBoardListResponseDto).toList())
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalCount(includeCount ? boardRepository.countByDeleteYn("N") : null)
+                .build();
     }
 
     // 게시판 생성
@@ -88,15 +180,9 @@ public class BoardService {
         Board createBoard = BoardCreateAndEditRequestDto.toEntity(loginMember, boardCreateAndEditRequestDto);
         
         List<String> images = boardCreateAndEditRequestDto.imageUrl();
+        createBoard.changeThumbnailUrl(images);
         Board saveBoard = boardRepository.save(createBoard);
-
-        images.forEach(url -> {
-            Image saveImageEntity = Image.builder()
-                    .imageUrl(url)
-                    .board(saveBoard)
-                    .build();
-            imageRepository.save(saveImageEntity);
-        });
+        boardImageService.saveImages(saveBoard, images);
 
         PointRequestDto pointRequestDto = PointRequestDto.builder()
                 .type(PointType.BOARD)
@@ -119,19 +205,10 @@ public class BoardService {
                 .orElseThrow(BoardNotFoundException::new);
         findBoard.updateBoard(boardCreateAndEditRequestDto);
 
-        List<Image> findImages = imageRepository.findByBoardId(findBoard.getId());
-        imageRepository.deleteAll(findImages);
-
+        // 바뀐 이미지만 추가/삭제
         List<String> imageUrls = boardCreateAndEditRequestDto.imageUrl();
-        List<Image> createImages = new ArrayList<>();
-        imageUrls.forEach(url -> {
-            Image saveImageEntity = Image.builder()
-                    .imageUrl(url)
-                    .board(findBoard)
-                    .build();
-            createImages.add(saveImageEntity);
-        });
-        imageRepository.saveAll(createImages);
+        findBoard.changeThumbnailUrl(imageUrls);
+        boardImageService.reconcileImages(findBoard, imageUrls);
         boardRepository.save(findBoard);
         
         // 트랜잭션 커밋 후 검열을 위한 이벤트 발행
@@ -139,22 +216,8 @@ public class BoardService {
     }
 
     // 게시글 상세 조회
-    @Transactional(readOnly = true)
     public BoardDetailResponseDto getBoardDetail(Long boardId, Pageable commentPageable, PrincipalDetails principalDetails) {
-        Board findBoard = boardRepository.findBoardDetailById(boardId)
-                .orElseThrow(BoardNotFoundException::new);
-        findBoard.plusviewCount();
-
-        Member findBoardMember = findBoard.getMember();
-        int memberLevel = memberService.getMemberTierOrder(findBoardMember);
-
-        String displayTime = timeUtil.getDisplayTime(findBoard.getCreatedAt());
-
-        Long commentCount = commentRepository.countByBoardIdAndDeleteYn(boardId, "N");
-        Long likeCount = boardLikeRepository.countByBoardId(boardId);
-        Page<CommentResponseDto> comments = commentService.getCommentsByBoardId(boardId, commentPageable, principalDetails);
-
-        return BoardDetailResponseDto.fromEntity(findBoard, displayTime, memberLevel, commentCount, likeCount, comments);
+        return boardDetailQueryService.getBoardDetail(boardId, commentPageable);
     }
 
     // 게시글 삭제
@@ -166,24 +229,30 @@ public class BoardService {
                 .orElseThrow(BoardNotFoundException::new);
 
         findBoard.softDelete();
+        findBoard.clearThumbnailUrl();
 
         // 연관된 이미지들도 함께 삭제 (CASCADE 설정 고려)
         imageRepository.deleteByBoardId(boardId);
+
+        // 트랜잭션 커밋 후 목록 캐시 무효화를 위한 이벤트 발행
+        eventPublisher.publishEvent(new BoardDeletedEvent(boardId));
     }
 
     private Page<BoardListResponseDto> transformBoardDtos(Page<BoardListProjectionDto> projectionDtos) {
-        return projectionDtos.map(dto ->
-                BoardListResponseDto.builder()
-                        .boardId(dto.boardId())
-                        .title(dto.title())
-                        .commentCount(dto.commentCount())
-                        .writer(dto.writer())
-                        .writerLevel(memberService.getMemberTierOrder(dto.writerPoint()))
-                        .imageUrl(dto.imageUrl())
-                        .createdDate(timeUtil.getDisplayTime(dto.createdDate()))
-                        .viewCount(dto.viewCount())
-                        .likeCount(dto.likeCount())
-                        .build()
-        );
+        return projectionDtos.map(this::toBoardListResponseDto);
+    }
+
+    private BoardListResponseDto toBoardListResponseDto(BoardListProjectionDto dto) {
+        return BoardListResponseDto.builder()
+                .boardId(dto.boardId())
+                .title(dto.title())
+                .commentCount(dto.commentCount() + boardCounterService.getPendingCommentDelta(dto.boardId()))
+                .writer(dto.writer())
+                .writerLevel(memberService.getMemberTierOrder(dto.writerPoint()))
+                .imageUrl(dto.imageUrl())
+                .createdDate(timeUtil.getDisplayTime(dto.createdDate()))
+                .viewCount(dto.viewCount() + boardViewCountService.getPendingViewCount(dto.boardId()))
+                .likeCount(dto.likeCount() + boardCounterService.getPendingLikeDelta(dto.boardId()))
+                .build();
     }
 }
@@ -0,0 +1,40 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 썸네일 컬럼 도입 이전 게시글의 썸네일 일괄 보정
+ * 썸네일이 비어있고 이미지가 있는 게시글만 대상으로 하므로 반복 실행해도 안전
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BoardThumbnailBackfillService {
+
+    private final BoardRepository boardRepository;
+
+    @Value("${board.thumbnail.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            backfill();
+        }
+    }
+
+    public void backfill() {
+        try {
+            int updated = boardRepository.backfillThumbnailUrls();
+            log.info("게시글 썸네일 보정 완료 - 대상 게시글 수: {}", updated);
+        } catch (Exception e) {
+            log.error("게시글 썸네일 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
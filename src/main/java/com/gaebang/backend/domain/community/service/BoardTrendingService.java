@@ -0,0 +1,388 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.entity.BoardTrendingSnapshot;
+import com.gaebang.backend.domain.community.repository.BoardRepository;
+import com.gaebang.backend.domain.community.repository.BoardTrendingSnapshotRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인기 게시글 랭킹 서비스 (시간 감쇠 점수)
+ * - 조회/좋아요/댓글 이벤트마다 가중치를 지수 감쇠 점수로 누적 (SQL 정렬 없이 증분 계산)
+ * - 점수는 기준 시각(referenceTime) 기준으로 정규화하여 저장하므로 시간이 흘러도 순위가 변하지 않아
+ *   이벤트가 발생한 게시글만 갱신하면 됨 (현재 점수 = 저장 점수 × e^(-λ(now - referenceTime)))
+ * - 상위 K개는 정렬된 집합으로 유지하여 조회 시 O(K)로 응답
+ * - 주기적으로 상위 K 재구성, 기준 시각 재설정, 스냅샷 저장을 수행하여 재시작 후에도 랭킹 복원
+ * - 여러 서버에서는 서버마다 자기 트래픽으로 점수를 쌓고 스냅샷도 서버(instance-id)별 행으로 저장
+ *   복원 시 모든 서버의 스냅샷을 합산하되, 다른 서버 몫(peerScores)은 자기 스냅샷에서 빼고 저장하여 중복 합산을 막음
+ *   snapshot-retention-hours보다 오래된 스냅샷(종료된 서버 등)은 복원하지 않고 저장 시 정리
+ * - 삭제 이벤트를 놓친 게시글(다른 서버에서 삭제 등)은 재구성 시 DB 삭제 여부를 확인하여 제외
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BoardTrendingService {
+
+    private static final String DELETE_SNAPSHOT_SQL =
+            "DELETE FROM board_trending_instance_snapshot WHERE instance_id = ? OR snapshot_at < ?";
+    private static final String INSERT_SNAPSHOT_SQL =
+            "INSERT INTO board_trending_instance_snapshot (instance_id, board_id, score, snapshot_at) VALUES (?, ?, ?, ?)";
+
+    // 정규화 배율이 이 지수를 넘으면 기준 시각을 재설정 (e^30 ≈ 1e13, double 정밀도 여유 확보)
+    private static final double REBASE_EXPONENT = 30.0;
+
+    private static final Comparator<RankedBoard> RANK_ORDER = Comparator
+            .comparingDouble(RankedBoard::score)
+            .thenComparing(RankedBoard::boardId);
+
+    private final BoardTrendingSnapshotRepository boardTrendingSnapshotRepository;
+    private final BoardRepository boardRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${board.trending.view-weight:1.0}")
+    private double viewWeight;
+
+    @Value("${board.trending.like-weight:5.0}")
+    private double likeWeight;
+
+    @Value("${board.trending.comment-weight:3.0}")
+    private double commentWeight;
+
+    @Value("${board.trending.half-life-hours:12}")
+    private double halfLifeHours;
+
+    @Value("${board.trending.top-k:100}")
+    private int topK;
+
+    @Value("${board.trending.snapshot-size:1000}")
+    private int snapshotSize;
+
+    @Value("${board.trending.min-score:0.01}")
+    private double minScore;
+
+    // 스냅샷 행을 구분하는 서버 ID (재시작해도 같은 값이어야 자기 스냅샷을 이어받음)
+    @Value("${board.trending.instance-id:${HOSTNAME:local}}")
+    private String instanceId;
+
+    @Value("${board.trending.snapshot-retention-hours:48}")
+    private long snapshotRetentionHours;
+
+    // 게시글별 정규화 점수 (복원한 다른 서버 몫 포함)
+    private final Map<Long, Double> scores = new ConcurrentHashMap<>();
+
+    // 복원 시 더한 다른 서버 스냅샷의 정규화 점수 - 자기 스냅샷 저장 시 제외
+    private final Map<Long, Double> peerScores = new ConcurrentHashMap<>();
+
+    // 점수 갱신은 읽기 락, 기준 시각 재설정은 쓰기 락
+    private final ReadWriteLock rebaseLock = new ReentrantReadWriteLock();
+    private volatile long referenceTimeMillis = System.currentTimeMillis();
+
+    // 상위 K개 (오름차순 정렬, first()가 커트라인)
+    private final Object topKLock = new Object();
+    private final TreeSet<RankedBoard> topKSet = new TreeSet<>(RANK_ORDER);
+    private final Map<Long, Double> topKScores = new ConcurrentHashMap<>();
+    private volatile double topKThreshold = Double.NEGATIVE_INFINITY;
+
+    public void recordView(Long boardId) {
+        addScore(boardId, viewWeight);
+    }
+
+    public void recordLike(Long boardId, boolean liked) {
+        addScore(boardId, liked ? likeWeight : -likeWeight);
+    }
+
+    public void recordComment(Long boardId, boolean created) {
+        addScore(boardId, created ? commentWeight : -commentWeight);
+    }
+
+    /**
+     * 삭제된 게시글은 랭킹에서 제외
+     */
+    public void remove(Long boardId) {
+        scores.remove(boardId);
+        peerScores.remove(boardId);
+        synchronized (topKLock) {
+            Double previous = topKScores.remove(boardId);
+            if (previous != null) {
+                topKSet.remove(new RankedBoard(boardId, previous));
+                updateThreshold();
+            }
+        }
+    }
+
+    /**
+     * 상위 게시글 ID를 점수 내림차순으로 조회
+     */
+    public List<Long> getTopBoardIds(int limit) {
+        List<Long> boardIds = new ArrayList<>(Math.min(limit, topK));
+        synchronized (topKLock) {
+            Iterator<RankedBoard> iterator = topKSet.descendingIterator();
+            while (iterator.hasNext() && boardIds.size() < limit) {
+                RankedBoard rankedBoard = iterator.next();
+                if (rankedBoard.score() > 0) {
+                    boardIds.add(rankedBoard.boardId());
+                }
+            }
+        }
+        return boardIds;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * 상위 K 재구성, 기준 시각 재설정, 스냅샷 저장
+     * 좋아요 취소/댓글 삭제로 점수가 내려간 게시글의 순위도 이때 보정됨
+     */
+    @Scheduled(fixedDelayString = "${board.trending.snapshot-interval-ms:60000}",
+            initialDelayString = "${board.trending.snapshot-interval-ms:60000}")
+    public void compactAndSnapshot() {
+        long now = System.currentTimeMillis();
+        if (decayExponent(now) > REBASE_EXPONENT) {
+            rebase(now);
+        }
+
+        pruneAndRebuildTopK(now);
+        if (removeDeletedBoards()) {
+            pruneAndRebuildTopK(now);
+        }
+        saveSnapshot(now);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSnapshot() {
+        try {
+            long now = System.currentTimeMillis();
+            LocalDateTime since = LocalDateTime.now().minusHours(snapshotRetentionHours);
+            List<BoardTrendingSnapshot> snapshots = boardTrendingSnapshotRepository.findAllOfActiveBoards(since);
+
+            rebaseLock.writeLock().lock();
+            try {
+                referenceTimeMillis = now;
+                for (BoardTrendingSnapshot snapshot : snapshots) {
+                    // 스냅샷 이후 흐른 시간만큼 감쇠시켜 복원
+                    long snapshotMillis = toEpochMillis(snapshot.getSnapshotAt());
+                    double decayed = snapshot.getScore() * Math.exp(-decayRate() * (now - snapshotMillis));
+                    scores.merge(snapshot.getBoardId(), decayed, Double::sum);
+                    if (!instanceId.equals(snapshot.getInstanceId())) {
+                        peerScores.merge(snapshot.getBoardId(), decayed, Double::sum);
+                    }
+                }
+            } finally {
+                rebaseLock.writeLock().unlock();
+            }
+
+            pruneAndRebuildTopK(now);
+            log.info("인기 게시글 랭킹 복원 완료 - 스냅샷 행 수: {}, 다른 서버 몫 게시글 수: {}", snapshots.size(), peerScores.size());
+        } catch (Exception e) {
+            log.error("인기 게시글 랭킹 복원 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        log.info("애플리케이션 종료 전 인기 게시글 랭킹 스냅샷 저장");
+        saveSnapshot(System.currentTimeMillis());
+    }
+
+    /**
+     * 상위 K 중 DB에서 삭제된 게시글을 랭킹에서 제외
+     * @return 제외한 게시글이 있으면 true
+     */
+    private boolean removeDeletedBoards() {
+        List<Long> boardIds = getTopBoardIds(topK);
+        if (boardIds.isEmpty()) {
+            return false;
+        }
+
+        try {
+            List<Long> deletedIds = boardRepository.findDeletedIdsIn(boardIds);
+            deletedIds.forEach(this::remove);
+            if (!deletedIds.isEmpty()) {
+                log.info("삭제된 게시글을 인기 랭킹에서 제외 - {}건", deletedIds.size());
+            }
+            return !deletedIds.isEmpty();
+        } catch (Exception e) {
+            log.error("인기 게시글 삭제 여부 확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void addScore(Long boardId, double weight) {
+        rebaseLock.readLock().lock();
+        try {
+            // 기준 시각 대비 경과 시간만큼 가중치를 키워 저장 (최근 이벤트일수록 큰 값)
+            double normalized = weight * Math.exp(decayExponent(System.currentTimeMillis()));
+            double score = scores.merge(boardId, normalized, Double::sum);
+            offerTopK(boardId, score);
+        } finally {
+            rebaseLock.readLock().unlock();
+        }
+    }
+
+    private void offerTopK(Long boardId, double score) {
+        // 커트라인 미만이고 상위 K에 없는 게시글은 락 없이 종료
+        if (score <= topKThreshold && !topKScores.containsKey(boardId)) {
+            return;
+        }
+
+        synchronized (topKLock) {
+            // 동시 갱신 시 순서가 뒤바뀌지 않도록 락 안에서 최신 점수를 다시 읽음
+            Double latest = scores.get(boardId);
+            if (latest == null) {
+                return;
+            }
+
+            Double previous = topKScores.get(boardId);
+            if (previous != null) {
+                topKSet.remove(new RankedBoard(boardId, previous));
+            } else if (topKSet.size() >= topK && latest <= topKSet.first().score()) {
+                return;
+            }
+
+            topKSet.add(new RankedBoard(boardId, latest));
+            topKScores.put(boardId, latest);
+
+            if (topKSet.size() > topK) {
+                RankedBoard evicted = topKSet.pollFirst();
+                topKScores.remove(evicted.boardId());
+            }
+            updateThreshold();
+        }
+    }
+
+    private void updateThreshold() {
+        topKThreshold = topKSet.size() < topK ? Double.NEGATIVE_INFINITY : topKSet.first().score();
+    }
+
+    /**
+     * 기준 시각을 현재로 옮기고 저장된 점수를 같은 배율로 축소
+     */
+    private void rebase(long now) {
+        rebaseLock.writeLock().lock();
+        try {
+            double factor = Math.exp(-decayExponent(now));
+            scores.replaceAll((boardId, score) -> score * factor);
+            peerScores.replaceAll((boardId, score) -> score * factor);
+            referenceTimeMillis = now;
+            log.debug("인기 게시글 랭킹 기준 시각 재설정");
+        } finally {
+            rebaseLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 감쇠되어 무의미해진 점수를 정리하고 최소 힙으로 상위 K를 다시 계산 (O(N log K))
+     */
+    private void pruneAndRebuildTopK(long now) {
+        rebaseLock.readLock().lock();
+        try {
+            double threshold = minScore * Math.exp(decayExponent(now));
+            scores.values().removeIf(score -> score < threshold);
+            peerScores.keySet().retainAll(scores.keySet());
+
+            PriorityQueue<RankedBoard> heap = selectTop(topK);
+            synchronized (topKLock) {
+                topKSet.clear();
+                topKScores.clear();
+                for (RankedBoard rankedBoard : heap) {
+                    topKSet.add(rankedBoard);
+                    topKScores.put(rankedBoard.boardId(), rankedBoard.score());
+                }
+                updateThreshold();
+            }
+        } finally {
+            rebaseLock.readLock().unlock();
+        }
+    }
+
+    private void saveSnapshot(long now) {
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        rebaseLock.readLock().lock();
+        try {
+            // 스냅샷에는 현재 시각 기준으로 감쇠된 이 서버 몫의 점수만 저장
+            double factor = Math.exp(-decayExponent(now));
+            Timestamp snapshotAt = new Timestamp(now);
+            for (RankedBoard rankedBoard : selectTop(snapshotSize)) {
+                double ownScore = rankedBoard.score() - peerScores.getOrDefault(rankedBoard.boardId(), 0.0);
+                if (ownScore > 0) {
+                    batchArgs.add(new Object[]{instanceId, rankedBoard.boardId(), ownScore * factor, snapshotAt});
+                }
+            }
+        } finally {
+            rebaseLock.readLock().unlock();
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 자기 행과 보관 기간이 지난 행(종료된 서버 등)만 삭제
+                jdbcTemplate.update(DELETE_SNAPSHOT_SQL, instanceId,
+                        new Timestamp(now - snapshotRetentionHours * 60 * 60 * 1000));
+                if (!batchArgs.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_SQL, batchArgs);
+                }
+            });
+            log.debug("인기 게시글 랭킹 스냅샷 저장 완료 - 게시글 수: {}", batchArgs.size());
+        } catch (Exception e) {
+            log.error("인기 게시글 랭킹 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private PriorityQueue<RankedBoard> selectTop(int limit) {
+        PriorityQueue<RankedBoard> heap = new PriorityQueue<>(RANK_ORDER);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            RankedBoard candidate = new RankedBoard(entry.getKey(), entry.getValue());
+            if (heap.size() < limit) {
+                heap.offer(candidate);
+            } else if (RANK_ORDER.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(candidate);
+            }
+        }
+        return heap;
+    }
+
+    private double decayExponent(long now) {
+        return decayRate() * (now - referenceTimeMillis);
+    }
+
+    // λ = ln2 / 반감기(ms)
+    private double decayRate() {
+        return Math.log(2) / (halfLifeHours * 60 * 60 * 1000);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record RankedBoard(Long boardId, double score) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.gaebang.backend.domain.community.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 버퍼링 서비스
+ * - 조회 시 게시글별 LongAdder에만 누적하여 핫 게시글의 행 잠금 경합을 제거
+ * - 주기적으로 누적분을 batch UPDATE(view_count = view_count + ?)로 반영
+ * - 조회 응답은 DB 값 + 미반영 누적분을 합산하여 반환
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BoardViewCountService {
+
+    private static final String INCREASE_VIEW_COUNT_SQL =
+            "UPDATE board SET view_count = view_count + ? WHERE board_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LongAdder> pendingViewCounts = new ConcurrentHashMap<>();
+
+    public void increaseViewCount(Long boardId) {
+        pendingViewCounts.computeIfAbsent(boardId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPendingViewCount(Long boardId) {
+        LongAdder adder = pendingViewCounts.get(boardId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:3000}")
+    public void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pendingViewCounts.entrySet()) {
+            Long boardId = entry.getKey();
+            LongAdder adder = entry.getValue();
+
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                batchArgs.add(new Object[]{delta, boardId});
+                continue;
+            }
+
+            // 누적분이 없는 게시글은 맵에서 정리, 정리 직전에 들어온 조회수는 다시 적재
+            if (pendingViewCounts.remove(boardId, adder)) {
+                long late = adder.sumThenReset();
+                if (late > 0) {
+                    pendingViewCounts.computeIfAbsent(boardId, id -> new LongAdder()).add(late);
+                }
+            }
+        }
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 일부만 반영된 채로 재시도되지 않도록 하나의 트랜잭션으로 처리
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT_SQL, batchArgs));
+            log.debug("조회수 반영 완료 - 게시글 수: {}", batchArgs.size());
+        } catch (Exception e) {
+            log.error("조회수 반영 실패 - 게시글 수: {}, 오류: {}", batchArgs.size(), e.getMessage());
+            // 실패한 누적분은 다음 플러시에서 재시도
+            for (Object[] args : batchArgs) {
+                pendingViewCounts.computeIfAbsent((Long) args[1], id -> new LongAdder()).add((Long) args[0]);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("애플리케이션 종료 전 조회수 반영");
+        flush();
+    }
+}
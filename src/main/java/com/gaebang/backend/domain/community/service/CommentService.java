@@ -2,27 +2,34 @@ package com.gaebang.backend.domain.community.service;
 
 import com.gaebang.backend.domain.community.dto.reqeust.CommentRequestDto;
 import com.gaebang.backend.domain.community.dto.response.CommentResponseDto;
+import com.gaebang.backend.domain.community.dto.response.CursorPageResponseDto;
 import com.gaebang.backend.domain.community.entity.Board;
 import com.gaebang.backend.domain.community.entity.Comment;
 import com.gaebang.backend.domain.community.exception.BoardNotFoundException;
 import com.gaebang.backend.domain.community.exception.CommentNotFoundException;
 import com.gaebang.backend.domain.community.repository.BoardRepository;
 import com.gaebang.backend.domain.community.repository.CommentRepository;
+import com.gaebang.backend.domain.community.util.CursorUtil;
 import com.gaebang.backend.domain.member.entity.Member;
 import com.gaebang.backend.domain.member.service.MemberService;
 import com.gaebang.backend.domain.point.dto.request.PointRequestDto;
 import com.gaebang.backend.domain.point.entity.PointType;
 import com.gaebang.backend.domain.point.service.PointService;
 import com.gaebang.backend.domain.community.event.CommentCreatedEvent;
+import com.gaebang.backend.domain.community.event.CommentDeletedEvent;
 import com.gaebang.backend.domain.community.event.CommentUpdatedEvent;
+import com.gaebang.backend.global.ratelimit.RateLimit;
 import com.gaebang.backend.global.springsecurity.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Transactional
 @RequiredArgsConstructor
 @Service
@@ -33,8 +40,11 @@ public class CommentService {
     private final PointService pointService;
     private final MemberService memberService;
     private final ModerationService moderationService;
+    private final BoardCounterService boardCounterService;
     private final ApplicationEventPublisher eventPublisher;
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     // 게시판에 엮인 댓글 조회
     public Page<CommentResponseDto> getCommentsByBoardId(Long boardId, Pageable pageable, PrincipalDetails principalDetails) {
         Board findBoard = boardRepository.findById(boardId)
@@ -45,6 +55,48 @@ public class CommentService {
                         memberService.getMemberTierOrder(comment.getMember())));
     }
 
+    // 게시판에 엮인 댓글 커서 기반 조회 (무한 스크롤용), 전체 개수는 요청 시에만 포함
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<CommentResponseDto> getCommentsByCursor(Long boardId, String cursor, int size,
+                                                                          boolean includeCount) {
+        CursorUtil.Cursor decodedCursor = CursorUtil.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Comment> comments = commentRepository.findByBoardIdAndCursor(boardId,
+                decodedCursor != null ? decodedCursor.createdAt() : null,
+                decodedCursor != null ? decodedCursor.id() : null,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = comments.size() > pageSize;
+        List<Comment> pageComments = hasNext ? comments.subList(0, pageSize) : comments;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = pageComments.get(pageComments.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        }
+
+        Long totalCount = null;
+        if (includeCount) {
+            // 비정규화된 카운터 기반 근사값 (아직 반영되지 않은 변경분 포함)
+            Board findBoard = boardRepository.findById(boardId)
+                    .orElseThrow(BoardNotFoundException::new);
+            totalCount = findBoard.getCommentCount() + boardCounterService.getPendingCommentDelta(boardId);
+        }
+
+        return CursorPageResponseDto.<CommentResponseDto>builder()
+                .content(pageComments.stream()
+                        .map(comment -> CommentResponseDto.fromEntity(comment,
+                                memberService.getMemberTierOrder(comment.getMember())))
+                        .toList())
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalCount(totalCount)
+                .build();
+    }
+
     // 댓글 수정
     public void editComment(Long commentId, CommentRequestDto commentRequestDto, PrincipalDetails principalDetails) {
         Long findMemberId = principalDetails.getMember().getId();
@@ -59,14 +111,19 @@ public class CommentService {
     }
 
     // 댓글 생성
+    @RateLimit("comment")
     public void createComment(CommentRequestDto commentRequestDto, PrincipalDetails principalDetails) {
         Member loginMember = principalDetails.getMember();
+
+        // 삭제된 게시글에는 댓글을 달 수 없음 (인기 점수도 다시 생기지 않도록)
         Board findBoard = boardRepository.findById(commentRequestDto.boardId())
+                .filter(board -> "N".equals(board.getDeleteYn()))
                 .orElseThrow(BoardNotFoundException::new);
 
         Comment createComment = commentRequestDto.toEntity(loginMember, findBoard);
 
         Comment savedComment = commentRepository.save(createComment);
+        boardCounterService.increaseCommentCount(findBoard.getId());
 
         PointRequestDto pointRequestDto = PointRequestDto.builder()
                 .type(PointType.COMMENT)
@@ -75,7 +132,7 @@ public class CommentService {
         pointService.createPoint(pointRequestDto, principalDetails);
         
         // 트랜잭션 커밋 후 검열을 위한 이벤트 발행
-        eventPublisher.publishEvent(new CommentCreatedEvent(savedComment.getId()));
+        eventPublisher.publishEvent(new CommentCreatedEvent(savedComment.getId(), findBoard.getId()));
     }
 
     // 댓글 삭제
@@ -86,6 +143,9 @@ public class CommentService {
                 .orElseThrow(CommentNotFoundException::new);
 
         findComment.softDelete();
+        boardCounterService.decreaseCommentCount(findComment.getBoard().getId());
+
+        eventPublisher.publishEvent(new CommentDeletedEvent(findComment.getBoard().getId()));
     }
 
 
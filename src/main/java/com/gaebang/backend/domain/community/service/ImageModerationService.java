@@ -4,15 +4,18 @@ import com.gaebang.backend.domain.community.dto.ModerationResult;
 import com.gaebang.backend.domain.interview.llm.GeminiInterviewerGateway;
 import com.gaebang.backend.domain.interview.llm.OpenAiInterviewerGateway;
 import com.gaebang.backend.global.util.S3.S3ImageService;
+import com.gaebang.backend.global.util.S3.S3ImageService.EncodedImage;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 @Slf4j
@@ -23,6 +26,8 @@ public class ImageModerationService {
     private final GeminiInterviewerGateway geminiInterviewerGateway;
     private final OpenAiInterviewerGateway openAiInterviewerGateway;
     private final S3ImageService s3ImageService;
+    private final ModerationVerdictCache moderationVerdictCache;
+    private final ModerationMetrics moderationMetrics;
 
     @Value("${moderation.enabled:true}")
     private boolean moderationEnabled;
@@ -46,24 +51,42 @@ public class ImageModerationService {
 
         try {
             // S3ImageService로 Base64 변환 (기존 ImageEncodingUtil 대체)
-            String base64Image = s3ImageService.encodeImageToBase64(imageUrl);
+            Timer.Sample prepareSample = moderationMetrics.startTimer();
+            EncodedImage image = s3ImageService.encodeImageToBase64(imageUrl);
+            moderationMetrics.recordStage(prepareSample, ModerationMetrics.TYPE_IMAGE, "prepare", ModerationMetrics.NO_PROVIDER);
+
+            // 같은 바이트의 이미지(재업로드 등)는 이전 판정을 재사용
+            Timer.Sample cacheSample = moderationMetrics.startTimer();
+            String cacheKey = moderationVerdictCache.imageKey(image.base64());
+            Optional<ModerationResult> cached = moderationVerdictCache.get(cacheKey);
+            moderationMetrics.recordStage(cacheSample, ModerationMetrics.TYPE_IMAGE, "cache", ModerationMetrics.NO_PROVIDER);
+            if (cached.isPresent()) {
+                moderationMetrics.countDecision(ModerationMetrics.TYPE_IMAGE, "cache", outcome(cached.get()));
+                log.debug("이미지 검열 캐시 적중 - URL: {}, 부적절: {}", imageUrl, cached.get().isInappropriate());
+                return CompletableFuture.completedFuture(cached.get());
+            }
             
+            Timer.Sample llmSample = moderationMetrics.startTimer();
             ModerationResult result;
             
             // AI 제공자 선택 (설정 기반)
             if ("openai".equalsIgnoreCase(primaryAiProvider)) {
                 log.debug("[IMAGE] Primary AI Provider: OpenAI");
-                result = openAiInterviewerGateway.moderateImage(base64Image);
+                result = openAiInterviewerGateway.moderateImage(image.base64(), image.mimeType());
             } else {
                 log.debug("[IMAGE] Primary AI Provider: Gemini");
-                result = geminiInterviewerGateway.moderateImage(base64Image);
+                result = geminiInterviewerGateway.moderateImage(image.base64(), image.mimeType());
             }
 
+            moderationMetrics.recordStage(llmSample, ModerationMetrics.TYPE_IMAGE, "llm", primaryProvider());
+            moderationMetrics.countDecision(ModerationMetrics.TYPE_IMAGE, "llm", outcome(result));
+            moderationVerdictCache.put(cacheKey, result);
             log.debug("이미지 검열 완료 - URL: {}, 부적절: {}, 사유: {}", imageUrl, result.isInappropriate(), result.getReason());
             return CompletableFuture.completedFuture(result);
             
         } catch (Exception e) {
             log.error("이미지 검열 중 오류 발생 - URL: {}, 오류: {}", imageUrl, e.getMessage());
+            moderationMetrics.countDecision(ModerationMetrics.TYPE_IMAGE, "llm", "failure");
             throw new RuntimeException("이미지 검열 실패", e); // Circuit Breaker가 폴백 메서드 호출
         }
     }
@@ -79,26 +102,31 @@ public class ImageModerationService {
         
         try {
             // S3ImageService로 Base64 변환
-            String base64Image = s3ImageService.encodeImageToBase64(imageUrl);
+            EncodedImage image = s3ImageService.encodeImageToBase64(imageUrl);
             
+            Timer.Sample fallbackSample = moderationMetrics.startTimer();
             ModerationResult result;
             
             // Primary가 Gemini면 OpenAI로, OpenAI면 Gemini로 폴백
             if ("openai".equalsIgnoreCase(primaryAiProvider)) {
                 log.info("[IMAGE] Fallback to Gemini");
-                result = geminiInterviewerGateway.moderateImage(base64Image);
+                result = geminiInterviewerGateway.moderateImage(image.base64(), image.mimeType());
             } else {
                 log.info("[IMAGE] Fallback to OpenAI");
-                result = openAiInterviewerGateway.moderateImage(base64Image);
+                result = openAiInterviewerGateway.moderateImage(image.base64(), image.mimeType());
             }
 
+            moderationMetrics.recordStage(fallbackSample, ModerationMetrics.TYPE_IMAGE, "llm-fallback", fallbackProvider());
+            moderationMetrics.countDecision(ModerationMetrics.TYPE_IMAGE, "llm-fallback", outcome(result));
+            moderationVerdictCache.put(moderationVerdictCache.imageKey(image.base64()), result);
             log.info("폴백 AI 이미지 검열 성공 - URL: {}, 부적절: {}, 사유: {}", imageUrl, result.isInappropriate(), result.getReason());
             return CompletableFuture.completedFuture(result);
 
         } catch (Exception e) {
             log.error("폴백 AI 이미지 검열도 실패, 보수적으로 차단 처리 - URL: {}, 오류: {}", imageUrl, e.getMessage());
+            moderationMetrics.countDecision(ModerationMetrics.TYPE_IMAGE, "llm-fallback", "failure");
             // 모든 AI 제공자 실패 시 보수적으로 차단 (보안 우선)
-            return CompletableFuture.completedFuture(new ModerationResult(true, "AI 검열 시스템 장애로 인한 임시 차단 - 관리자 검토 필요"));
+            return CompletableFuture.completedFuture(ModerationResult.systemFailure());
         }
     }
 
@@ -141,6 +169,19 @@ public class ImageModerationService {
         return lowerUrl.endsWith(".jpg") || 
                lowerUrl.endsWith(".jpeg") || 
                lowerUrl.endsWith(".png") || 
-               lowerUrl.endsWith(".webp");
+               lowerUrl.endsWith(".webp") ||
+               lowerUrl.endsWith(".gif");
+    }
+
+    private String outcome(ModerationResult result) {
+        return result.isInappropriate() ? "block" : "pass";
+    }
+
+    private String primaryProvider() {
+        return "openai".equalsIgnoreCase(primaryAiProvider) ? "openai" : "gemini";
+    }
+
+    private String fallbackProvider() {
+        return "openai".equalsIgnoreCase(primaryAiProvider) ? "gemini" : "openai";
     }
-}
\ No newline at end of file
+}
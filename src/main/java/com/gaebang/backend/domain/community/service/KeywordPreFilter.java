@@ -0,0 +1,176 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.util.AhoCorasickMatcher;
+import com.gaebang.backend.domain.community.util.ModerationTextNormalizer;
+import com.gaebang.backend.domain.community.util.ModerationTextNormalizer.NormalizedText;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 텍스트 검열 1차 필터 (LLM 호출 전 로컬 판정)
+ * - 금칙어 사전을 Aho-Corasick 오토마톤으로 만들어 정규화된 텍스트를 한 번만 훑음
+ * - 확정 금칙어('*' 항목, 정상 용례가 거의 없는 욕설) 매치 → 즉시 차단 (LLM 호출 없음)
+ * - 일반 금칙어 매치 → 의심(SUSPECT)으로 표시하고 LLM이 최종 판정 (사전 매치는 오탐이 있으므로)
+ * - 금칙어 매치가 하나도 없고 pass-max-length 글자 이하인 짧은 텍스트 → 즉시 통과
+ *   짧은 위협/자해 표현(죽어, 자살 등)은 사전에 일반 금칙어로 등록하여 즉시 통과하지 않고 LLM으로 넘어가게 함
+ * - 그 외에는 LLM 검열로 넘김
+ * - 한글 금칙어는 글자 경계, 영문 금칙어는 단어 경계에 맞는 매치만 인정하고, 예외어에 포함된 매치는 무시
+ */
+@Slf4j
+@Service
+public class KeywordPreFilter {
+
+    private static final String ALLOW_PREFIX = "!";
+    private static final String BLOCK_PREFIX = "*";
+    private static final String COMMENT_PREFIX = "#";
+
+    @Value("${moderation.pre-filter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${moderation.pre-filter.dictionary:classpath:moderation/banned-terms.txt}")
+    private Resource dictionary;
+
+    // 금칙어 매치가 없을 때 즉시 통과시키는 최대 글자 수 (공백/기호 제외, 0이면 사용 안 함)
+    @Value("${moderation.pre-filter.pass-max-length:5}")
+    private int passMaxLength;
+
+    private AhoCorasickMatcher blockedTerms;
+    private AhoCorasickMatcher bannedTerms;
+    private AhoCorasickMatcher allowedTerms;
+    private Set<String> asciiTerms;
+
+    @PostConstruct
+    void init() {
+        Set<String> blocked = new HashSet<>();
+        Set<String> banned = new HashSet<>();
+        Set<String> allowed = new HashSet<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(dictionary.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                if (line.startsWith(ALLOW_PREFIX)) {
+                    addTerm(allowed, line.substring(ALLOW_PREFIX.length()));
+                } else if (line.startsWith(BLOCK_PREFIX)) {
+                    addTerm(blocked, line.substring(BLOCK_PREFIX.length()));
+                } else {
+                    addTerm(banned, line);
+                }
+            }
+        } catch (IOException e) {
+            // 사전이 없으면 모든 텍스트를 LLM 검열로 넘김
+            log.error("금칙어 사전 로드 실패 - 경로: {}, 오류: {}", dictionary, e.getMessage());
+        }
+
+        blockedTerms = new AhoCorasickMatcher(blocked);
+        bannedTerms = new AhoCorasickMatcher(banned);
+        allowedTerms = new AhoCorasickMatcher(allowed);
+        asciiTerms = new HashSet<>();
+        blocked.stream().filter(this::isAscii).forEach(asciiTerms::add);
+        banned.stream().filter(this::isAscii).forEach(asciiTerms::add);
+        log.info("금칙어 사전 로드 완료 - 확정 금칙어: {}, 금칙어: {}, 예외어: {}", blocked.size(), banned.size(), allowed.size());
+    }
+
+    public PreFilterResult classify(String content) {
+        if (!enabled) {
+            return PreFilterResult.escalate();
+        }
+
+        NormalizedText normalized = ModerationTextNormalizer.normalize(content);
+        if (normalized.text().isEmpty()) {
+            return PreFilterResult.pass();
+        }
+
+        List<AhoCorasickMatcher.Match> allowedMatches = allowedTerms.findAll(normalized.text());
+        AhoCorasickMatcher.Match blocked = blockedTerms.findFirst(normalized.text(),
+                match -> isValidMatch(normalized, match) && !isCoveredBy(match, allowedMatches));
+        if (blocked != null) {
+            return PreFilterResult.block(blocked.pattern());
+        }
+
+        AhoCorasickMatcher.Match banned = bannedTerms.findFirst(normalized.text(),
+                match -> isValidMatch(normalized, match) && !isCoveredBy(match, allowedMatches));
+        if (banned != null) {
+            return PreFilterResult.suspect(banned.pattern());
+        }
+
+        if (normalized.letterCount() <= passMaxLength) {
+            return PreFilterResult.pass();
+        }
+        return PreFilterResult.escalate();
+    }
+
+    private boolean isValidMatch(NormalizedText normalized, AhoCorasickMatcher.Match match) {
+        if (asciiTerms.contains(match.pattern())) {
+            return normalized.isWordBoundary(match.start(), match.end());
+        }
+        return normalized.isLetterBoundary(match.start(), match.end());
+    }
+
+    private boolean isCoveredBy(AhoCorasickMatcher.Match match, List<AhoCorasickMatcher.Match> allowedMatches) {
+        for (AhoCorasickMatcher.Match allowed : allowedMatches) {
+            if (allowed.start() <= match.start() && match.end() <= allowed.end()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 사전 항목도 입력과 같은 방식으로 정규화해야 매칭됨
+    private void addTerm(Set<String> target, String term) {
+        String normalized = ModerationTextNormalizer.normalize(term).text();
+        if (!normalized.isEmpty()) {
+            target.add(normalized);
+        }
+    }
+
+    private boolean isAscii(String term) {
+        return term.chars().allMatch(c -> c < 0x80);
+    }
+
+    public enum Decision {
+        BLOCK, SUSPECT, PASS, ESCALATE
+    }
+
+    /**
+     * @param matchedTerm 차단/의심 판정 시 매칭된 금칙어 (정규화된 형태, 로그용)
+     */
+    public record PreFilterResult(Decision decision, String matchedTerm) {
+
+        public static PreFilterResult block(String matchedTerm) {
+            return new PreFilterResult(Decision.BLOCK, matchedTerm);
+        }
+
+        public static PreFilterResult suspect(String matchedTerm) {
+            return new PreFilterResult(Decision.SUSPECT, matchedTerm);
+        }
+
+        public static PreFilterResult pass() {
+            return new PreFilterResult(Decision.PASS, null);
+        }
+
+        public static PreFilterResult escalate() {
+            return new PreFilterResult(Decision.ESCALATE, null);
+        }
+
+        // LLM 검열이 필요한지 여부
+        public boolean requiresLlm() {
+            return decision == Decision.SUSPECT || decision == Decision.ESCALATE;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.dto.ModerationResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 게시글 검열 팬아웃 서비스
+ * - 텍스트와 모든 이미지 검열을 별도 스레드풀에서 동시에 요청
+ * - 하나라도 부적절 판정이 나오면 나머지를 기다리지 않고 즉시 결과를 확정 (short-circuit)
+ * - 모든 요청이 적절하면 승인, 판정 없이 실패한 요청이 있으면 예외로 완료하여 호출 측이 승인하지 않도록 함
+ */
+@Slf4j
+@Service
+public class ModerationFanOutService {
+
+    private final TextModerationService textModerationService;
+    private final ImageModerationService imageModerationService;
+    private final Executor fanOutExecutor;
+
+    public ModerationFanOutService(TextModerationService textModerationService,
+                                   ImageModerationService imageModerationService,
+                                   @Qualifier("moderationFanOutExecutor") Executor fanOutExecutor) {
+        this.textModerationService = textModerationService;
+        this.imageModerationService = imageModerationService;
+        this.fanOutExecutor = fanOutExecutor;
+    }
+
+    public CompletableFuture<BoardVerdict> moderateBoard(Long boardId, String title, String content, List<String> imageUrls) {
+        List<CompletableFuture<BoardVerdict>> tasks = new ArrayList<>();
+
+        // 검열 메서드는 호출 스레드에서 LLM을 호출하므로 각 요청을 팬아웃 스레드풀로 넘김
+        tasks.add(CompletableFuture
+                .supplyAsync(() -> textModerationService.moderateTitleAndContent(title, content), fanOutExecutor)
+                .thenCompose(future -> future)
+                .thenApply(result -> toVerdict(result, false)));
+
+        for (String imageUrl : imageUrls) {
+            if (!imageModerationService.isSupportedImageFormat(imageUrl)) {
+                log.debug("지원하지 않는 이미지 형식 - ID: {}, URL: {}", boardId, imageUrl);
+                continue;
+            }
+            tasks.add(CompletableFuture
+                    .supplyAsync(() -> imageModerationService.moderateImage(imageUrl), fanOutExecutor)
+                    .thenCompose(future -> future)
+                    .thenApply(result -> toVerdict(result, true)));
+        }
+
+        log.debug("게시글 검열 팬아웃 - ID: {}, 요청 수: {}", boardId, tasks.size());
+        return firstRejectionOrApproval(tasks);
+    }
+
+    private CompletableFuture<BoardVerdict> firstRejectionOrApproval(List<CompletableFuture<BoardVerdict>> tasks) {
+        CompletableFuture<BoardVerdict> decision = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(tasks.size());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        for (CompletableFuture<BoardVerdict> task : tasks) {
+            task.whenComplete((verdict, throwable) -> {
+                if (throwable != null) {
+                    failure.compareAndSet(null, throwable);
+                } else if (verdict.inappropriate()) {
+                    decision.complete(verdict);
+                }
+
+                if (remaining.decrementAndGet() == 0) {
+                    Throwable firstFailure = failure.get();
+                    if (firstFailure != null) {
+                        decision.completeExceptionally(firstFailure);
+                    } else {
+                        decision.complete(BoardVerdict.approved());
+                    }
+                }
+            });
+        }
+
+        // 결과가 확정되면 아직 대기 중인 요청의 후속 처리는 취소
+        // (이미 시작된 LLM 호출은 중단되지 않으므로 moderation.http.* 타임아웃으로 스레드 점유 시간을 제한)
+        decision.whenComplete((verdict, throwable) -> tasks.forEach(task -> task.cancel(false)));
+        return decision;
+    }
+
+    private BoardVerdict toVerdict(ModerationResult result, boolean image) {
+        // 모든 AI 제공자가 실패한 임시 차단은 판정이 아니므로 예외로 처리하여 검열 작업 큐가 재시도하도록 함
+        // (이미지 위반으로 처리하면 정상 게시글이 검열되고 이미지가 삭제됨)
+        if (result.isSystemFailure()) {
+            throw new IllegalStateException((image ? "이미지" : "텍스트") + " 검열 판정 실패: " + result.getReason());
+        }
+        if (!result.isInappropriate()) {
+            return BoardVerdict.approved();
+        }
+        String reason = image ? "이미지 검열: " + result.getReason() : result.getReason();
+        return new BoardVerdict(true, image, reason);
+    }
+
+    /**
+     * 게시글 검열 최종 판정
+     * @param imageViolation 부적절 판정이 이미지에서 나왔는지 여부 (이미지 삭제 대상)
+     */
+    public record BoardVerdict(boolean inappropriate, boolean imageViolation, String reason) {
+
+        public static BoardVerdict approved() {
+            return new BoardVerdict(false, false, null);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.entity.ModerationJobStatus;
+import com.gaebang.backend.domain.community.entity.ModerationTargetType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DB 기반 검열 작업 큐 (moderation_job)
+ * - 등록: 대상당 한 행을 upsert, 처리 중이던 작업은 revision을 올려 다시 대기 상태로 돌림
+ * - 점유: SELECT ... FOR UPDATE SKIP LOCKED로 여러 서버의 워커가 서로 다른 작업을 나눠 가져감
+ * - 완료/실패 반영: 점유 당시 revision, 시도 횟수, 점유 워커가 그대로일 때만 반영
+ *   (가시성 제한 시간이 지나 다른 워커가 다시 가져간 작업을 늦게 끝난 워커가 덮어쓰지 않도록 함, 재점유 시 attempts가 올라감)
+ * - 실패: 지수 백오프로 재시도하고 최대 횟수를 넘으면 FAILED로 남김
+ * - 점유 후 locked_until(가시성 제한 시간)이 지나도록 끝나지 않은 작업은 다시 가져갈 수 있음 (서버 종료 등)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ModerationJobQueue {
+
+    private static final String ENQUEUE_SQL =
+            "INSERT INTO moderation_job (target_type, target_id, status, revision, attempts, available_at, enqueued_at) " +
+            "VALUES (?, ?, 'PENDING', 0, 0, NOW(6), NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "enqueued_at = IF(status = 'PENDING', enqueued_at, NOW(6)), " +
+            "status = 'PENDING', revision = revision + 1, attempts = 0, " +
+            "available_at = NOW(6), locked_until = NULL, locked_by = NULL, last_error = NULL";
+    private static final String SELECT_CLAIMABLE_SQL =
+            "SELECT job_id, target_type, target_id, revision, attempts FROM moderation_job " +
+            "WHERE (status = 'PENDING' AND available_at <= NOW(6)) " +
+            "OR (status = 'PROCESSING' AND locked_until < NOW(6)) " +
+            "ORDER BY available_at LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String MARK_PROCESSING_SQL =
+            "UPDATE moderation_job SET status = 'PROCESSING', attempts = attempts + 1, " +
+            "locked_until = NOW(6) + INTERVAL ? SECOND, locked_by = ? WHERE job_id = ?";
+    private static final String COMPLETE_SQL =
+            "DELETE FROM moderation_job WHERE job_id = ? AND revision = ? AND attempts = ? AND locked_by = ?";
+    private static final String RETRY_SQL =
+            "UPDATE moderation_job SET status = 'PENDING', available_at = NOW(6) + INTERVAL ? SECOND, " +
+            "locked_until = NULL, locked_by = NULL, last_error = ? " +
+            "WHERE job_id = ? AND revision = ? AND attempts = ? AND locked_by = ?";
+    private static final String FAIL_SQL =
+            "UPDATE moderation_job SET status = 'FAILED', locked_until = NULL, locked_by = NULL, last_error = ? " +
+            "WHERE job_id = ? AND revision = ? AND attempts = ? AND locked_by = ?";
+    private static final String STATS_SQL =
+            "SELECT status, COUNT(*), COALESCE(TIMESTAMPDIFF(SECOND, MIN(enqueued_at), NOW(6)), 0) " +
+            "FROM moderation_job GROUP BY status";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${moderation.queue.visibility-timeout-seconds:120}")
+    private long visibilityTimeoutSeconds;
+
+    @Value("${moderation.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${moderation.queue.backoff-base-seconds:10}")
+    private long backoffBaseSeconds;
+
+    @Value("${moderation.queue.backoff-max-seconds:600}")
+    private long backoffMaxSeconds;
+
+    private final AtomicLong pendingDepth = new AtomicLong();
+    private final AtomicLong processingDepth = new AtomicLong();
+    private final AtomicLong failedDepth = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("moderation.queue.depth", pendingDepth, AtomicLong::get)
+                .tag("status", "pending").register(meterRegistry);
+        Gauge.builder("moderation.queue.depth", processingDepth, AtomicLong::get)
+                .tag("status", "processing").register(meterRegistry);
+        Gauge.builder("moderation.queue.depth", failedDepth, AtomicLong::get)
+                .tag("status", "failed").register(meterRegistry);
+        Gauge.builder("moderation.queue.oldest.age.seconds", oldestPendingAgeSeconds, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검열 작업 등록 (호출한 트랜잭션에 참여하여 대상 저장과 함께 커밋)
+     */
+    public void enqueue(ModerationTargetType targetType, Long targetId) {
+        jdbcTemplate.update(ENQUEUE_SQL, targetType.name(), targetId);
+    }
+
+    /**
+     * 처리 가능한 작업을 최대 limit개 점유
+     * 다른 워커가 잠근 행은 건너뛰므로 여러 서버에서 동시에 호출해도 같은 작업을 중복으로 가져가지 않음
+     */
+    public List<ClaimedJob> claim(int limit, String workerId) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<ClaimedJob> claimed = transactionTemplate.execute(status -> {
+            List<ClaimedJob> jobs = jdbcTemplate.query(SELECT_CLAIMABLE_SQL, (rs, rowNum) -> new ClaimedJob(
+                    rs.getLong(1),
+                    ModerationTargetType.valueOf(rs.getString(2)),
+                    rs.getLong(3),
+                    rs.getInt(4),
+                    rs.getInt(5) + 1,
+                    workerId), limit);
+
+            if (!jobs.isEmpty()) {
+                jdbcTemplate.batchUpdate(MARK_PROCESSING_SQL, jobs.stream()
+                        .map(job -> new Object[]{visibilityTimeoutSeconds, workerId, job.jobId()})
+                        .toList());
+            }
+            return jobs;
+        });
+        return claimed == null ? Collections.emptyList() : claimed;
+    }
+
+    public void complete(ClaimedJob job) {
+        int updated = jdbcTemplate.update(COMPLETE_SQL, job.jobId(), job.revision(), job.attempt(), job.workerId());
+        if (updated == 0) {
+            logLostClaim(job);
+            return;
+        }
+        meterRegistry.counter("moderation.queue.jobs", "outcome", "completed").increment();
+    }
+
+    /**
+     * 실패한 작업을 백오프 후 재시도하도록 돌려놓거나, 최대 횟수를 넘으면 FAILED로 표시
+     */
+    public void fail(ClaimedJob job, Throwable cause) {
+        String error = truncate(cause == null ? null : cause.getMessage());
+
+        if (job.attempt() >= maxAttempts) {
+            if (jdbcTemplate.update(FAIL_SQL, error, job.jobId(), job.revision(), job.attempt(), job.workerId()) == 0) {
+                logLostClaim(job);
+                return;
+            }
+            meterRegistry.counter("moderation.queue.jobs", "outcome", "failed").increment();
+            log.error("검열 작업 재시도 초과 - 대상: {} {}, 시도: {}, 오류: {}",
+                    job.targetType(), job.targetId(), job.attempt(), error);
+            return;
+        }
+
+        long backoffSeconds = Math.min(backoffMaxSeconds, backoffBaseSeconds << Math.min(job.attempt() - 1, 20));
+        if (jdbcTemplate.update(RETRY_SQL, backoffSeconds, error, job.jobId(), job.revision(),
+                job.attempt(), job.workerId()) == 0) {
+            logLostClaim(job);
+            return;
+        }
+        meterRegistry.counter("moderation.queue.jobs", "outcome", "retried").increment();
+        log.warn("검열 작업 재시도 예약 - 대상: {} {}, 시도: {}, {}초 후, 오류: {}",
+                job.targetType(), job.targetId(), job.attempt(), backoffSeconds, error);
+    }
+
+    /**
+     * 큐 길이/가장 오래된 대기 작업 나이 갱신 (메트릭 수집 시 DB를 조회하지 않도록 주기적으로 계산)
+     */
+    @Scheduled(fixedDelayString = "${moderation.queue.stats-interval-ms:15000}")
+    public void refreshStats() {
+        try {
+            long[] depths = new long[ModerationJobStatus.values().length];
+            long[] oldestAge = {0};
+            jdbcTemplate.query(STATS_SQL, rs -> {
+                ModerationJobStatus status = ModerationJobStatus.valueOf(rs.getString(1));
+                depths[status.ordinal()] = rs.getLong(2);
+                if (status == ModerationJobStatus.PENDING) {
+                    oldestAge[0] = rs.getLong(3);
+                }
+            });
+
+            pendingDepth.set(depths[ModerationJobStatus.PENDING.ordinal()]);
+            processingDepth.set(depths[ModerationJobStatus.PROCESSING.ordinal()]);
+            failedDepth.set(depths[ModerationJobStatus.FAILED.ordinal()]);
+            oldestPendingAgeSeconds.set(oldestAge[0]);
+        } catch (Exception e) {
+            log.warn("검열 작업 큐 통계 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 다시 등록되었거나 다른 워커가 다시 점유한 작업 (그쪽 결과가 반영되므로 무시)
+    private void logLostClaim(ClaimedJob job) {
+        meterRegistry.counter("moderation.queue.jobs", "outcome", "stale").increment();
+        log.info("검열 작업 점유가 만료되어 결과 반영 생략 - 대상: {} {}, 시도: {}",
+                job.targetType(), job.targetId(), job.attempt());
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * @param revision 점유 당시 revision (완료/실패 반영 시 다시 등록된 작업을 덮어쓰지 않기 위해 사용)
+     * @param attempt 이번 시도 횟수 (1부터, 재점유될 때마다 증가하므로 점유 식별에도 사용)
+     * @param workerId 점유한 워커 (locked_by)
+     */
+    public record ClaimedJob(long jobId, ModerationTargetType targetType, long targetId, int revision, int attempt,
+                             String workerId) {
+    }
+}
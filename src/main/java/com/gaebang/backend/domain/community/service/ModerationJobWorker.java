@@ -0,0 +1,111 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.entity.ModerationTargetType;
+import com.gaebang.backend.domain.community.service.ModerationJobQueue.ClaimedJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 검열 작업 워커
+ * - moderation_job에서 처리 가능한 작업을 주기적으로 점유하여 검열 스레드풀(moderationExecutor)에 넘김
+ * - 스레드풀이 감당할 수 있는 만큼만 가져오므로 작업이 거부되어 유실되지 않음
+ * - 처리 결과에 따라 작업을 삭제하거나 백오프 후 재시도하도록 돌려놓음
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ModerationJobWorker {
+
+    private final ModerationJobQueue moderationJobQueue;
+    private final ModerationService moderationService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${moderation.queue.enabled:true}")
+    private boolean enabled;
+
+    @Value("${moderation.queue.claim-batch-size:10}")
+    private int claimBatchSize;
+
+    // 동시에 처리할 최대 작업 수 (moderationExecutor의 스레드 수 + 큐 크기를 넘지 않도록 설정)
+    @Value("${moderation.queue.max-in-flight:10}")
+    private int maxInFlight;
+
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile boolean stopping;
+
+    @Scheduled(fixedDelayString = "${moderation.queue.poll-interval-ms:500}")
+    public void poll() {
+        if (!enabled || stopping) {
+            return;
+        }
+
+        int capacity = Math.min(claimBatchSize, maxInFlight - inFlight.get());
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<ClaimedJob> jobs;
+        try {
+            jobs = moderationJobQueue.claim(capacity, workerId);
+        } catch (Exception e) {
+            log.error("검열 작업 점유 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (ClaimedJob job : jobs) {
+            process(job);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        // 처리 중인 작업은 가시성 제한 시간이 지나면 다른 서버(또는 재시작 후)가 다시 가져감
+        stopping = true;
+        log.info("검열 작업 워커 종료 - 처리 중인 작업 수: {}", inFlight.get());
+    }
+
+    private void process(ClaimedJob job) {
+        inFlight.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        CompletableFuture<Void> future;
+        try {
+            future = job.targetType() == ModerationTargetType.BOARD
+                    ? moderationService.moderateBoardAsync(job.targetId())
+                    : moderationService.moderateCommentAsync(job.targetId());
+        } catch (Exception e) {
+            // 스레드풀이 작업을 거부한 경우 등
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((ignored, throwable) -> {
+            try {
+                if (throwable == null) {
+                    moderationJobQueue.complete(job);
+                } else {
+                    moderationJobQueue.fail(job, throwable);
+                }
+            } catch (Exception e) {
+                // 상태 반영에 실패해도 가시성 제한 시간이 지나면 다시 처리됨
+                log.error("검열 작업 상태 반영 실패 - 대상: {} {}, 오류: {}", job.targetType(), job.targetId(), e.getMessage());
+            } finally {
+                sample.stop(meterRegistry.timer("moderation.queue.job.duration",
+                        "type", job.targetType().name().toLowerCase(Locale.ROOT)));
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+}
@@ -0,0 +1,127 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.entity.ModerationStatus;
+import com.gaebang.backend.domain.community.repository.BoardRepository;
+import com.gaebang.backend.domain.community.repository.CommentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검열 파이프라인 메트릭
+ * - moderation.stage.duration: 단계별(prefilter/cache/llm/llm-fallback) 소요 시간, 유형(text/image)과 AI 제공자 태그
+ * - moderation.stage.decisions: 단계별 판정 수 (block/pass/escalate/failure)
+ * - moderation.verdict.latency: 게시글/댓글 저장부터 판정 반영까지 걸린 시간
+ * - moderation.pending.backlog / moderation.pending.oldest.age.seconds: moderationStatus가 PENDING인 게시글/댓글 적체
+ * 지연 시간 메트릭은 백분위 히스토그램을 함께 내보내 Grafana에서 p50/p95/p99를 계산할 수 있도록 함
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ModerationMetrics {
+
+    public static final String TYPE_TEXT = "text";
+    public static final String TYPE_IMAGE = "image";
+    public static final String NO_PROVIDER = "none";
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofMinutes(10);
+
+    private final MeterRegistry meterRegistry;
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+
+    private final AtomicLong pendingBoards = new AtomicLong();
+    private final AtomicLong pendingComments = new AtomicLong();
+    private final AtomicLong oldestPendingBoardAgeSeconds = new AtomicLong();
+    private final AtomicLong oldestPendingCommentAgeSeconds = new AtomicLong();
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("moderation.pending.backlog", pendingBoards, AtomicLong::get)
+                .tag("target", "board").register(meterRegistry);
+        Gauge.builder("moderation.pending.backlog", pendingComments, AtomicLong::get)
+                .tag("target", "comment").register(meterRegistry);
+        Gauge.builder("moderation.pending.oldest.age.seconds", oldestPendingBoardAgeSeconds, AtomicLong::get)
+                .tag("target", "board").register(meterRegistry);
+        Gauge.builder("moderation.pending.oldest.age.seconds", oldestPendingCommentAgeSeconds, AtomicLong::get)
+                .tag("target", "comment").register(meterRegistry);
+    }
+
+    public Timer.Sample startTimer() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordStage(Timer.Sample sample, String type, String stage, String provider) {
+        sample.stop(Timer.builder("moderation.stage.duration")
+                .tag("type", type)
+                .tag("stage", stage)
+                .tag("provider", provider)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry));
+    }
+
+    public void countDecision(String type, String stage, String outcome) {
+        Counter.builder("moderation.stage.decisions")
+                .tag("type", type)
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 저장(또는 마지막 수정) 시각부터 판정 반영까지의 시간 기록
+     * @param target board / comment
+     * @param since 대상의 마지막 저장 시각
+     */
+    public void recordVerdictLatency(String target, LocalDateTime since, boolean rejected) {
+        if (since == null) {
+            return;
+        }
+        Duration latency = Duration.between(since, LocalDateTime.now());
+        if (latency.isNegative()) {
+            return;
+        }
+        Timer.builder("moderation.verdict.latency")
+                .tag("target", target)
+                .tag("verdict", rejected ? "rejected" : "approved")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(100))
+                .maximumExpectedValue(Duration.ofHours(1))
+                .register(meterRegistry)
+                .record(latency);
+    }
+
+    /**
+     * PENDING 적체 갱신 (메트릭 수집 시 DB를 조회하지 않도록 주기적으로 계산)
+     */
+    @Scheduled(fixedDelayString = "${moderation.metrics.backlog-interval-ms:30000}")
+    public void refreshBacklog() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            pendingBoards.set(boardRepository.countByModerationStatusAndDeleteYn(ModerationStatus.PENDING, "N"));
+            pendingComments.set(commentRepository.countByModerationStatusAndDeleteYn(ModerationStatus.PENDING, "N"));
+            oldestPendingBoardAgeSeconds.set(boardRepository.findOldestCreatedAtByModerationStatus(ModerationStatus.PENDING)
+                    .map(createdAt -> Duration.between(createdAt, now).getSeconds())
+                    .orElse(0L));
+            oldestPendingCommentAgeSeconds.set(commentRepository.findOldestCreatedAtByModerationStatus(ModerationStatus.PENDING)
+                    .map(createdAt -> Duration.between(createdAt, now).getSeconds())
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.warn("검열 대기 적체 메트릭 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -4,18 +4,26 @@ import com.gaebang.backend.domain.community.dto.ModerationResult;
 import com.gaebang.backend.domain.community.entity.Board;
 import com.gaebang.backend.domain.community.entity.Comment;
 import com.gaebang.backend.domain.community.entity.Image;
+import com.gaebang.backend.domain.community.event.BoardImagesRemovedEvent;
+import com.gaebang.backend.domain.community.event.BoardModeratedEvent;
 import com.gaebang.backend.domain.community.repository.BoardRepository;
 import com.gaebang.backend.domain.community.repository.CommentRepository;
 import com.gaebang.backend.domain.community.repository.ImageRepository;
-import com.gaebang.backend.global.util.S3.S3ImageService;
+import com.gaebang.backend.domain.community.service.ModerationFanOutService.BoardVerdict;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -27,20 +35,33 @@ public class ModerationService {
     private final ImageRepository imageRepository;
     private final ContentBackupService contentBackupService;
     private final TextModerationService textModerationService;
-    private final ImageModerationService imageModerationService;
-    private final S3ImageService s3ImageService;
+    private final ModerationFanOutService moderationFanOutService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ModerationMetrics moderationMetrics;
 
     @Value("${moderation.enabled:true}")
     private boolean moderationEnabled;
 
+    @Value("${moderation.board-deadline-ms:20000}")
+    private long boardDeadlineMs;
+
+    @Value("${moderation.comment-deadline-ms:20000}")
+    private long commentDeadlineMs;
+
     @Value("${moderation.censorship.title-replacement:검열된 게시글입니다}")
     private String censoredTitle;
 
     @Value("${moderation.censorship.content-template:이 게시글은 부적절한 내용으로 인해 검열되었습니다.\n\n검열 사유: {reason}\n문의: admin@morningstar.com}")
     private String contentTemplate;
 
+    /**
+     * 게시글 검열
+     * - 조회/반영은 각각 짧은 트랜잭션으로 처리하고, LLM 호출 중에는 트랜잭션을 잡지 않음
+     * - 텍스트와 이미지를 동시에 검열하며 게시글 단위 제한 시간을 초과하면 판정을 보류
+     * - 판정을 내리지 못한 경우 실패로 완료하여 검열 작업 큐가 재시도하도록 함
+     */
     @Async("moderationExecutor")
-    @Transactional
     public CompletableFuture<Void> moderateBoardAsync(Long boardId) {
         if (!moderationEnabled) {
             log.debug("컨텐츠 검열이 비활성화되어 있습니다.");
@@ -48,95 +69,88 @@ public class ModerationService {
         }
 
         try {
-            Board board = boardRepository.findById(boardId).orElse(null);
-            if (board == null) {
+            BoardSnapshot snapshot = transactionTemplate.execute(status -> boardRepository.findBoardDetailById(boardId)
+                    .map(board -> new BoardSnapshot(board.getTitle(), board.getContent(),
+                            board.getImages().stream().map(Image::getImageUrl).toList()))
+                    .orElse(null));
+            if (snapshot == null) {
                 log.warn("검열 대상 게시글을 찾을 수 없습니다. ID: {}", boardId);
                 return CompletableFuture.completedFuture(null);
             }
 
-            CompletableFuture<ModerationResult> textResultFuture = textModerationService.moderateTitleAndContent(
-                board.getTitle(), board.getContent());
-            
-            ModerationResult textResult = textResultFuture.get();
-            
-            boolean textCensored = false;
-            boolean imageCensored = false;
-            String censorReason = null;
-            
-            // 텍스트 검열 결과 처리
-            if (textResult.isInappropriate()) {
-                log.info("부적절한 게시글 텍스트 발견 - ID: {}, 사유: {}", boardId, textResult.getReason());
-                textCensored = true;
-                censorReason = textResult.getReason();
-            }
+            CompletableFuture<BoardVerdict> verdictFuture = moderationFanOutService.moderateBoard(
+                    boardId, snapshot.title(), snapshot.content(), snapshot.imageUrls());
 
-            // 이미지 검열 실행
-            
-            if (!board.getImages().isEmpty()) {
-                log.info("게시글 이미지 검열 시작 - ID: {}, 이미지 수: {}", boardId, board.getImages().size());
-                
-                for (Image image : board.getImages()) {
-                    if (imageModerationService.isSupportedImageFormat(image.getImageUrl())) {
-                        CompletableFuture<ModerationResult> imageResultFuture = 
-                            imageModerationService.moderateImage(image.getImageUrl());
-                        
-                        ModerationResult imageResult = imageResultFuture.get();
-                        
-                        if (imageResult.isInappropriate()) {
-                            log.info("부적절한 게시글 이미지 발견 - ID: {}, 이미지 URL: {}, 사유: {}", 
-                                    boardId, image.getImageUrl(), imageResult.getReason());
-                            
-                            imageCensored = true;
-                            if (censorReason == null) {
-                                censorReason = "이미지 검열: " + imageResult.getReason();
-                            } else {
-                                censorReason += " / 이미지 검열: " + imageResult.getReason();
-                            }
-                            
-                            // 모든 이미지 삭제 (S3 + DB)
-                            deleteAllImagesFromBoard(board);
-                            break; // 하나의 이미지라도 부적절하면 모든 이미지 삭제 후 종료
-                        }
-                    } else {
-                        log.debug("지원하지 않는 이미지 형식 - ID: {}, URL: {}", boardId, image.getImageUrl());
-                    }
-                }
-                
-                if (imageCensored) {
-                    log.info("게시글 이미지 검열 완료 - ID: {}", boardId);
-                } else {
-                    log.debug("게시글 이미지 검열 통과 - ID: {}", boardId);
-                }
-            }
-            
-            // 최종 처리: 텍스트 또는 이미지 중 하나라도 부적절하면 검열 처리
-            if (textCensored || imageCensored) {
-                // 백업 생성 (중복 방지)
-                contentBackupService.createBoardBackup(board, censorReason);
-                
-                // 게시글 내용을 검열 메시지로 교체
-                String censoredContent = contentTemplate.replace("{reason}", censorReason);
-                board.censorContent(censoredTitle, censoredContent);
-                boardRepository.save(board);
-                
-                log.info("게시글 검열 완료 - ID: {}, 텍스트 검열: {}, 이미지 검열: {}", 
-                        boardId, textCensored, imageCensored);
-            } else {
-                // 모든 검열 통과
-                board.approveModerationContent();
-                boardRepository.save(board);
-                log.debug("게시글 전체 검열 통과 - ID: {}", boardId);
+            BoardVerdict verdict;
+            try {
+                verdict = verdictFuture.get(boardDeadlineMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                verdictFuture.cancel(false);
+                moderationMetrics.countDecision("board", "deadline", "timeout");
+                log.warn("게시글 검열 제한 시간 초과, 판정 보류 - ID: {}, 제한 시간: {}ms", boardId, boardDeadlineMs);
+                return CompletableFuture.failedFuture(e);
             }
 
+            transactionTemplate.executeWithoutResult(status -> applyBoardVerdict(boardId, snapshot, verdict));
+
         } catch (Exception e) {
             log.error("게시글 검열 중 오류 발생 - ID: {}, 오류: {}", boardId, e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
         }
 
         return CompletableFuture.completedFuture(null);
     }
 
+    private void applyBoardVerdict(Long boardId, BoardSnapshot snapshot, BoardVerdict verdict) {
+        Board board = boardRepository.findById(boardId).orElse(null);
+        if (board == null) {
+            log.warn("검열 결과 반영 대상 게시글을 찾을 수 없습니다. ID: {}", boardId);
+            return;
+        }
+
+        // 검열 중 수정된 게시글(이미지만 바꾼 경우 포함)은 수정 이벤트로 다시 검열되므로 이전 내용의 판정은 반영하지 않음
+        List<String> currentImageUrls = board.getImages().stream().map(Image::getImageUrl).toList();
+        if (!Objects.equals(board.getTitle(), snapshot.title()) || !Objects.equals(board.getContent(), snapshot.content())
+                || !currentImageUrls.equals(snapshot.imageUrls())) {
+            log.debug("검열 중 게시글이 수정되어 판정 반영 생략 - ID: {}", boardId);
+            return;
+        }
+
+        moderationMetrics.recordVerdictLatency("board", lastSavedAt(board.getCreatedAt(), board.getUpdatedAt()),
+                verdict.inappropriate());
+
+        if (!verdict.inappropriate()) {
+            board.approveModerationContent();
+            log.debug("게시글 전체 검열 통과 - ID: {}", boardId);
+            return;
+        }
+
+        log.info("부적절한 게시글 발견 - ID: {}, 사유: {}", boardId, verdict.reason());
+
+        // 백업 생성 (중복 방지)
+        contentBackupService.createBoardBackup(board, verdict.reason());
+
+        // 하나의 이미지라도 부적절하면 모든 이미지 삭제
+        if (verdict.imageViolation()) {
+            deleteAllImagesFromBoard(board);
+        }
+
+        // 게시글 내용을 검열 메시지로 교체
+        String censoredContent = contentTemplate.replace("{reason}", verdict.reason());
+        board.censorContent(censoredTitle, censoredContent);
+
+        // 트랜잭션 커밋 후 목록 캐시 무효화를 위한 이벤트 발행
+        eventPublisher.publishEvent(new BoardModeratedEvent(boardId));
+
+        log.info("게시글 검열 완료 - ID: {}, 이미지 검열: {}", boardId, verdict.imageViolation());
+    }
+
+    /**
+     * 댓글 검열
+     * - 게시글 검열과 같이 LLM 응답을 기다리는 동안에는 트랜잭션(DB 커넥션)을 잡지 않음
+     * - 제한 시간을 초과하면 판정을 보류하고 실패로 완료하여 검열 작업 큐가 재시도하도록 함
+     */
     @Async("moderationExecutor")
-    @Transactional
     public CompletableFuture<Void> moderateCommentAsync(Long commentId) {
         if (!moderationEnabled) {
             log.debug("컨텐츠 검열이 비활성화되어 있습니다.");
@@ -144,41 +158,75 @@ public class ModerationService {
         }
 
         try {
-            Comment comment = commentRepository.findById(commentId).orElse(null);
-            if (comment == null) {
+            String content = transactionTemplate.execute(status -> commentRepository.findById(commentId)
+                    .map(Comment::getContent)
+                    .orElse(null));
+            if (content == null) {
                 log.warn("검열 대상 댓글을 찾을 수 없습니다. ID: {}", commentId);
                 return CompletableFuture.completedFuture(null);
             }
 
-            CompletableFuture<ModerationResult> resultFuture = textModerationService.moderateText(comment.getContent());
-            ModerationResult result = resultFuture.get();
-
-            if (result.isInappropriate()) {
-                log.info("부적절한 댓글 발견 - ID: {}, 사유: {}", commentId, result.getReason());
-                
-                contentBackupService.createCommentBackup(comment, result.getReason());
-                
-                String censoredContent = "이 댓글은 부적절한 내용으로 인해 검열되었습니다.\n\n검열 사유: " + 
-                                       result.getReason() + "\n문의: admin@morningstar.com";
-                comment.censorContent(censoredContent);
-                commentRepository.save(comment);
-                
-                log.info("댓글 검열 완료 - ID: {}", commentId);
-            } else {
-                comment.approveModerationContent();
-                commentRepository.save(comment);
-                log.debug("댓글 검열 통과 - ID: {}", commentId);
+            CompletableFuture<ModerationResult> resultFuture = textModerationService.moderateText(content);
+
+            ModerationResult result;
+            try {
+                result = resultFuture.get(commentDeadlineMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                resultFuture.cancel(false);
+                moderationMetrics.countDecision("comment", "deadline", "timeout");
+                log.warn("댓글 검열 제한 시간 초과, 판정 보류 - ID: {}, 제한 시간: {}ms", commentId, commentDeadlineMs);
+                return CompletableFuture.failedFuture(e);
             }
 
+            transactionTemplate.executeWithoutResult(status -> applyCommentVerdict(commentId, content, result));
+
         } catch (Exception e) {
             log.error("댓글 검열 중 오류 발생 - ID: {}, 오류: {}", commentId, e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
         }
 
         return CompletableFuture.completedFuture(null);
     }
 
+    private void applyCommentVerdict(Long commentId, String content, ModerationResult result) {
+        Comment comment = commentRepository.findById(commentId).orElse(null);
+        if (comment == null) {
+            log.warn("검열 결과 반영 대상 댓글을 찾을 수 없습니다. ID: {}", commentId);
+            return;
+        }
+
+        // 검열 중 수정된 댓글은 수정 이벤트로 다시 검열되므로 이전 내용의 판정은 반영하지 않음
+        if (!Objects.equals(comment.getContent(), content)) {
+            log.debug("검열 중 댓글이 수정되어 판정 반영 생략 - ID: {}", commentId);
+            return;
+        }
+
+        moderationMetrics.recordVerdictLatency("comment", lastSavedAt(comment.getCreatedAt(), comment.getUpdatedAt()),
+                result.isInappropriate());
+
+        if (result.isInappropriate()) {
+            log.info("부적절한 댓글 발견 - ID: {}, 사유: {}", commentId, result.getReason());
+
+            contentBackupService.createCommentBackup(comment, result.getReason());
+
+            String censoredContent = "이 댓글은 부적절한 내용으로 인해 검열되었습니다.\n\n검열 사유: " +
+                                   result.getReason() + "\n문의: admin@morningstar.com";
+            comment.censorContent(censoredContent);
+
+            log.info("댓글 검열 완료 - ID: {}", commentId);
+        } else {
+            comment.approveModerationContent();
+            log.debug("댓글 검열 통과 - ID: {}", commentId);
+        }
+    }
+
+    // 생성 또는 마지막 수정 시각 (판정까지 걸린 시간 측정 기준)
+    private LocalDateTime lastSavedAt(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt : createdAt;
+    }
+
     /**
-     * 게시글의 모든 이미지를 S3와 DB에서 삭제
+     * 게시글의 모든 이미지를 DB에서 삭제하고, S3 객체는 커밋 후 비동기로 삭제
      * @param board 게시글 엔티티
      */
     private void deleteAllImagesFromBoard(Board board) {
@@ -186,24 +234,17 @@ public class ModerationService {
             return;
         }
 
-        for (Image image : board.getImages()) {
-            try {
-                // S3에서 이미지 삭제
-                s3ImageService.deleteImageFromS3(image.getImageUrl());
-                log.debug("S3 이미지 삭제 완료 - URL: {}", image.getImageUrl());
-            } catch (Exception e) {
-                log.error("S3 이미지 삭제 실패 - URL: {}, 오류: {}", image.getImageUrl(), e.getMessage());
-                // S3 삭제 실패해도 DB에서는 삭제 진행
-            }
-        }
+        List<Long> imageIds = board.getImages().stream().map(Image::getId).toList();
+        List<String> imageUrls = board.getImages().stream().map(Image::getImageUrl).toList();
 
-        // DB에서 이미지 엔티티들 삭제
-        try {
-            imageRepository.deleteAll(board.getImages());
-            log.debug("DB 이미지 엔티티 삭제 완료 - 게시글 ID: {}, 삭제된 이미지 수: {}", 
-                     board.getId(), board.getImages().size());
-        } catch (Exception e) {
-            log.error("DB 이미지 엔티티 삭제 실패 - 게시글 ID: {}, 오류: {}", board.getId(), e.getMessage());
-        }
+        // 목록 썸네일도 함께 제거
+        board.clearThumbnailUrl();
+
+        imageRepository.deleteAllByIdIn(imageIds);
+        eventPublisher.publishEvent(new BoardImagesRemovedEvent(board.getId(), imageUrls));
+        log.debug("DB 이미지 엔티티 삭제 완료 - 게시글 ID: {}, 삭제된 이미지 수: {}", board.getId(), imageIds.size());
+    }
+
+    private record BoardSnapshot(String title, String content, List<String> imageUrls) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,141 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.dto.ModerationResult;
+import com.gaebang.backend.domain.community.repository.ModerationVerdictRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 검열 판정 캐시
+ * - 텍스트는 정규화(NFKC, 소문자, 공백 축약) 후 SHA-256, 이미지는 내려받은 바이트의 SHA-256을 키로 사용
+ * - 메모리(Caffeine, 크기/TTL 제한)를 먼저 확인하고, 설정 시 moderation_verdict 테이블까지 조회
+ * - 모델 응답에서 파싱한 판정만 캐싱 (AI 호출 실패 시 게이트웨이는 예외를 던지고, 임시 차단 판정은 캐싱하지 않음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ModerationVerdictCache {
+
+    private static final String TEXT_PREFIX = "T:";
+    private static final String IMAGE_PREFIX = "I:";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ModerationVerdictRepository moderationVerdictRepository;
+
+    @Value("${moderation.verdict-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${moderation.verdict-cache.ttl-hours:168}")
+    private long ttlHours;
+
+    @Value("${moderation.verdict-cache.persistent:true}")
+    private boolean persistent;
+
+    private Cache<String, ModerationResult> verdicts;
+
+    @PostConstruct
+    void init() {
+        verdicts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .recordStats()
+                .build();
+    }
+
+    public String textKey(String content) {
+        String normalized = Normalizer.normalize(content == null ? "" : content, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT);
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return TEXT_PREFIX + sha256(normalized.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param base64Image 내려받은 이미지의 Base64 문자열 (동일 바이트 ↔ 동일 문자열)
+     */
+    public String imageKey(String base64Image) {
+        return IMAGE_PREFIX + sha256(base64Image.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public Optional<ModerationResult> get(String key) {
+        ModerationResult cached = verdicts.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        if (!persistent) {
+            return Optional.empty();
+        }
+
+        try {
+            Optional<ModerationResult> stored = moderationVerdictRepository
+                    .findByContentHashAndCreatedAtAfter(key, LocalDateTime.now().minusHours(ttlHours))
+                    .map(verdict -> new ModerationResult(verdict.isInappropriate(), verdict.getReason()));
+            stored.ifPresent(result -> verdicts.put(key, result));
+            return stored;
+        } catch (Exception e) {
+            log.warn("검열 판정 캐시 조회 실패 - 키: {}, 오류: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 모델 응답에서 파싱한 판정만 저장
+     * 장애 시 임시 차단(systemFailure)은 장애가 풀린 뒤 다시 검열해야 하므로 저장하지 않음
+     */
+    public void put(String key, ModerationResult result) {
+        if (result == null || result.isSystemFailure()) {
+            return;
+        }
+
+        verdicts.put(key, result);
+
+        if (!persistent) {
+            return;
+        }
+
+        try {
+            moderationVerdictRepository.upsert(key, result.isInappropriate(), result.getReason(), LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("검열 판정 캐시 저장 실패 - 키: {}, 오류: {}", key, e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${moderation.verdict-cache.cleanup-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void deleteExpired() {
+        if (!persistent) {
+            return;
+        }
+
+        try {
+            int deleted = moderationVerdictRepository.deleteExpired(LocalDateTime.now().minusHours(ttlHours));
+            log.info("만료된 검열 판정 정리 완료 - 삭제 수: {}", deleted);
+        } catch (Exception e) {
+            log.error("만료된 검열 판정 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
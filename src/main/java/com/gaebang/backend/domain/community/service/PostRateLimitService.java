@@ -1,43 +1,42 @@
 package com.gaebang.backend.domain.community.service;
 
 import com.gaebang.backend.domain.community.exception.PostRateLimitExceededException;
-import com.gaebang.backend.domain.community.repository.BoardRepository;
+import com.gaebang.backend.global.ratelimit.SlidingWindowRateLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-
-import java.time.LocalDateTime;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 작성 횟수 제한
+ * rate-limit.post.max-count / window-minutes 설정의 슬라이딩 윈도우로 판정 (DB 조회 없음)
+ * 트랜잭션 안에서 호출되면 작성이 커밋되지 않았을 때(검증 실패, 저장 오류 등) 사용한 횟수를 되돌림
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class PostRateLimitService {
 
-    private final BoardRepository boardRepository;
-
-    @Value("${rate-limit.post.max-count:3}")
-    private int maxPostCount;
+    private static final String POST_POLICY = "post";
 
-    @Value("${rate-limit.post.window-minutes:5}")
-    private int windowMinutes;
+    private final SlidingWindowRateLimiter rateLimiter;
 
     public void validatePostRateLimit(Long memberId) {
-        LocalDateTime windowStart = LocalDateTime.now().minusMinutes(windowMinutes);
-        
-        int recentPostCount = countRecentPosts(memberId, windowStart);
-        
-        if (recentPostCount >= maxPostCount) {
-            log.warn("게시글 작성 한도 초과 - 사용자 ID: {}, 최근 {}분간 게시글 수: {}", 
-                     memberId, windowMinutes, recentPostCount);
+        if (!rateLimiter.tryAcquire(POST_POLICY, memberId)) {
             throw new PostRateLimitExceededException();
         }
-        
-        log.debug("게시글 작성 가능 - 사용자 ID: {}, 최근 {}분간 게시글 수: {}/{}", 
-                  memberId, windowMinutes, recentPostCount, maxPostCount);
-    }
 
-    private int countRecentPosts(Long memberId, LocalDateTime windowStart) {
-        return boardRepository.countByMemberIdAndDeleteYnAndCreatedAtAfter(memberId, windowStart);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        rateLimiter.refund(POST_POLICY, memberId);
+                        log.debug("게시글 작성 실패로 작성 횟수 반환 - 사용자 ID: {}", memberId);
+                    }
+                }
+            });
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,195 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.dto.ModerationResult;
+import com.gaebang.backend.domain.interview.llm.GeminiInterviewerGateway;
+import com.gaebang.backend.domain.interview.llm.OpenAiInterviewerGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 텍스트 검열 마이크로 배처
+ * - 검열 요청을 최대 max-wait-ms 동안 또는 max-batch-size개가 모일 때까지 모아 한 번의 LLM 요청으로 검열
+ * - 항목별 판정을 각 요청의 CompletableFuture로 돌려줌
+ * - 배치 응답 파싱에 실패하면 해당 배치의 항목을 단건 검열로 다시 요청
+ * - 단건 검열까지 실패하거나 스레드풀이 배치를 거부하면 항목을 예외로 완료하여,
+ *   TextModerationService(프록시)의 Circuit Breaker가 폴백 AI 제공자로 전환하도록 함
+ * - 트래픽이 몰릴 때 제공자 요청 수(쿼터)와 항목당 대기 시간을 줄이기 위함
+ */
+@Slf4j
+@Service
+public class TextModerationBatcher {
+
+    private final GeminiInterviewerGateway geminiInterviewerGateway;
+    private final OpenAiInterviewerGateway openAiInterviewerGateway;
+    private final Executor batchExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${moderation.batch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${moderation.batch.max-batch-size:10}")
+    private int maxBatchSize;
+
+    @Value("${moderation.batch.max-wait-ms:100}")
+    private long maxWaitMs;
+
+    @Value("${ai.provider:gemini}")
+    private String primaryAiProvider;
+
+    private final Object lock = new Object();
+    private List<PendingItem> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private ScheduledExecutorService timer;
+
+    public TextModerationBatcher(GeminiInterviewerGateway geminiInterviewerGateway,
+                                 OpenAiInterviewerGateway openAiInterviewerGateway,
+                                 @Qualifier("moderationBatchExecutor") Executor batchExecutor,
+                                 MeterRegistry meterRegistry) {
+        this.geminiInterviewerGateway = geminiInterviewerGateway;
+        this.openAiInterviewerGateway = openAiInterviewerGateway;
+        this.batchExecutor = batchExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Moderation-Batch-Timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled && maxBatchSize > 1;
+    }
+
+    /**
+     * 검열 요청을 대기열에 등록
+     * @param content 검열할 텍스트
+     * @return 배치 검열이 끝나면 완료되는 검열 결과
+     */
+    public CompletableFuture<ModerationResult> submit(String content) {
+        CompletableFuture<ModerationResult> future = new CompletableFuture<>();
+        List<PendingItem> fullBatch = null;
+
+        synchronized (lock) {
+            pending.add(new PendingItem(content, future));
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = drain();
+            } else if (pending.size() == 1) {
+                // 배치의 첫 항목이 들어온 시점부터 대기 시간을 잼
+                scheduledFlush = timer.schedule(this::flushDue, maxWaitMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<PendingItem> remaining;
+        synchronized (lock) {
+            remaining = drain();
+        }
+        if (!remaining.isEmpty()) {
+            log.info("애플리케이션 종료 전 대기 중인 검열 배치 처리 - 항목 수: {}", remaining.size());
+            moderateBatch(remaining);
+        }
+        timer.shutdownNow();
+    }
+
+    private void flushDue() {
+        List<PendingItem> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    // lock을 잡은 상태에서 호출
+    private List<PendingItem> drain() {
+        List<PendingItem> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<PendingItem> batch) {
+        try {
+            batchExecutor.execute(() -> moderateBatch(batch));
+        } catch (Exception e) {
+            log.error("검열 배치 실행 실패 - 항목 수: {}, 오류: {}", batch.size(), e.getMessage());
+            batch.forEach(item -> item.future().completeExceptionally(e));
+        }
+    }
+
+    private void moderateBatch(List<PendingItem> batch) {
+        meterRegistry.summary("moderation.text.batch.size").record(batch.size());
+
+        if (batch.size() == 1) {
+            moderateSingle(batch.get(0));
+            return;
+        }
+
+        try {
+            List<String> contents = batch.stream().map(PendingItem::content).toList();
+            List<ModerationResult> results = "openai".equalsIgnoreCase(primaryAiProvider)
+                    ? openAiInterviewerGateway.moderateContents(contents)
+                    : geminiInterviewerGateway.moderateContents(contents);
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(results.get(i));
+            }
+            log.debug("배치 텍스트 검열 완료 - 항목 수: {}", batch.size());
+
+        } catch (Exception e) {
+            log.warn("배치 텍스트 검열 실패, 단건 검열로 전환 - 항목 수: {}, 오류: {}", batch.size(), e.getMessage());
+            meterRegistry.counter("moderation.text.batch.fallback").increment();
+            for (PendingItem item : batch) {
+                try {
+                    batchExecutor.execute(() -> moderateSingle(item));
+                } catch (Exception rejected) {
+                    item.future().completeExceptionally(rejected);
+                }
+            }
+        }
+    }
+
+    // 게이트웨이는 판정을 얻지 못하면 예외를 던지므로 실패가 그대로 호출 측 Circuit Breaker에 전달됨
+    private void moderateSingle(PendingItem item) {
+        try {
+            ModerationResult result = "openai".equalsIgnoreCase(primaryAiProvider)
+                    ? openAiInterviewerGateway.moderateContent(item.content())
+                    : geminiInterviewerGateway.moderateContent(item.content());
+            item.future().complete(result);
+        } catch (Exception e) {
+            item.future().completeExceptionally(e);
+        }
+    }
+
+    private record PendingItem(String content, CompletableFuture<ModerationResult> future) {
+    }
+}
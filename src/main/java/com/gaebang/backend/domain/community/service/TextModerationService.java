@@ -6,16 +6,22 @@ import com.gaebang.backend.domain.interview.llm.OpenAiInterviewerGateway;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * 텍스트 컨텐츠 전용 검열 서비스
  * - 제목/내용 통합 검열
+ * - 금칙어 1차 필터(의심 표시) → 판정 캐시 → LLM 순으로 처리하며 단계별 처리 수/소요 시간을 메트릭으로 기록
+ * - LLM 단계는 마이크로 배처로 동시 요청을 묶어 호출
  * - Circuit Breaker를 통한 AI 제공자 폴백 (Gemini → OpenAI)
  * - 재사용 가능한 독립적인 서비스
  */
@@ -24,8 +30,16 @@ import java.util.concurrent.CompletableFuture;
 @Service
 public class TextModerationService {
 
+    private static final String BLOCKED_TERM_REASON = "욕설/비하 표현이 포함되어 있습니다.";
+
     private final GeminiInterviewerGateway geminiInterviewerGateway;
     private final OpenAiInterviewerGateway openAiInterviewerGateway;
+    private final ModerationVerdictCache moderationVerdictCache;
+    private final KeywordPreFilter keywordPreFilter;
+    private final TextModerationBatcher textModerationBatcher;
+    private final ModerationMetrics moderationMetrics;
+    // 내부 호출도 프록시를 거쳐야 Circuit Breaker/Retry/TimeLimiter가 적용됨
+    private final ObjectProvider<TextModerationService> self;
 
     @Value("${moderation.enabled:true}")
     private boolean moderationEnabled;
@@ -47,6 +61,46 @@ public class TextModerationService {
             return CompletableFuture.completedFuture(new ModerationResult(false, null));
         }
 
+        // 1차: 금칙어 필터 (확정 금칙어는 즉시 차단, 금칙어 없는 짧은 텍스트는 즉시 통과, 그 외 금칙어 매치는 LLM이 최종 판정)
+        Timer.Sample preFilterSample = moderationMetrics.startTimer();
+        KeywordPreFilter.PreFilterResult preFilter = keywordPreFilter.classify(content);
+        moderationMetrics.recordStage(preFilterSample, ModerationMetrics.TYPE_TEXT, "prefilter", ModerationMetrics.NO_PROVIDER);
+        moderationMetrics.countDecision(ModerationMetrics.TYPE_TEXT, "prefilter", preFilter.decision().name().toLowerCase(Locale.ROOT));
+        if (preFilter.decision() == KeywordPreFilter.Decision.BLOCK) {
+            log.debug("텍스트 1차 필터 차단 - 금칙어: {}", preFilter.matchedTerm());
+            return CompletableFuture.completedFuture(new ModerationResult(true, BLOCKED_TERM_REASON));
+        }
+        if (!preFilter.requiresLlm()) {
+            log.debug("텍스트 1차 필터 통과 - 금칙어 없는 짧은 텍스트");
+            return CompletableFuture.completedFuture(new ModerationResult(false, null));
+        }
+        if (preFilter.decision() == KeywordPreFilter.Decision.SUSPECT) {
+            log.debug("텍스트 1차 필터 금칙어 매치, LLM 확인 요청 - 금칙어: {}", preFilter.matchedTerm());
+        }
+
+        // 같은 내용(정규화 기준)은 이전 판정을 재사용
+        Timer.Sample cacheSample = moderationMetrics.startTimer();
+        String cacheKey = moderationVerdictCache.textKey(content);
+        Optional<ModerationResult> cached = moderationVerdictCache.get(cacheKey);
+        moderationMetrics.recordStage(cacheSample, ModerationMetrics.TYPE_TEXT, "cache", ModerationMetrics.NO_PROVIDER);
+        if (cached.isPresent()) {
+            moderationMetrics.countDecision(ModerationMetrics.TYPE_TEXT, "cache", outcome(cached.get()));
+            log.debug("텍스트 검열 캐시 적중 - 부적절: {}", cached.get().isInappropriate());
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        Timer.Sample llmSample = moderationMetrics.startTimer();
+        if (textModerationBatcher.isEnabled()) {
+            // 동시에 들어온 검열 요청과 묶어 한 번의 LLM 요청으로 처리 (실패 시 Circuit Breaker가 폴백 메서드 호출)
+            return textModerationBatcher.submit(content)
+                    .whenComplete((result, throwable) -> {
+                        if (throwable != null) {
+                            moderationMetrics.countDecision(ModerationMetrics.TYPE_TEXT, "llm", "failure");
+                        }
+                    })
+                    .thenApply(result -> completeLlmStage(llmSample, cacheKey, result));
+        }
+
         try {
             ModerationResult result;
             
@@ -59,11 +113,11 @@ public class TextModerationService {
                 result = geminiInterviewerGateway.moderateContent(content);
             }
 
-            log.debug("텍스트 검열 완료 - 부적절: {}, 사유: {}", result.isInappropriate(), result.getReason());
-            return CompletableFuture.completedFuture(result);
+            return CompletableFuture.completedFuture(completeLlmStage(llmSample, cacheKey, result));
 
         } catch (Exception e) {
             log.error("텍스트 검열 중 오류 발생: {}", e.getMessage());
+            moderationMetrics.countDecision(ModerationMetrics.TYPE_TEXT, "llm", "failure");
             throw e; // Circuit Breaker가 폴백 메서드 호출
         }
     }
@@ -76,7 +130,7 @@ public class TextModerationService {
      */
     public CompletableFuture<ModerationResult> moderateTitleAndContent(String title, String content) {
         String combinedContent = (title != null ? title : "") + "\n" + (content != null ? content : "");
-        return moderateText(combinedContent.trim());
+        return self.getObject().moderateText(combinedContent.trim());
     }
 
     /**
@@ -88,6 +142,7 @@ public class TextModerationService {
     public CompletableFuture<ModerationResult> fallbackModeration(String content, Exception exception) {
         log.warn("Primary AI 검열 실패, 폴백 AI로 전환 - 예외: {}", exception.getMessage());
         
+        Timer.Sample fallbackSample = moderationMetrics.startTimer();
         try {
             ModerationResult result;
             
@@ -100,13 +155,17 @@ public class TextModerationService {
                 result = openAiInterviewerGateway.moderateContent(content);
             }
 
+            moderationMetrics.recordStage(fallbackSample, ModerationMetrics.TYPE_TEXT, "llm-fallback", fallbackProvider());
+            moderationMetrics.countDecision(ModerationMetrics.TYPE_TEXT, "llm-fallback", outcome(result));
+            moderationVerdictCache.put(moderationVerdictCache.textKey(content), result);
             log.info("폴백 AI 검열 성공 - 부적절: {}, 사유: {}", result.isInappropriate(), result.getReason());
             return CompletableFuture.completedFuture(result);
 
         } catch (Exception e) {
             log.error("폴백 AI 검열도 실패, 보수적으로 차단 처리: {}", e.getMessage());
+            moderationMetrics.countDecision(ModerationMetrics.TYPE_TEXT, "llm-fallback", "failure");
             // 모든 AI 제공자 실패 시 보수적으로 차단 (보안 우선)
-            return CompletableFuture.completedFuture(new ModerationResult(true, "AI 검열 시스템 장애로 인한 임시 차단 - 관리자 검토 필요"));
+            return CompletableFuture.completedFuture(ModerationResult.systemFailure());
         }
     }
 
@@ -127,7 +186,27 @@ public class TextModerationService {
             log.debug("장문 텍스트 검열 모드");
         }
 
-        return moderateText(content);
+        return self.getObject().moderateText(content);
+    }
+
+    private ModerationResult completeLlmStage(Timer.Sample llmSample, String cacheKey, ModerationResult result) {
+        moderationMetrics.recordStage(llmSample, ModerationMetrics.TYPE_TEXT, "llm", primaryProvider());
+        moderationMetrics.countDecision(ModerationMetrics.TYPE_TEXT, "llm", outcome(result));
+        moderationVerdictCache.put(cacheKey, result);
+        log.debug("텍스트 검열 완료 - 부적절: {}, 사유: {}", result.isInappropriate(), result.getReason());
+        return result;
+    }
+
+    private String primaryProvider() {
+        return "openai".equalsIgnoreCase(primaryAiProvider) ? "openai" : "gemini";
+    }
+
+    private String fallbackProvider() {
+        return "openai".equalsIgnoreCase(primaryAiProvider) ? "gemini" : "openai";
+    }
+
+    private String outcome(ModerationResult result) {
+        return result.isInappropriate() ? "block" : "pass";
     }
 
     /**
@@ -0,0 +1,130 @@
+package com.gaebang.backend.domain.community.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Predicate;
+
+/**
+ * Aho-Corasick 다중 패턴 매처
+ * - 금칙어 수와 무관하게 입력 길이에 비례한 시간으로 모든 등장 위치를 찾음
+ * - 생성 후에는 읽기 전용이므로 여러 스레드에서 동시에 사용 가능
+ */
+public final class AhoCorasickMatcher {
+
+    private final List<Node> nodes = new ArrayList<>();
+
+    public AhoCorasickMatcher(Iterable<String> patterns) {
+        nodes.add(new Node());
+        for (String pattern : patterns) {
+            insert(pattern);
+        }
+        buildFailureLinks();
+    }
+
+    /**
+     * 조건을 만족하는 첫 번째 매치를 반환 (없으면 null)
+     */
+    public Match findFirst(CharSequence text, Predicate<Match> accept) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            for (int output = state; output > 0; output = nodes.get(output).outputLink) {
+                String pattern = nodes.get(output).pattern;
+                if (pattern == null) {
+                    continue;
+                }
+                Match match = new Match(pattern, i - pattern.length() + 1, i + 1);
+                if (accept.test(match)) {
+                    return match;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 모든 매치를 반환
+     */
+    public List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        findFirst(text, match -> {
+            matches.add(match);
+            return false;
+        });
+        return matches;
+    }
+
+    public boolean isEmpty() {
+        return nodes.size() == 1;
+    }
+
+    private void insert(String pattern) {
+        if (pattern == null || pattern.isEmpty()) {
+            return;
+        }
+        int state = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            Integer child = nodes.get(state).children.get(c);
+            if (child == null) {
+                child = nodes.size();
+                nodes.add(new Node());
+                nodes.get(state).children.put(c, child);
+            }
+            state = child;
+        }
+        nodes.get(state).pattern = pattern;
+    }
+
+    private void buildFailureLinks() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : nodes.get(0).children.values()) {
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            Node node = nodes.get(state);
+            for (Map.Entry<Character, Integer> entry : node.children.entrySet()) {
+                int child = entry.getValue();
+                Node childNode = nodes.get(child);
+                childNode.failure = next(node.failure, entry.getKey());
+                Node failureNode = nodes.get(childNode.failure);
+                // 출력 링크는 패턴이 끝나는 가장 가까운 실패 노드를 가리킴
+                childNode.outputLink = failureNode.pattern != null ? childNode.failure : failureNode.outputLink;
+                queue.add(child);
+            }
+        }
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            Integer child = nodes.get(state).children.get(c);
+            if (child != null) {
+                return child;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = nodes.get(state).failure;
+        }
+    }
+
+    /**
+     * @param start 매치 시작 위치 (포함)
+     * @param end 매치 끝 위치 (미포함)
+     */
+    public record Match(String pattern, int start, int end) {
+    }
+
+    private static final class Node {
+        private final Map<Character, Integer> children = new HashMap<>();
+        private int failure;
+        private int outputLink;
+        private String pattern;
+    }
+}
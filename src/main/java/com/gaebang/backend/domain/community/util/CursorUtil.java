@@ -0,0 +1,49 @@
+package com.gaebang.backend.domain.community.util;
+
+import com.gaebang.backend.domain.community.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션용 연속 토큰 인코딩/디코딩
+ * (createdAt, id) 쌍을 URL-safe Base64 문자열로 감싸 클라이언트에는 불투명한 값으로 노출
+ */
+public final class CursorUtil {
+
+    private static final String DELIMITER = "|";
+
+    private CursorUtil() {
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 연속 토큰 해석
+     * @param cursor 클라이언트가 전달한 토큰 (없으면 첫 페이지)
+     * @return 해석된 커서, 토큰이 비어있으면 null
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, delimiterIndex));
+            Long id = Long.parseLong(raw.substring(delimiterIndex + 1));
+            return new Cursor(createdAt, id);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public record Cursor(LocalDateTime createdAt, Long id) {
+    }
+}
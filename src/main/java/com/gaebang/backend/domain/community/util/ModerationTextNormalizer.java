@@ -0,0 +1,142 @@
+package com.gaebang.backend.domain.community.util;
+
+import java.text.Normalizer;
+import java.util.BitSet;
+import java.util.Locale;
+
+/**
+ * 금칙어 매칭용 텍스트 정규화
+ * - NFKC + 소문자 변환 (전각 문자, 합자 등 통일)
+ * - 한글 음절을 자모로 분해하고 된소리/겹받침을 기본 자음으로 풀어 "ㅅㅂ", "씨발", "시ㅂ" 등 변형을 같은 형태로 맞춤
+ * - 글자 사이에 끼워 넣은 기호(., -, *, 이모지 등)는 제거하고, 흔한 숫자/기호 치환(0→o, @→a 등)은 되돌림
+ * - 공백은 제거하되 단어 시작 위치를 기록해 영문 금칙어의 단어 경계 판정에 사용
+ * - 글자(음절) 시작 위치도 기록해 "밥사"의 ㅂㅅ처럼 음절을 가로지르는 자모 매치를 걸러냄
+ */
+public final class ModerationTextNormalizer {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_END = 0xD7A3;
+    private static final int VOWEL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    private static final String[] INITIALS = {
+            "ㄱ", "ㄱ", "ㄴ", "ㄷ", "ㄷ", "ㄹ", "ㅁ", "ㅂ", "ㅂ", "ㅅ",
+            "ㅅ", "ㅇ", "ㅈ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄱ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅅ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private ModerationTextNormalizer() {
+    }
+
+    public static NormalizedText normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return new NormalizedText("", new BitSet(), new BitSet(), 0);
+        }
+
+        String source = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(source.length() * 2);
+        BitSet wordStarts = new BitSet();
+        BitSet letterStarts = new BitSet();
+        boolean atWordStart = true;
+        int letterCount = 0;
+
+        for (int i = 0; i < source.length(); ) {
+            int codePoint = source.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (Character.isWhitespace(codePoint)) {
+                atWordStart = true;
+                continue;
+            }
+
+            String folded = fold(codePoint);
+            if (folded == null) {
+                // 글자 사이에 끼워 넣은 기호는 단어를 끊지 않고 무시
+                continue;
+            }
+
+            if (atWordStart) {
+                wordStarts.set(normalized.length());
+                atWordStart = false;
+            }
+            letterStarts.set(normalized.length());
+            normalized.append(folded);
+            letterCount++;
+        }
+
+        return new NormalizedText(normalized.toString(), wordStarts, letterStarts, letterCount);
+    }
+
+    private static String fold(int codePoint) {
+        if (codePoint >= SYLLABLE_BASE && codePoint <= SYLLABLE_END) {
+            int offset = codePoint - SYLLABLE_BASE;
+            int initial = offset / (VOWEL_COUNT * FINAL_COUNT);
+            int vowel = (offset % (VOWEL_COUNT * FINAL_COUNT)) / FINAL_COUNT;
+            int finalConsonant = offset % FINAL_COUNT;
+            return INITIALS[initial] + (char) ('ㅏ' + vowel) + FINALS[finalConsonant];
+        }
+
+        if (codePoint >= 'ㄱ' && codePoint <= 'ㅎ') {
+            return foldCompatibilityConsonant((char) codePoint);
+        }
+
+        switch (codePoint) {
+            case '0': return "o";
+            case '1': return "i";
+            case '3': return "e";
+            case '4': case '@': return "a";
+            case '5': case '$': return "s";
+            case '7': return "t";
+            default: break;
+        }
+
+        if (Character.isLetterOrDigit(codePoint)) {
+            return new String(Character.toChars(codePoint));
+        }
+        return null;
+    }
+
+    // 단독으로 입력된 자음도 음절 분해 결과와 같은 형태로 맞춤
+    private static String foldCompatibilityConsonant(char consonant) {
+        return switch (consonant) {
+            case 'ㄲ' -> "ㄱ";
+            case 'ㄸ' -> "ㄷ";
+            case 'ㅃ' -> "ㅂ";
+            case 'ㅆ' -> "ㅅ";
+            case 'ㅉ' -> "ㅈ";
+            case 'ㄳ' -> "ㄱㅅ";
+            case 'ㄵ' -> "ㄴㅈ";
+            case 'ㄶ' -> "ㄴㅎ";
+            case 'ㄺ' -> "ㄹㄱ";
+            case 'ㄻ' -> "ㄹㅁ";
+            case 'ㄼ' -> "ㄹㅂ";
+            case 'ㄽ' -> "ㄹㅅ";
+            case 'ㄾ' -> "ㄹㅌ";
+            case 'ㄿ' -> "ㄹㅍ";
+            case 'ㅀ' -> "ㄹㅎ";
+            case 'ㅄ' -> "ㅂㅅ";
+            default -> String.valueOf(consonant);
+        };
+    }
+
+    /**
+     * @param text 정규화된 문자열 (공백/구분 기호 제거, 한글은 자모 단위)
+     * @param wordStarts 원문에서 단어가 시작되는 정규화 문자열 위치
+     * @param letterStarts 원문의 각 글자(음절)가 시작되는 정규화 문자열 위치
+     * @param letterCount 원문에서 공백/기호를 제외한 글자 수
+     */
+    public record NormalizedText(String text, BitSet wordStarts, BitSet letterStarts, int letterCount) {
+
+        public boolean isWordBoundary(int start, int end) {
+            return wordStarts.get(start) && (end >= text.length() || wordStarts.get(end));
+        }
+
+        public boolean isLetterBoundary(int start, int end) {
+            return letterStarts.get(start) && (end >= text.length() || letterStarts.get(end));
+        }
+    }
+}
@@ -14,7 +14,10 @@ import lombok.NoArgsConstructor;
 public class ConversationMessage extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "conversation_message_id_generator")
+    @TableGenerator(name = "conversation_message_id_generator", table = "id_generator",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "conversation_message", allocationSize = 50)
     @Column(name = "message_id")
     private Long messageId;
 
@@ -9,6 +9,7 @@ import com.gaebang.backend.domain.member.exception.*;
 import com.gaebang.backend.domain.member.repository.MemberRepository;
 import com.gaebang.backend.domain.pointTier.entity.PointTier;
 import com.gaebang.backend.domain.pointTier.repository.PointTierRepository;
+import com.gaebang.backend.domain.pointTier.service.PointTierLookupService;
 import com.gaebang.backend.global.springsecurity.PrincipalDetails;
 import com.gaebang.backend.global.util.NicknameGenerator;
 import com.gaebang.backend.global.util.ResponseDTO;
@@ -28,6 +29,7 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final BCryptPasswordEncoder passwordEncoder;
     private final PointTierRepository pointTierRepository;
+    private final PointTierLookupService pointTierLookupService;
 
     public SignUpResponseDto signup(SignUpRequestDto signUpRequestDto) {
 
@@ -117,11 +119,11 @@ public class MemberService {
     }
 
     public int getMemberTierOrder(Member member) {
-        return pointTierRepository.findTierOrderByPoints(member.getPoints());
+        return pointTierLookupService.getTierOrder(member.getPoints());
     }
 
     public int getMemberTierOrder(int memberPoints) {
-        return pointTierRepository.findTierOrderByPoints(memberPoints);
+        return pointTierLookupService.getTierOrder(memberPoints);
     }
 
     public void checkPassword(PrincipalDetails principalDetails,
@@ -1,5 +1,6 @@
 package com.gaebang.backend.domain.newsData.controller;
 
+import com.gaebang.backend.domain.community.dto.response.CursorPageResponseDto;
 import com.gaebang.backend.domain.newsData.dto.response.NewsDataResponseDTO;
 import com.gaebang.backend.domain.newsData.service.NewsDataService;
 import com.gaebang.backend.global.util.ResponseDTO;
@@ -8,7 +9,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,21 +25,76 @@ public class NewsDataController {
 
     // 뉴스 전체 조회
     @GetMapping("")
-    public ResponseEntity<ResponseDTO<List<NewsDataResponseDTO>>> getNewsData() {
+    public ResponseEntity<ResponseDTO<List<NewsDataResponseDTO>>> getNewsData(WebRequest webRequest) {
+        String eTag = newsFeedETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified (본문 직렬화 없음)
+        }
+
         List<NewsDataResponseDTO> newsData = newsDataService.getNewsData();
         ResponseDTO<List<NewsDataResponseDTO>> response = ResponseDTO.okWithData(newsData);
         return ResponseEntity
                 .status(response.getCode())
+                .eTag(eTag)
                 .body(response);
     }
 
     // 인기글 조회
     @GetMapping("/popular-news")
-    public ResponseEntity<ResponseDTO<List<NewsDataResponseDTO>>> getPopularNewsData() {
+    public ResponseEntity<ResponseDTO<List<NewsDataResponseDTO>>> getPopularNewsData(WebRequest webRequest) {
+        String eTag = newsFeedETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified (본문 직렬화 없음)
+        }
+
         List<NewsDataResponseDTO> newsData = newsDataService.getPopularNewsData();
         ResponseDTO<List<NewsDataResponseDTO>> response = ResponseDTO.okWithData(newsData);
         return ResponseEntity
                 .status(response.getCode())
+                .eTag(eTag)
+                .body(response);
+    }
+
+    // 뉴스 조회(커서 기반, 무한 스크롤용)
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseDTO<CursorPageResponseDto<NewsDataResponseDTO>>> getNewsDataByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            WebRequest webRequest) {
+        String eTag = newsFeedETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified (본문 직렬화 없음)
+        }
+
+        CursorPageResponseDto<NewsDataResponseDTO> newsData = newsDataService.getNewsDataByCursor(cursor, size);
+        ResponseDTO<CursorPageResponseDto<NewsDataResponseDTO>> response = ResponseDTO.okWithData(newsData);
+        return ResponseEntity
+                .status(response.getCode())
+                .eTag(eTag)
                 .body(response);
     }
+
+    // 인기글 조회(커서 기반, 무한 스크롤용)
+    @GetMapping("/popular-news/cursor")
+    public ResponseEntity<ResponseDTO<CursorPageResponseDto<NewsDataResponseDTO>>> getPopularNewsDataByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            WebRequest webRequest) {
+        String eTag = newsFeedETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified (본문 직렬화 없음)
+        }
+
+        CursorPageResponseDto<NewsDataResponseDTO> newsData = newsDataService.getPopularNewsDataByCursor(cursor, size);
+        ResponseDTO<CursorPageResponseDto<NewsDataResponseDTO>> response = ResponseDTO.okWithData(newsData);
+        return ResponseEntity
+                .status(response.getCode())
+                .eTag(eTag)
+                .body(response);
+    }
+
+    // 피드 스냅샷 버전 기반 ETag (같은 URL이면 스냅샷이 바뀌지 않는 한 응답이 같음)
+    private String newsFeedETag() {
+        return "\"news-" + newsDataService.getNewsFeedVersion() + "\"";
+    }
 }
@@ -14,7 +14,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Entity
-@Table(name = "news")
+@Table(name = "news", uniqueConstraints = @UniqueConstraint(name = "uk_news_link", columnNames = "link"))
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -22,7 +22,10 @@ import java.time.format.DateTimeFormatter;
 public class NewsData extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "news_id_generator")
+    @TableGenerator(name = "news_id_generator", table = "id_generator",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "news", allocationSize = 50)
     private Long newsId;
 
     @Column(name = "title")
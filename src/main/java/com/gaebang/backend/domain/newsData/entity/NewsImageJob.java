@@ -0,0 +1,56 @@
+package com.gaebang.backend.domain.newsData.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 이미지 생성 작업 큐 (DB 기반)
+ * - 이미지가 없는 활성 뉴스당 한 행, 서버가 재시작되어도 남은 작업부터 이어서 생성
+ * - priority가 높은(인기 뉴스) 작업부터 가져감
+ * - 실제 등록/점유/완료는 NewsImageJobQueue에서 JdbcTemplate으로 처리하고, 엔티티는 스키마 관리용
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Builder
+@Entity
+@Table(name = "news_image_job",
+        indexes = {
+                @Index(name = "idx_news_image_job_claim", columnList = "status, priority, available_at")
+        })
+public class NewsImageJob {
+
+    @Id
+    @Column(name = "news_id")
+    private Long newsId;
+
+    // 1: 인기 뉴스, 0: 일반 뉴스
+    @Column(nullable = false)
+    private Integer priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NewsImageJobStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    // 이 시각 이후에 가져갈 수 있음 (재시도/쿼터 백오프)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    // 처리 중인 작업의 가시성 제한 시각, 지나면 다시 가져감
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "enqueued_at", nullable = false)
+    private LocalDateTime enqueuedAt;
+}
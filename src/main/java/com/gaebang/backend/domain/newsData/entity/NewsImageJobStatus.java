@@ -0,0 +1,11 @@
+package com.gaebang.backend.domain.newsData.entity;
+
+/**
+ * 뉴스 이미지 생성 작업 상태
+ * 완료된 작업은 행을 삭제하므로 상태로 두지 않음
+ */
+public enum NewsImageJobStatus {
+    PENDING,     // 생성 대기 (available_at 이후 가져갈 수 있음)
+    PROCESSING,  // 스케줄러가 가져가 생성 중 (locked_until이 지나면 다시 가져갈 수 있음)
+    FAILED       // 재시도 횟수 초과 또는 재시도해도 소용없는 오류
+}
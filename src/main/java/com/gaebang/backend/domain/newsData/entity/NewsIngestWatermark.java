@@ -0,0 +1,45 @@
+package com.gaebang.backend.domain.newsData.entity;
+
+import com.gaebang.backend.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 검색어별 증분 수집 위치
+ * - 최신순(sort=date)으로 가져온 결과 중 가장 최근 기사(발행 시각, 링크)를 저장
+ * - 다음 수집 시 이 시각보다 오래된 기사가 나오면 페이지 탐색을 멈춤
+ */
+@Entity
+@Table(name = "news_ingest_watermark")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class NewsIngestWatermark extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "search_query", length = 100)
+    private String query;
+
+    @Column(name = "last_pub_date")
+    private LocalDateTime lastPubDate;
+
+    @Column(name = "last_link")
+    private String lastLink;
+
+    // 더 최근 기사일 때만 위치를 앞으로 옮김
+    public void advanceTo(LocalDateTime pubDate, String link) {
+        if (pubDate == null) {
+            return;
+        }
+        if (lastPubDate == null || pubDate.isAfter(lastPubDate)) {
+            this.lastPubDate = pubDate;
+            this.lastLink = link;
+        }
+    }
+}
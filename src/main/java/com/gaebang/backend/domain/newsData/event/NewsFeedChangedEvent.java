@@ -0,0 +1,17 @@
+package com.gaebang.backend.domain.newsData.event;
+
+/**
+ * 뉴스 피드에 노출되는 데이터(인기/비활성 표시, 이미지 URL 등)가 바뀌었음을 알림
+ * 피드 스냅샷을 다시 만들도록 하는 용도
+ */
+public class NewsFeedChangedEvent {
+    private final String reason;
+
+    public NewsFeedChangedEvent(String reason) {
+        this.reason = reason;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
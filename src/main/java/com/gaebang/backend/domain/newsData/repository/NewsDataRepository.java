@@ -1,22 +1,32 @@
 package com.gaebang.backend.domain.newsData.repository;
 
 import com.gaebang.backend.domain.newsData.entity.NewsData;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface NewsDataRepository extends JpaRepository<NewsData, Long> {
 
-    // 중복 체크용 (서비스에서 사용)
-    @Query(value = "SELECT COUNT(*) FROM news WHERE link = ?1", nativeQuery = true)
-    Long countExistingByLink(String link);
+    // 중복 체크용 - 주어진 링크 중 이미 저장된 링크 (서비스에서 사용)
+    @Query("SELECT n.link FROM NewsData n WHERE n.link IN :links")
+    List<String> findExistingLinks(@Param("links") Collection<String> links);
+
+    // 링크 필터 워밍업용 - 전체 링크를 한 번에 메모리에 올리지 않도록 스트리밍 조회 (트랜잭션 안에서 사용 후 close)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT n.link FROM NewsData n")
+    Stream<String> streamAllLinks();
 
     // 특정 기간 뉴스 조회
     List<NewsData> findByPubDateBetween(LocalDateTime start, LocalDateTime end);
@@ -33,6 +43,9 @@ public interface NewsDataRepository extends JpaRepository<NewsData, Long> {
     @Query("SELECT n FROM NewsData n WHERE n.pubDate >= :startDate AND n.pubDate < :endDate ORDER BY n.pubDate DESC")
     List<NewsData> findNewsByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
+    // 특정 시각 이후 저장된 뉴스 조회 (유사 뉴스 탐지용, 발행 시각 오름차순)
+    List<NewsData> findByCreatedAtGreaterThanEqualOrderByPubDateAsc(LocalDateTime createdAt);
+
     // isPopular를 1로 설정하는 메서드
     @Modifying
     @Transactional
@@ -56,14 +69,6 @@ public interface NewsDataRepository extends JpaRepository<NewsData, Long> {
     @Query("SELECT n FROM NewsData n WHERE (n.imageUrl IS NULL OR n.imageUrl = '') AND n.isActive = 1 ORDER BY n.pubDate DESC")
     List<NewsData> findAllByImageUrlIsNullOrEmpty();
 
-    // 배치 처리를 위한 페이징 조회 메서드
-    @Query(value = "SELECT * FROM news WHERE (image_url IS NULL OR image_url = '') AND is_active = 1 ORDER BY pub_date DESC LIMIT :batchSize OFFSET :offset", nativeQuery = true)
-    List<NewsData> findNewsWithoutImagesByBatch(@Param("batchSize") int batchSize, @Param("offset") int offset);
-
-    // 이미지가 없는 뉴스 총 개수 조회
-    @Query("SELECT COUNT(n) FROM NewsData n WHERE (n.imageUrl IS NULL OR n.imageUrl = '') AND n.isActive = 1")
-    Long countNewsWithoutImages();
-
     // test용도
     List<NewsData> findTop40ByOrderByPubDateDesc();
 
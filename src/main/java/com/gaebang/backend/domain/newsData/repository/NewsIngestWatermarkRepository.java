@@ -0,0 +1,9 @@
+package com.gaebang.backend.domain.newsData.repository;
+
+import com.gaebang.backend.domain.newsData.entity.NewsIngestWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NewsIngestWatermarkRepository extends JpaRepository<NewsIngestWatermark, String> {
+}
@@ -1,30 +1,43 @@
 package com.gaebang.backend.domain.newsData.service;
 
+import com.gaebang.backend.domain.community.dto.response.CursorPageResponseDto;
 import com.gaebang.backend.domain.newsData.dto.response.NewsDataResponseDTO;
 import com.gaebang.backend.domain.newsData.entity.NewsData;
+import com.gaebang.backend.domain.newsData.entity.NewsIngestWatermark;
 import com.gaebang.backend.domain.newsData.event.NewsCreatedEvent;
 import com.gaebang.backend.domain.newsData.repository.NewsDataRepository;
+import com.gaebang.backend.domain.newsData.repository.NewsIngestWatermarkRepository;
 import com.gaebang.backend.domain.newsData.util.HtmlUtils;
 import com.gaebang.backend.domain.newsData.util.HttpClientUtil;
+import com.gaebang.backend.domain.newsData.util.KnownLinkFilter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.cdimascio.dotenv.Dotenv;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -36,41 +49,102 @@ public class NewsDataService {
     private final HttpClientUtil httpClient;
     private final NewsDataRepository newsRepository;
     private final ObjectMapper objectMapper;
+    private final NewsIngestWatermarkRepository watermarkRepository;
+    private final NewsFeedCache newsFeedCache;
+    private final TransactionTemplate transactionTemplate;
     private static Dotenv dotenv = Dotenv.load();
 
     @Value("${news.active}")
     private String newsActive;
 
+    // 수집할 검색어 (쉼표로 구분)
+    @Value("${news.ingest.keywords:it}")
+    private List<String> keywords;
+
+    // date: 최신순 증분 수집, sim: 관련도순 첫 페이지만 수집
+    @Value("${news.ingest.sort:date}")
+    private String sort;
+
+    // 증분 수집 시 검색어당 최대 페이지 수 (페이지당 100건)
+    @Value("${news.ingest.max-pages-per-query:5}")
+    private int maxPagesPerQuery;
+
+    // 수집 위치보다 이만큼 이전 기사까지 다시 훑음 (발행 시각보다 늦게 검색에 잡히는 기사를 놓치지 않도록)
+    @Value("${news.ingest.watermark-overlap-minutes:60}")
+    private long watermarkOverlapMinutes;
+
+    // 링크 중복 확인용 블룸 필터 크기 (저장된 뉴스 수보다 넉넉하게)
+    @Value("${news.link-filter.expected-insertions:100000}")
+    private long linkFilterExpectedInsertions;
+
+    @Value("${news.link-filter.false-positive-rate:0.01}")
+    private double linkFilterFalsePositiveRate;
+
+    private KnownLinkFilter knownLinkFilter;
+
     private String clientId = dotenv.get("X_Naver_Client_Id");
     private String clientSecret = dotenv.get("X_Naver_Client_Secret");
 
     private static final String NAVER_NEWS_API_URL = "https://openapi.naver.com/v1/search/news.json";
     private static final int DEFAULT_DISPLAY_COUNT = 100;
+    private static final int NAVER_MAX_START = 1000;
+    private static final String SORT_BY_DATE = "date";
 
     @Autowired
     private ApplicationEventPublisher eventPublisher;
 
-    // 뉴스 전체 조회
-    public List<NewsDataResponseDTO> getNewsData() {
-        List<NewsData> newsData = newsRepository.findAllActiveNewsOrderByPubDateDesc();
+    @PostConstruct
+    void initLinkFilter() {
+        knownLinkFilter = new KnownLinkFilter("뉴스", linkFilterExpectedInsertions,
+                linkFilterFalsePositiveRate, newsRepository::findExistingLinks);
+    }
 
-        return newsData.stream()
-                .map(news -> NewsDataResponseDTO.fromEntity(news))
-                .collect(Collectors.toList());
+    // 뉴스 전체 조회 (피드 스냅샷에서 반환)
+    public List<NewsDataResponseDTO> getNewsData() {
+        return newsFeedCache.getAll();
     }
 
-    // 인기글 조회
+    // 인기글 조회 (피드 스냅샷에서 반환)
     public List<NewsDataResponseDTO> getPopularNewsData() {
-        List<NewsData> newsData = newsRepository.findAllActiveNewsAndPopularNewsOrderByPubDateDesc();
+        return newsFeedCache.getPopular();
+    }
 
-        return newsData.stream()
-                .map(news -> NewsDataResponseDTO.fromEntity(news))
-                .collect(Collectors.toList());
+    // 뉴스 조회 (커서 기반, 무한 스크롤용)
+    public CursorPageResponseDto<NewsDataResponseDTO> getNewsDataByCursor(String cursor, int size) {
+        return newsFeedCache.getPage(false, cursor, size);
+    }
+
+    // 인기글 조회 (커서 기반, 무한 스크롤용)
+    public CursorPageResponseDto<NewsDataResponseDTO> getPopularNewsDataByCursor(String cursor, int size) {
+        return newsFeedCache.getPage(true, cursor, size);
+    }
+
+    // 뉴스 피드 버전 (조건부 요청의 ETag로 사용)
+    public String getNewsFeedVersion() {
+        return newsFeedCache.getVersion();
+    }
+
+    // 기동 시 저장된 뉴스 링크로 중복 확인용 블룸 필터를 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpLinkFilter() {
+        if (newsActive.equals("false")) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<String> links = newsRepository.streamAllLinks()) {
+                    knownLinkFilter.warmUp(links);
+                }
+            });
+        } catch (Exception e) {
+            // 워밍업에 실패해도 IN 쿼리로 중복을 확인하므로 수집은 계속 동작함
+            log.error("뉴스 링크 필터 워밍업 실패: {}", e.getMessage());
+        }
     }
 
     // 뉴스 데이터를 조회하고 DB에 저장
     @Scheduled(cron = "0 */5 * * * *", zone = "Asia/Seoul") // 5분마다 실행
-    @Transactional
     public void fetchAndSaveNews() {
 
         if (newsActive.equals("false")) {
@@ -80,23 +154,33 @@ public class NewsDataService {
         try {
             log.info("scheduled 실행 중");
 
-            String response = getNewsApiResponse();
-            List<NewsData> newsDataList = parseNewsResponse(response);
-
-            // 중복 제거 (링크 기준)
-            newsDataList = removeDuplicates(newsDataList);
-
-            // 이미 존재하는 뉴스 필터링
-            newsDataList = filterExistingNews(newsDataList);
-
-            if (!newsDataList.isEmpty()) {
-                // 핵심 뉴스 저장만 동기 처리
-                newsRepository.saveAll(newsDataList);
-                log.info("뉴스 데이터 {}건 저장 완료", newsDataList.size());
+            // API 호출은 트랜잭션 밖에서 처리 (응답을 기다리는 동안 DB 커넥션을 잡지 않음)
+            // 검색어별로 가져온 기사는 링크 기준으로 한데 모아 중복 확인 후 한 번에 저장
+            Map<String, NewsIngestWatermark> watermarks = loadWatermarks();
+            List<JsonNode> items = new ArrayList<>();
+            for (NewsIngestWatermark watermark : watermarks.values()) {
+                try {
+                    items.addAll(fetchNewItems(watermark));
+                } catch (Exception e) {
+                    // 한 검색어가 실패해도 나머지는 저장 (실패한 검색어의 수집 위치는 그대로 유지)
+                    log.warn("뉴스 검색어 수집 실패 - 키워드: {}, 오류: {}", watermark.getQuery(), e.getMessage());
+                }
+            }
 
-                // 이벤트 발행 (트랜잭션 커밋 후 처리됨)
-                eventPublisher.publishEvent(new NewsCreatedEvent(newsDataList.size()));
+            List<NewsData> savedNews;
+            try {
+                savedNews = saveNewNews(items, watermarks.values());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 서버가 같은 링크를 먼저 저장한 경우 - 유니크 인덱스로 중복 저장은 막히고 전체가 롤백됨
+                // 이번에 가져온 링크를 필터에 올려 DB 확인 대상으로 만든 뒤 한 번만 다시 시도
+                log.warn("뉴스 링크 중복으로 저장 실패, 재시도: {}", e.getMessage());
+                knownLinkFilter.register(toNewsData(items).stream().map(NewsData::getLink).toList());
+                savedNews = saveNewNews(items, watermarks.values());
+            }
 
+            if (!savedNews.isEmpty()) {
+                knownLinkFilter.register(savedNews.stream().map(NewsData::getLink).toList());
+                log.info("뉴스 데이터 {}건 저장 완료", savedNews.size());
                 log.info("비동기 작업들 시작됨 - 중복 분석 & 이미지 생성");
             } else {
                 log.info("저장할 새로운 뉴스가 없습니다.");
@@ -109,13 +193,121 @@ public class NewsDataService {
         }
     }
 
+    // 검색어별 수집 위치 조회 (처음 수집하는 검색어는 빈 위치로 시작)
+    private Map<String, NewsIngestWatermark> loadWatermarks() {
+        List<String> queries = keywords.stream()
+                .map(String::trim)
+                .filter(keyword -> !keyword.isEmpty())
+                .distinct()
+                .toList();
+
+        Map<String, NewsIngestWatermark> stored = watermarkRepository.findAllById(queries).stream()
+                .collect(Collectors.toMap(NewsIngestWatermark::getQuery, Function.identity()));
+
+        Map<String, NewsIngestWatermark> watermarks = new LinkedHashMap<>();
+        for (String query : queries) {
+            watermarks.put(query, stored.getOrDefault(query, NewsIngestWatermark.builder().query(query).build()));
+        }
+        return watermarks;
+    }
+
+    /**
+     * 한 검색어의 신규 기사 수집
+     * - 최신순(sort=date)으로 페이지를 넘기다 (수집 위치 - watermark-overlap-minutes)보다 오래된 기사가 나오면 멈춤
+     *   검색 색인이 늦은 기사는 이미 본 기사들 사이에 끼어 나오므로, 겹치는 구간을 다시 훑고 중복은 링크 필터/DB 확인으로 걸러냄
+     * - 처음 수집하는 검색어는 첫 페이지만 가져옴
+     * - 가장 최근 기사로 수집 위치를 옮겨두고, 저장 트랜잭션에서 뉴스와 함께 반영
+     * - sort=sim이면 예전처럼 관련도순 첫 페이지만 가져옴
+     */
+    private List<JsonNode> fetchNewItems(NewsIngestWatermark watermark) throws Exception {
+        String query = watermark.getQuery();
+        if (!SORT_BY_DATE.equals(sort)) {
+            return extractItems(getNewsApiResponse(query, 1, sort));
+        }
+
+        LocalDateTime since = watermark.getLastPubDate();
+        LocalDateTime cutoff = since == null ? null : since.minusMinutes(watermarkOverlapMinutes);
+        int pages = since == null ? 1 : Math.max(1, maxPagesPerQuery);
+
+        List<JsonNode> collected = new ArrayList<>();
+        LocalDateTime newestPubDate = null;
+        String newestLink = null;
+
+        for (int page = 0; page < pages; page++) {
+            int start = page * DEFAULT_DISPLAY_COUNT + 1;
+            if (start > NAVER_MAX_START) {
+                break;
+            }
+
+            List<JsonNode> items = extractItems(getNewsApiResponse(query, start, SORT_BY_DATE));
+            List<JsonNode> pageItems = new ArrayList<>();
+            boolean reachedWatermark = false;
+
+            for (JsonNode item : items) {
+                NewsData news;
+                try {
+                    news = createNewsDataFromJson(item);
+                } catch (Exception e) {
+                    log.warn("뉴스 아이템 파싱 중 오류 - 해당 아이템 건너뜀: {}", e.getMessage());
+                    continue;
+                }
+
+                LocalDateTime pubDate = news.getPubDate();
+                if (cutoff != null && pubDate != null && pubDate.isBefore(cutoff)) {
+                    reachedWatermark = true;
+                    break;
+                }
+                if (pubDate != null && (newestPubDate == null || pubDate.isAfter(newestPubDate))) {
+                    newestPubDate = pubDate;
+                    newestLink = news.getLink();
+                }
+                pageItems.add(item);
+            }
+            collected.addAll(pageItems);
+
+            if (reachedWatermark || items.size() < DEFAULT_DISPLAY_COUNT) {
+                break;
+            }
+        }
+
+        watermark.advanceTo(newestPubDate, newestLink);
+        log.info("뉴스 검색어 수집 - 키워드: {}, 수집 위치: {}, 가져온 기사: {}", query, since, collected.size());
+        return collected;
+    }
+
+    // 가져온 기사 중 신규 뉴스만 골라 수집 위치와 함께 한 트랜잭션으로 저장
+    private List<NewsData> saveNewNews(List<JsonNode> items, Collection<NewsIngestWatermark> watermarks) {
+        List<NewsData> parsed = toNewsData(items);
+
+        List<NewsData> saved = transactionTemplate.execute(status -> {
+            // 중복 제거 (링크 기준)
+            List<NewsData> newsDataList = removeDuplicates(parsed);
+
+            // 이미 존재하는 뉴스 필터링
+            newsDataList = filterExistingNews(newsDataList);
+
+            if (!newsDataList.isEmpty()) {
+                // 핵심 뉴스 저장만 동기 처리 (JDBC 배치 INSERT, 유니크 인덱스 위반은 여기서 바로 드러나도록 flush)
+                newsRepository.saveAllAndFlush(newsDataList);
+
+                // 이벤트 발행 (트랜잭션 커밋 후 처리됨)
+                eventPublisher.publishEvent(new NewsCreatedEvent(newsDataList.size()));
+            }
+
+            // 뉴스 저장이 커밋될 때만 수집 위치가 앞으로 이동
+            watermarkRepository.saveAll(watermarks);
+            return newsDataList;
+        });
+        return saved == null ? List.of() : saved;
+    }
+
     // API 응답 조회
-    private String getNewsApiResponse() throws Exception {
-        String encodedQuery = URLEncoder.encode("it", StandardCharsets.UTF_8);
-        String apiUrl = buildApiUrl(encodedQuery, DEFAULT_DISPLAY_COUNT, 1, "sim");
+    private String getNewsApiResponse(String query, int start, String sort) {
+        String encodedQuery = URLEncoder.encode(query, StandardCharsets.UTF_8);
+        String apiUrl = buildApiUrl(encodedQuery, DEFAULT_DISPLAY_COUNT, start, sort);
         Map<String, String> headers = buildHeaders();
 
-        log.info("네이버 뉴스 API 호출 - 키워드: {}, 개수: {}, 시작: {}, 정렬: {}", "it", DEFAULT_DISPLAY_COUNT, 1, "sim");
+        log.info("네이버 뉴스 API 호출 - 키워드: {}, 개수: {}, 시작: {}, 정렬: {}", query, DEFAULT_DISPLAY_COUNT, start, sort);
 
         String response = httpClient.get(apiUrl, headers);
         log.info("네이버 뉴스 API 응답 수신 완료");
@@ -123,21 +315,30 @@ public class NewsDataService {
         return response;
     }
 
-    // JSON 응답을 NewsData 엔티티 리스트로 변환
-    private List<NewsData> parseNewsResponse(String response) throws Exception {
+    // JSON 응답에서 기사 아이템 추출
+    private List<JsonNode> extractItems(String response) throws Exception {
         JsonNode jsonNode = objectMapper.readTree(response);
 
-        List<NewsData> newsDataList = new ArrayList<>();
+        List<JsonNode> itemList = new ArrayList<>();
         JsonNode items = jsonNode.get("items");
 
         if (items != null && items.isArray()) {
-            for (JsonNode item : items) {
-                try {
-                    NewsData newsData = createNewsDataFromJson(item);
-                    newsDataList.add(newsData);
-                } catch (Exception e) {
-                    log.warn("뉴스 아이템 파싱 중 오류 - 해당 아이템 건너뜀: {}", e.getMessage());
-                }
+            items.forEach(itemList::add);
+        }
+
+        return itemList;
+    }
+
+    // 기사 아이템을 NewsData 엔티티 리스트로 변환 (저장 재시도 시 새 엔티티가 필요하므로 매번 새로 만듦)
+    private List<NewsData> toNewsData(List<JsonNode> items) {
+        List<NewsData> newsDataList = new ArrayList<>();
+
+        for (JsonNode item : items) {
+            try {
+                NewsData newsData = createNewsDataFromJson(item);
+                newsDataList.add(newsData);
+            } catch (Exception e) {
+                log.warn("뉴스 아이템 파싱 중 오류 - 해당 아이템 건너뜀: {}", e.getMessage());
             }
         }
 
@@ -175,13 +376,13 @@ public class NewsDataService {
                 .collect(Collectors.toList());
     }
 
-    // 이미 DB에 존재하는 뉴스 필터링
+    // 이미 DB에 존재하는 뉴스 필터링 (블룸 필터로 후보를 줄이고 IN 쿼리 한 번으로 확인)
     private List<NewsData> filterExistingNews(List<NewsData> newsList) {
+        Set<String> existingLinks = knownLinkFilter.findExisting(
+                newsList.stream().map(NewsData::getLink).toList());
+
         return newsList.stream()
-                .filter(news -> {
-                    Long count = newsRepository.countExistingByLink(news.getLink());
-                    return count == 0; // 0이면 존재하지 않음
-                })
+                .filter(news -> !existingLinks.contains(news.getLink()))
                 .collect(Collectors.toList());
     }
 
@@ -0,0 +1,186 @@
+package com.gaebang.backend.domain.newsData.service;
+
+import com.gaebang.backend.domain.community.dto.response.CursorPageResponseDto;
+import com.gaebang.backend.domain.community.util.CursorUtil;
+import com.gaebang.backend.domain.newsData.dto.response.NewsDataResponseDTO;
+import com.gaebang.backend.domain.newsData.event.NewsCreatedEvent;
+import com.gaebang.backend.domain.newsData.event.NewsFeedChangedEvent;
+import com.gaebang.backend.domain.newsData.repository.NewsDataRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 뉴스 피드 스냅샷 캐시
+ * - 활성 뉴스 전체/인기 뉴스를 (pubDate, newsId) 내림차순으로 정렬한 응답 DTO 목록을 불변 스냅샷으로 보관
+ * - 뉴스 저장, 중복/인기 표시, 이미지 URL 반영 이벤트가 오면 변경 표시만 하고 다음 조회 때 한 번 다시 만듦
+ * - 다른 서버에서 바뀐 데이터도 반영되도록 max-age가 지난 스냅샷은 변경이 없어도 다시 만듦
+ * - 스냅샷 내용으로 계산한 버전을 ETag로 사용하므로 내용이 같으면 서버가 달라도 같은 ETag가 나옴
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class NewsFeedCache {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    // (pubDate, newsId) 내림차순, pubDate가 없는 뉴스는 맨 뒤
+    private static final Comparator<NewsDataResponseDTO> FEED_ORDER = Comparator
+            .comparing(NewsFeedCache::sortKey, Comparator.reverseOrder())
+            .thenComparing(NewsDataResponseDTO::newsId, Comparator.reverseOrder());
+
+    private final NewsDataRepository newsRepository;
+
+    @Value("${news.feed.max-age-seconds:300}")
+    private long maxAgeSeconds;
+
+    private final AtomicLong changeCount = new AtomicLong();
+    private final Object rebuildLock = new Object();
+    private volatile FeedSnapshot snapshot;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleNewsCreated(NewsCreatedEvent event) {
+        changeCount.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleNewsFeedChanged(NewsFeedChangedEvent event) {
+        changeCount.incrementAndGet();
+        log.debug("뉴스 피드 변경 - 사유: {}", event.getReason());
+    }
+
+    // 활성 뉴스 전체 (변경 불가 목록)
+    public List<NewsDataResponseDTO> getAll() {
+        return current().all();
+    }
+
+    // 인기 뉴스 전체 (변경 불가 목록)
+    public List<NewsDataResponseDTO> getPopular() {
+        return current().popular();
+    }
+
+    // 현재 스냅샷 버전 (ETag용)
+    public String getVersion() {
+        return current().version();
+    }
+
+    /**
+     * 커서 기반 페이지 조회
+     * @param popular true면 인기 뉴스만
+     * @param cursor 이전 페이지의 nextCursor (없으면 첫 페이지)
+     */
+    public CursorPageResponseDto<NewsDataResponseDTO> getPage(boolean popular, String cursor, int size) {
+        FeedSnapshot current = current();
+        List<NewsDataResponseDTO> feed = popular ? current.popular() : current.all();
+        CursorUtil.Cursor decodedCursor = CursorUtil.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        int from = decodedCursor == null ? 0 : indexAfter(feed, decodedCursor);
+        int to = Math.min(from + pageSize, feed.size());
+        List<NewsDataResponseDTO> pageNews = feed.subList(from, to);
+        boolean hasNext = to < feed.size();
+
+        String nextCursor = null;
+        if (hasNext) {
+            NewsDataResponseDTO last = pageNews.get(pageNews.size() - 1);
+            nextCursor = CursorUtil.encode(sortKey(last), last.newsId());
+        }
+
+        return CursorPageResponseDto.<NewsDataResponseDTO>builder()
+                .content(pageNews)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalCount((long) feed.size())
+                .build();
+    }
+
+    private FeedSnapshot current() {
+        FeedSnapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+
+        synchronized (rebuildLock) {
+            current = snapshot;
+            if (isFresh(current)) {
+                return current;
+            }
+            current = rebuild();
+            snapshot = current;
+            return current;
+        }
+    }
+
+    private boolean isFresh(FeedSnapshot current) {
+        return current != null
+                && current.changeCount() == changeCount.get()
+                && Duration.between(current.builtAt(), LocalDateTime.now()).getSeconds() < maxAgeSeconds;
+    }
+
+    private FeedSnapshot rebuild() {
+        // 조회 도중 들어온 변경은 다음 조회에서 다시 반영되도록 조회 전에 읽어둠
+        long observedChangeCount = changeCount.get();
+
+        List<NewsDataResponseDTO> all = newsRepository.findAllActiveNewsOrderByPubDateDesc().stream()
+                .map(NewsDataResponseDTO::fromEntity)
+                .sorted(FEED_ORDER)
+                .toList();
+        List<NewsDataResponseDTO> popular = all.stream()
+                .filter(news -> Integer.valueOf(1).equals(news.isPopular()))
+                .toList();
+
+        FeedSnapshot rebuilt = new FeedSnapshot(all, popular, computeVersion(all),
+                observedChangeCount, LocalDateTime.now());
+        log.debug("뉴스 피드 스냅샷 갱신 - 전체: {}, 인기: {}, 버전: {}", all.size(), popular.size(), rebuilt.version());
+        return rebuilt;
+    }
+
+    // 커서 바로 다음 위치 (정렬된 목록에서 이진 탐색)
+    private int indexAfter(List<NewsDataResponseDTO> feed, CursorUtil.Cursor cursor) {
+        int low = 0;
+        int high = feed.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            NewsDataResponseDTO news = feed.get(mid);
+            int compare = sortKey(news).compareTo(cursor.createdAt());
+            if (compare == 0) {
+                compare = news.newsId().compareTo(cursor.id());
+            }
+            // 내림차순이므로 커서보다 크거나 같은 항목은 앞쪽
+            if (compare >= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 응답에 노출되는 필드로 계산한 내용 해시
+    private String computeVersion(List<NewsDataResponseDTO> all) {
+        long hash = 1125899906842597L;
+        for (NewsDataResponseDTO news : all) {
+            hash = 31 * hash + news.hashCode();
+        }
+        return Long.toHexString(hash) + "-" + all.size();
+    }
+
+    private static LocalDateTime sortKey(NewsDataResponseDTO news) {
+        return news.pubDate() != null ? news.pubDate() : LocalDateTime.MIN;
+    }
+
+    // all/popular는 Stream.toList()로 만든 변경 불가 목록
+    private record FeedSnapshot(List<NewsDataResponseDTO> all, List<NewsDataResponseDTO> popular, String version,
+                                long changeCount, LocalDateTime builtAt) {
+    }
+}
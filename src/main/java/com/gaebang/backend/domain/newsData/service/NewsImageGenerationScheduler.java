@@ -0,0 +1,154 @@
+package com.gaebang.backend.domain.newsData.service;
+
+import com.gaebang.backend.domain.newsData.service.NewsImageJobQueue.ClaimedImageJob;
+import com.gaebang.backend.domain.newsData.service.NewsImageService.ImageGenerationResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 뉴스 이미지 생성 스케줄러
+ * - news_image_job에서 인기 뉴스부터 작업을 점유하여 이미지 생성 스레드풀(newsImageExecutor)에 넘김
+ * - 토큰 버킷(NewsImageRateLimiter)에서 토큰을 얻은 만큼만 점유하므로 배치/스레드 수와 관계없이 전체 호출 속도가 일정함
+ * - 쿼터 초과 시 응답이 알려준 시간만큼 전체를 멈추고, 해당 작업은 시도 횟수를 소모하지 않고 돌려놓음
+ * - 작업 상태가 DB에 있으므로 재시작 후 남은 작업부터 이어서 처리
+ */
+@Slf4j
+@Component
+public class NewsImageGenerationScheduler {
+
+    private final NewsImageJobQueue newsImageJobQueue;
+    private final NewsImageRateLimiter newsImageRateLimiter;
+    private final NewsImageService newsImageService;
+    private final Executor newsImageExecutor;
+
+    @Value("${news.image.enabled:true}")
+    private boolean enabled;
+
+    // 동시에 생성할 최대 작업 수 (newsImageExecutor의 스레드 수 + 큐 크기를 넘지 않도록 설정)
+    @Value("${news.image.max-in-flight:2}")
+    private int maxInFlight;
+
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile boolean stopping;
+
+    public NewsImageGenerationScheduler(NewsImageJobQueue newsImageJobQueue,
+                                        NewsImageRateLimiter newsImageRateLimiter,
+                                        NewsImageService newsImageService,
+                                        @Qualifier("newsImageExecutor") Executor newsImageExecutor) {
+        this.newsImageJobQueue = newsImageJobQueue;
+        this.newsImageRateLimiter = newsImageRateLimiter;
+        this.newsImageService = newsImageService;
+        this.newsImageExecutor = newsImageExecutor;
+    }
+
+    @Scheduled(fixedDelayString = "${news.image.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled || stopping) {
+            return;
+        }
+
+        // 토큰 하나당 작업 하나만 점유 (토큰 없이 점유한 작업이 가시성 제한 시간을 잡아먹지 않도록)
+        while (inFlight.get() < maxInFlight && newsImageRateLimiter.tryAcquire()) {
+            List<ClaimedImageJob> jobs;
+            try {
+                jobs = newsImageJobQueue.claim(1, workerId);
+            } catch (Exception e) {
+                newsImageRateLimiter.refund();
+                log.error("뉴스 이미지 작업 점유 실패: {}", e.getMessage());
+                return;
+            }
+
+            if (jobs.isEmpty()) {
+                newsImageRateLimiter.refund();
+                return;
+            }
+            submit(jobs.get(0));
+        }
+    }
+
+    // 이미지가 없는 뉴스를 주기적으로 다시 등록 (이벤트를 놓친 뉴스, 다른 경로로 추가된 뉴스)
+    @Scheduled(initialDelayString = "${news.image.sweep-initial-delay-ms:60000}",
+            fixedDelayString = "${news.image.sweep-interval-ms:1800000}")
+    public void sweep() {
+        if (!enabled || stopping) {
+            return;
+        }
+        newsImageService.createNewsImages();
+    }
+
+    @PreDestroy
+    public void stop() {
+        // 처리 중인 작업은 가시성 제한 시간이 지나면 다른 서버(또는 재시작 후)가 다시 가져감
+        stopping = true;
+        log.info("뉴스 이미지 생성 스케줄러 종료 - 처리 중인 작업 수: {}", inFlight.get());
+    }
+
+    private void submit(ClaimedImageJob job) {
+        inFlight.incrementAndGet();
+        try {
+            newsImageExecutor.execute(() -> {
+                try {
+                    process(job);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+            newsImageRateLimiter.refund();
+            releaseQuietly(job, 0, "executor rejected");
+        }
+    }
+
+    private void process(ClaimedImageJob job) {
+        ImageGenerationResult result;
+        try {
+            result = newsImageService.generateImage(job.newsId(), job.popular());
+        } catch (Exception e) {
+            result = new ImageGenerationResult(NewsImageService.Outcome.RETRYABLE, null, e.getMessage());
+        }
+
+        try {
+            switch (result.outcome()) {
+                case SUCCESS -> {
+                    newsImageRateLimiter.onSuccess();
+                    newsImageJobQueue.complete(job);
+                }
+                case SKIPPED -> {
+                    // API를 호출하지 않았으므로 토큰 반환
+                    newsImageRateLimiter.refund();
+                    newsImageJobQueue.complete(job);
+                }
+                case QUOTA_EXCEEDED -> {
+                    Duration pause = newsImageRateLimiter.onQuotaExceeded(result.retryAfter());
+                    newsImageJobQueue.release(job, pause.toSeconds(), result.error());
+                }
+                case RETRYABLE -> newsImageJobQueue.fail(job, result.error());
+                case FAILED -> newsImageJobQueue.markFailed(job, result.error());
+            }
+        } catch (Exception e) {
+            // 상태 반영에 실패해도 가시성 제한 시간이 지나면 다시 처리됨
+            log.error("뉴스 이미지 작업 상태 반영 실패 - 뉴스 ID: {}, 오류: {}", job.newsId(), e.getMessage());
+        }
+    }
+
+    private void releaseQuietly(ClaimedImageJob job, long delaySeconds, String reason) {
+        try {
+            newsImageJobQueue.release(job, delaySeconds, reason);
+        } catch (Exception e) {
+            log.error("뉴스 이미지 작업 반환 실패 - 뉴스 ID: {}, 오류: {}", job.newsId(), e.getMessage());
+        }
+    }
+}
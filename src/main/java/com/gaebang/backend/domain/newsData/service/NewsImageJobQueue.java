@@ -0,0 +1,187 @@
+package com.gaebang.backend.domain.newsData.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DB 기반 뉴스 이미지 생성 작업 큐 (news_image_job)
+ * - 등록: 이미지가 없는 활성 뉴스를 한 번에 등록, 이미 있는 작업은 인기 뉴스가 되었을 때만 우선순위를 올림
+ * - 점유: 우선순위(인기 뉴스) → 대기 시각 순으로 SELECT ... FOR UPDATE SKIP LOCKED
+ * - 완료: 행 삭제
+ * - 실패: 지수 백오프로 재시도하고 최대 횟수를 넘으면 FAILED로 남김
+ *   FAILED 작업은 failed-retry-after-seconds가 지나면 등록 시 시도 횟수를 초기화하고 다시 대기시킴 (설정/키 수정 후 복구)
+ * - 쿼터 초과: 시도 횟수를 되돌리고 쿼터가 풀리는 시각까지 미룸
+ * - 완료/재시도/실패 반영은 점유한 시도(attempts, locked_by)가 그대로일 때만 적용 (만료 후 다른 서버가 가져간 작업은 건드리지 않음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class NewsImageJobQueue {
+
+    private static final String ENQUEUE_MISSING_SQL =
+            "INSERT INTO news_image_job (news_id, priority, status, attempts, available_at, enqueued_at) " +
+            "SELECT n.news_id, COALESCE(n.is_popular, 0), 'PENDING', 0, NOW(6), NOW(6) FROM news n " +
+            "WHERE (n.image_url IS NULL OR n.image_url = '') AND n.is_active = 1 " +
+            "ON DUPLICATE KEY UPDATE priority = GREATEST(priority, VALUES(priority))";
+    private static final String REVIVE_FAILED_SQL =
+            "UPDATE news_image_job SET status = 'PENDING', attempts = 0, available_at = NOW(6) " +
+            "WHERE status = 'FAILED' AND available_at < NOW(6) - INTERVAL ? SECOND";
+    private static final String SELECT_CLAIMABLE_SQL =
+            "SELECT news_id, priority, attempts FROM news_image_job " +
+            "WHERE (status = 'PENDING' AND available_at <= NOW(6)) " +
+            "OR (status = 'PROCESSING' AND locked_until < NOW(6)) " +
+            "ORDER BY priority DESC, available_at LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String MARK_PROCESSING_SQL =
+            "UPDATE news_image_job SET status = 'PROCESSING', attempts = attempts + 1, " +
+            "locked_until = NOW(6) + INTERVAL ? SECOND, locked_by = ? WHERE news_id = ?";
+    private static final String COMPLETE_SQL =
+            "DELETE FROM news_image_job WHERE news_id = ? AND attempts = ? AND locked_by = ?";
+    private static final String RETRY_SQL =
+            "UPDATE news_image_job SET status = 'PENDING', available_at = NOW(6) + INTERVAL ? SECOND, " +
+            "locked_until = NULL, locked_by = NULL, last_error = ? WHERE news_id = ? AND attempts = ? AND locked_by = ?";
+    private static final String RELEASE_SQL =
+            "UPDATE news_image_job SET status = 'PENDING', attempts = GREATEST(attempts - 1, 0), " +
+            "available_at = NOW(6) + INTERVAL ? SECOND, locked_until = NULL, locked_by = NULL, last_error = ? " +
+            "WHERE news_id = ? AND attempts = ? AND locked_by = ?";
+    // FAILED 작업의 available_at은 실패 시각 (다시 대기시킬 시점 판단용)
+    private static final String FAIL_SQL =
+            "UPDATE news_image_job SET status = 'FAILED', available_at = NOW(6), locked_until = NULL, locked_by = NULL, " +
+            "last_error = ? WHERE news_id = ? AND attempts = ? AND locked_by = ?";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 이미지 생성 + S3 업로드가 끝나야 하는 시간
+    @Value("${news.image.visibility-timeout-seconds:300}")
+    private long visibilityTimeoutSeconds;
+
+    @Value("${news.image.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${news.image.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${news.image.backoff-max-seconds:1800}")
+    private long backoffMaxSeconds;
+
+    // FAILED 작업을 다시 대기시키기까지의 시간
+    @Value("${news.image.failed-retry-after-seconds:86400}")
+    private long failedRetryAfterSeconds;
+
+    /**
+     * 이미지가 없는 활성 뉴스를 작업으로 등록
+     * @return 새로 등록되거나 우선순위가 바뀐 작업 수 (MySQL 영향 행 수 기준)
+     */
+    public int enqueueMissing() {
+        return jdbcTemplate.update(ENQUEUE_MISSING_SQL);
+    }
+
+    /**
+     * 실패 후 failed-retry-after-seconds가 지난 FAILED 작업을 시도 횟수를 초기화해 다시 대기시킴
+     * @return 다시 대기시킨 작업 수
+     */
+    public int reviveFailed() {
+        int revived = jdbcTemplate.update(REVIVE_FAILED_SQL, failedRetryAfterSeconds);
+        if (revived > 0) {
+            log.info("실패한 뉴스 이미지 작업 재등록 - {}건", revived);
+        }
+        return revived;
+    }
+
+    /**
+     * 처리 가능한 작업을 최대 limit개 점유
+     */
+    public List<ClaimedImageJob> claim(int limit, String workerId) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<ClaimedImageJob> claimed = transactionTemplate.execute(status -> {
+            List<ClaimedImageJob> jobs = jdbcTemplate.query(SELECT_CLAIMABLE_SQL, (rs, rowNum) -> new ClaimedImageJob(
+                    rs.getLong(1),
+                    rs.getInt(2) > 0,
+                    rs.getInt(3) + 1,
+                    workerId), limit);
+
+            if (!jobs.isEmpty()) {
+                jdbcTemplate.batchUpdate(MARK_PROCESSING_SQL, jobs.stream()
+                        .map(job -> new Object[]{visibilityTimeoutSeconds, workerId, job.newsId()})
+                        .toList());
+            }
+            return jobs;
+        });
+        return claimed == null ? Collections.emptyList() : claimed;
+    }
+
+    public void complete(ClaimedImageJob job) {
+        if (jdbcTemplate.update(COMPLETE_SQL, job.newsId(), job.attempt(), job.workerId()) == 0) {
+            logLostClaim(job);
+        }
+    }
+
+    /**
+     * 실패한 작업을 백오프 후 재시도하도록 돌려놓거나, 최대 횟수를 넘으면 FAILED로 표시
+     */
+    public void fail(ClaimedImageJob job, String error) {
+        if (job.attempt() >= maxAttempts) {
+            markFailed(job, error);
+            return;
+        }
+
+        long backoffSeconds = Math.min(backoffMaxSeconds, backoffBaseSeconds << Math.min(job.attempt() - 1, 20));
+        if (jdbcTemplate.update(RETRY_SQL, backoffSeconds, truncate(error), job.newsId(), job.attempt(), job.workerId()) == 0) {
+            logLostClaim(job);
+            return;
+        }
+        log.warn("뉴스 이미지 생성 재시도 예약 - 뉴스 ID: {}, 시도: {}, {}초 후, 오류: {}",
+                job.newsId(), job.attempt(), backoffSeconds, error);
+    }
+
+    // 재시도해도 소용없는 오류 (잘못된 요청 등)
+    public void markFailed(ClaimedImageJob job, String error) {
+        if (jdbcTemplate.update(FAIL_SQL, truncate(error), job.newsId(), job.attempt(), job.workerId()) == 0) {
+            logLostClaim(job);
+            return;
+        }
+        log.error("뉴스 이미지 생성 실패 처리 - 뉴스 ID: {}, 시도: {}, 오류: {}", job.newsId(), job.attempt(), error);
+    }
+
+    /**
+     * 시도 횟수를 소모하지 않고 delaySeconds 후에 다시 가져가도록 돌려놓음 (쿼터 초과, 실행 거부 등)
+     */
+    public void release(ClaimedImageJob job, long delaySeconds, String reason) {
+        if (jdbcTemplate.update(RELEASE_SQL, Math.max(0, delaySeconds), truncate(reason), job.newsId(),
+                job.attempt(), job.workerId()) == 0) {
+            logLostClaim(job);
+        }
+    }
+
+    // 가시성 제한 시간이 지나 다른 서버가 다시 가져갔거나 이미 처리된 작업
+    private void logLostClaim(ClaimedImageJob job) {
+        log.info("뉴스 이미지 작업 점유가 만료되어 결과 반영 생략 - 뉴스 ID: {}, 시도: {}", job.newsId(), job.attempt());
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * @param popular 인기 뉴스 여부 (이미지 크기/품질 결정)
+     * @param attempt 이번 시도 횟수 (1부터)
+     * @param workerId 점유한 워커 (locked_by)
+     */
+    public record ClaimedImageJob(long newsId, boolean popular, int attempt, String workerId) {
+    }
+}
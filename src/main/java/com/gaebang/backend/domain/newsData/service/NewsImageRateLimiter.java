@@ -0,0 +1,106 @@
+package com.gaebang.backend.domain.newsData.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Imagen API 호출 속도 제한 (토큰 버킷)
+ * - requests-per-minute 속도로 토큰을 채우고 burst개까지 모아둠, 호출 1회당 토큰 1개
+ * - 쿼터 초과 응답을 받으면 응답이 알려준 대기 시간(Retry-After, retryDelay)만큼 모든 호출을 멈추고 버킷을 비움
+ *   대기 시간을 알 수 없으면 연속 초과 횟수에 따라 지수적으로 늘림 (성공하면 초기화)
+ * - 서버(인스턴스)별 제한이므로 여러 대를 띄우면 requests-per-minute를 서버 수로 나눠 설정
+ */
+@Slf4j
+@Component
+public class NewsImageRateLimiter {
+
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    @Value("${news.image.requests-per-minute:5}")
+    private double requestsPerMinute;
+
+    @Value("${news.image.burst:1}")
+    private int burst;
+
+    @Value("${news.image.quota-backoff-base-seconds:60}")
+    private long quotaBackoffBaseSeconds;
+
+    @Value("${news.image.quota-backoff-max-seconds:3600}")
+    private long quotaBackoffMaxSeconds;
+
+    private double tokens = -1; // 첫 호출 시 burst로 채움
+    private long lastRefillNanos;
+    private long pausedUntilNanos = System.nanoTime();
+    private int consecutiveQuotaHits;
+
+    /**
+     * 토큰이 있으면 1개 사용
+     * @return 지금 호출해도 되면 true
+     */
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        if (now - pausedUntilNanos < 0) {
+            return false;
+        }
+
+        refill(now);
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    // 호출하지 않은 토큰 반환 (실행 거부 등)
+    public synchronized void refund() {
+        tokens = Math.min(burst, tokens + 1);
+    }
+
+    /**
+     * 쿼터 초과 응답 반영
+     * @param retryAfter 응답이 알려준 대기 시간, 없으면 null
+     * @return 실제로 멈추는 시간
+     */
+    public synchronized Duration onQuotaExceeded(Duration retryAfter) {
+        consecutiveQuotaHits++;
+
+        Duration pause = retryAfter;
+        if (pause == null || pause.isNegative() || pause.isZero()) {
+            long backoffSeconds = quotaBackoffBaseSeconds << Math.min(consecutiveQuotaHits - 1, 20);
+            pause = Duration.ofSeconds(Math.min(quotaBackoffMaxSeconds, backoffSeconds));
+        }
+
+        long now = System.nanoTime();
+        long until = now + pause.toNanos();
+        if (until - pausedUntilNanos > 0) {
+            pausedUntilNanos = until;
+        }
+        // 재개 직후 몰아서 호출하지 않도록 버킷을 비움
+        tokens = 0;
+        lastRefillNanos = pausedUntilNanos;
+
+        log.warn("Imagen API 쿼터 초과 - {}초 동안 이미지 생성 중단 (연속 {}회)", pause.toSeconds(), consecutiveQuotaHits);
+        return pause;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveQuotaHits = 0;
+    }
+
+    private void refill(long now) {
+        if (tokens < 0) {
+            tokens = burst;
+            lastRefillNanos = now;
+            return;
+        }
+        long elapsed = now - lastRefillNanos;
+        if (elapsed <= 0) {
+            return;
+        }
+        tokens = Math.min(burst, tokens + elapsed * requestsPerMinute / NANOS_PER_MINUTE);
+        lastRefillNanos = now;
+    }
+}
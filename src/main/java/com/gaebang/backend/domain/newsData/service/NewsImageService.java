@@ -3,40 +3,41 @@ package com.gaebang.backend.domain.newsData.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gaebang.backend.domain.newsData.entity.NewsData;
+import com.gaebang.backend.domain.newsData.event.NewsFeedChangedEvent;
 import com.gaebang.backend.domain.newsData.repository.NewsDataRepository;
 import com.gaebang.backend.domain.question.gemini.util.GeminiQuestionProperties;
 import com.gaebang.backend.global.util.S3.S3ImageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockMultipartFile;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NewsImageService {
 
+    // Google API 오류 본문의 RetryInfo (예: "retryDelay": "37s")
+    private static final Pattern RETRY_DELAY_PATTERN = Pattern.compile("\"retryDelay\"\\s*:\\s*\"(\\d+(?:\\.\\d+)?)s\"");
+
     private final RestClient restClient;
     private final GeminiQuestionProperties geminiQuestionProperties;
     private final NewsDataRepository newsDataRepository;
     private final S3ImageService s3ImageService;
     private final ObjectMapper objectMapper;
-
-    // 전역 상태 관리
-    private volatile boolean apiQuotaExceeded = false;
-    private volatile LocalDateTime quotaResetTime = null;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NewsImageJobQueue newsImageJobQueue;
 
     // 이미지가 없는 뉴스 데이터만 조회
     public List<NewsData> getNewsWithoutImages() {
@@ -57,289 +58,156 @@ public class NewsImageService {
                 + "Just a simple visual that matches the general feeling of the article.", title, description);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    /**
+     * 이미지가 없는 활성 뉴스를 이미지 생성 작업 큐에 등록
+     * 실제 생성은 NewsImageGenerationScheduler가 속도 제한에 맞춰 인기 뉴스부터 처리
+     */
     public void createNewsImages() {
-
-        // 쿼터 초과 상태 체크
-        if (isQuotaExceeded()) {
-            log.warn("API 쿼터 초과 상태 - 이미지 생성 스킵");
-            return; // 즉시 종료
-        }
-
         try {
-            log.info("=== 배치 단위 뉴스 이미지 생성 시작 ===");
-
-            Long totalCount = newsDataRepository.countNewsWithoutImages();
-            if (totalCount == 0) {
-                log.info("이미지 생성할 뉴스가 없습니다.");
-                return;
-            }
-
-            final int BATCH_SIZE = 15; // 배치 사이즈를 35→15로 축소
-            int totalBatches = (int) Math.ceil((double) totalCount / BATCH_SIZE);
-
-            log.info("총 {}개 뉴스를 {}개 배치로 나누어 처리합니다. (배치 크기: {})", totalCount, totalBatches, BATCH_SIZE);
-
-            for (int batchIndex = 0; batchIndex < totalBatches; batchIndex++) {
-                int offset = batchIndex * BATCH_SIZE;
-
-                log.info("=== 배치 {}/{} 처리 시작 (offset: {}) ===", batchIndex + 1, totalBatches, offset);
-
-                List<NewsData> batchNews = newsDataRepository.findNewsWithoutImagesByBatch(BATCH_SIZE, offset);
-
-                if (batchNews.isEmpty()) {
-                    log.info("배치 {}: 처리할 뉴스가 없습니다.", batchIndex + 1);
-                    continue;
-                }
-
-                processBatch(batchNews, batchIndex + 1, totalBatches);
-            }
-
-            log.info("=== 모든 배치 뉴스 이미지 생성 완료 - 총 {}개 처리 ===", totalCount);
-
+            newsImageJobQueue.reviveFailed();
+            int enqueued = newsImageJobQueue.enqueueMissing();
+            log.info("뉴스 이미지 생성 작업 등록 완료 - 영향 행 수: {}", enqueued);
         } catch (Exception e) {
-            log.error("배치 뉴스 이미지 생성 중 예외 발생", e);
+            log.error("뉴스 이미지 생성 작업 등록 실패", e);
         }
     }
 
-    // 배치 단위로 뉴스 처리
-    private void processBatch(List<NewsData> batchNews, int batchNumber, int totalBatches) {
-        try {
-            // 인기글과 일반글 분리
-            List<NewsData> popularNews = new ArrayList<>();
-            List<NewsData> regularNews = new ArrayList<>();
-
-            for (NewsData news : batchNews) {
-                if (news.getIsPopular() == 1) {
-                    popularNews.add(news);
-                } else {
-                    regularNews.add(news);
-                }
-            }
-
-            log.info("배치 {}/{}: 총 {}개 뉴스 (인기글: {}개, 일반글: {}개) 처리 시작", batchNumber, totalBatches, batchNews.size(), popularNews.size(),
-                    regularNews.size());
-
-            ExecutorService executor = Executors.newFixedThreadPool(3); // 5→3으로 축소
-
-            try {
-                List<CompletableFuture<Void>> futures = new ArrayList<>();
-                int delayCounter = 0;
-
-                // 인기글 먼저 처리 (우선순위)
-                for (NewsData news : popularNews) {
-                    int delay = delayCounter * 8; // 2초→8초로 대폭 증가
-                    delayCounter++;
-
-                    CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                        try {
-                            Thread.sleep(delay * 1000);
-                            generateImageForNews(news, true);
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                            log.warn("배치 {} - 인기글 스레드 인터럽트: 뉴스 ID {}", batchNumber, news.getNewsId());
-                        } catch (Exception e) {
-                            log.error("배치 {} - 인기글 뉴스 ID {} 처리 실패", batchNumber, news.getNewsId(), e);
-                        }
-                    }, executor).exceptionally(throwable -> {
-                        log.error("배치 {} - 인기글 CompletableFuture 예외", batchNumber, throwable);
-                        return null;
-                    });
-
-                    futures.add(future);
-                }
-
-                // 일반글 처리
-                for (NewsData news : regularNews) {
-                    int delay = delayCounter * 8; // 2초→8초로 대폭 증가
-                    delayCounter++;
-
-                    CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                        try {
-                            Thread.sleep(delay * 1000);
-                            generateImageForNews(news, false);
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                            log.warn("배치 {} - 일반글 스레드 인터럽트: 뉴스 ID {}", batchNumber, news.getNewsId());
-                        } catch (Exception e) {
-                            log.error("배치 {} - 일반글 뉴스 ID {} 처리 실패", batchNumber, news.getNewsId(), e);
-                        }
-                    }, executor).exceptionally(throwable -> {
-                        log.error("배치 {} - 일반글 CompletableFuture 예외", batchNumber, throwable);
-                        return null;
-                    });
-
-                    futures.add(future);
-                }
-
-                // 배치 내 모든 작업 완료 대기
-                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-
-            } finally {
-                executor.shutdown();
-                if (!executor.awaitTermination(300, TimeUnit.SECONDS)) { // 3분→5분으로 연장
-                    log.warn("배치 {} - Executor 정상 종료 실패, 강제 종료", batchNumber);
-                    executor.shutdownNow();
-                }
-            }
-
-            log.info("배치 {}/{} 처리 완료 - {}개 뉴스 처리됨", batchNumber, totalBatches, batchNews.size());
-
-        } catch (Exception e) {
-            log.error("배치 {} 처리 중 예외 발생", batchNumber, e);
+    /**
+     * 뉴스 한 건의 이미지 생성 (Imagen API 1회 호출)
+     * 재시도/백오프는 호출 측(작업 큐)에서 결과에 따라 처리
+     */
+    public ImageGenerationResult generateImage(Long newsId, boolean isPopular) {
+        NewsData news = newsDataRepository.findById(newsId).orElse(null);
+        if (news == null || !Integer.valueOf(1).equals(news.getIsActive())
+                || (news.getImageUrl() != null && !news.getImageUrl().isEmpty())) {
+            // 삭제/비활성화되었거나 이미 이미지가 있음
+            return ImageGenerationResult.of(Outcome.SKIPPED, null);
         }
-    }
 
-    // 개별 뉴스에 대한 이미지 생성 (인기글 여부에 따른 크기 설정)
-    private void generateImageForNews(NewsData news, boolean isPopular) {
-        try {
-            // 먼저 쿼터 초과 상태 확인 - 초과 시 즉시 종료
-            if (isQuotaExceeded()) {
-                log.warn("뉴스 ID {} - API 쿼터 초과로 인해 이미지 생성 스킵", news.getNewsId());
-                return;
-            }
+        String newsType = isPopular ? "인기글" : "일반글";
+        String sizeInfo = isPopular ? "500x324" : "기본 크기";
 
-            String newsType = isPopular ? "인기글" : "일반글";
-            String sizeInfo = isPopular ? "500x324" : "기본 크기";
+        log.info("뉴스 ID {} 이미지 생성 시작 ({}, {}): {}", newsId, newsType, sizeInfo, news.getTitle());
 
-            log.info("뉴스 ID {} 이미지 생성 시작 ({}, {}): {}", news.getNewsId(), newsType, sizeInfo, news.getTitle());
+        String imagenUrl = geminiQuestionProperties.getCreateImageUrl();
 
-            String imagenUrl = geminiQuestionProperties.getCreateImageUrl();
+        // API URL 및 키 검증 - 설정을 고치면 성공하므로 재시도 대상
+        if (imagenUrl == null || imagenUrl.trim().isEmpty()) {
+            return ImageGenerationResult.of(Outcome.RETRYABLE, "Imagen API URL이 없습니다.");
+        }
 
-            // API URL 및 키 검증 추가
-            if (imagenUrl == null || imagenUrl.trim().isEmpty()) {
-                log.error("뉴스 ID {} - Imagen API URL이 없습니다.", news.getNewsId());
-                return;
-            }
+        if (geminiQuestionProperties.getApiKey() == null || geminiQuestionProperties.getApiKey().trim().isEmpty()) {
+            return ImageGenerationResult.of(Outcome.RETRYABLE, "API 키가 없습니다.");
+        }
 
-            if (geminiQuestionProperties.getApiKey() == null || geminiQuestionProperties.getApiKey().trim().isEmpty()) {
-                log.error("뉴스 ID {} - API 키가 없습니다.", news.getNewsId());
-                return;
-            }
+        String prompt = createImagePrompt(news.getTitle(), news.getDescription(), isPopular);
 
-            String prompt = createImagePrompt(news.getTitle(), news.getDescription(), isPopular);
+        // Imagen 4.0 API 요청 구조
+        Map<String, Object> instance = new HashMap<>();
+        instance.put("prompt", prompt);
 
-            // Imagen 4.0 API 요청 구조
-            Map<String, Object> instance = new HashMap<>();
-            instance.put("prompt", prompt);
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("sampleCount", 1); // 이미지 1개 생성
 
-            Map<String, Object> parameters = new HashMap<>();
-            parameters.put("sampleCount", 1); // 이미지 1개 생성
+        // 인기글인 경우 크기 파라미터 추가
+        if (isPopular) {
+            parameters.put("aspectRatio", "16:9"); // 500:324에 가까운 비율
+            parameters.put("outputImageType", "HIGH_QUALITY");
+        }
 
-            // 인기글인 경우 크기 파라미터 추가
-            if (isPopular) {
-                parameters.put("aspectRatio", "16:9"); // 500:324에 가까운 비율
-                parameters.put("outputImageType", "HIGH_QUALITY");
-            }
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("instances", Arrays.asList(instance));
+        requestBody.put("parameters", parameters);
 
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("instances", Arrays.asList(instance));
-            requestBody.put("parameters", parameters);
+        log.info("Imagen 4.0 API 요청 파라미터: prompt 길이={}, 타입={}", prompt.length(), newsType);
 
-            log.info("Imagen 4.0 API 요청 파라미터: prompt 길이={}, 타입={}", prompt.length(), newsType);
+        ImagenResponse response;
+        try {
+            response = callApi(requestBody, imagenUrl, newsId);
+        } catch (Exception e) {
+            // 연결 실패, 타임아웃 등
+            return ImageGenerationResult.of(Outcome.RETRYABLE, "API 호출 실패: " + e.getMessage());
+        }
 
-            // 재시도 로직 적용된 API 호출
-            String response = callApiWithRetry(requestBody, imagenUrl, news.getNewsId());
+        if (response.status() / 100 == 2) {
+            return processImagen4Response(response.body(), newsId, isPopular)
+                    ? ImageGenerationResult.of(Outcome.SUCCESS, null)
+                    : ImageGenerationResult.of(Outcome.RETRYABLE, "이미지 응답 처리 또는 S3 업로드 실패");
+        }
 
-            if (response != null) {
-                processImagen4Response(response, news.getNewsId(), isPopular);
-            } else {
-                log.error("뉴스 ID {} 이미지 생성 최종 실패", news.getNewsId());
-            }
+        String errorDetails = response.body();
 
-        } catch (Exception e) {
-            log.error("뉴스 ID {} 이미지 생성 실패", news.getNewsId(), e);
+        // 쿼터 초과 감지 - 429 또는 RESOURCE_EXHAUSTED 메시지
+        if (response.status() == 429 || errorDetails.contains("RESOURCE_EXHAUSTED") || errorDetails.contains("exceeded your current quota")) {
+            Duration retryAfter = response.retryAfter() != null ? response.retryAfter() : parseRetryDelay(errorDetails);
+            log.warn("뉴스 ID {} - API 쿼터 초과 감지 ({}), 대기 시간: {}", newsId, response.status(),
+                    retryAfter != null ? retryAfter.toSeconds() + "초" : "알 수 없음");
+            return new ImageGenerationResult(Outcome.QUOTA_EXCEEDED, retryAfter, "quota exceeded: " + response.status());
         }
-    }
 
-    public boolean isQuotaExceeded() {
-        if (!apiQuotaExceeded) return false;
+        // 500번대 에러는 재시도 가능한 서버 에러로 처리
+        if (response.status() >= 500) {
+            log.error("뉴스 ID {} - 서버 에러 {} 상세 응답: {}", newsId, response.status(), errorDetails);
+            return ImageGenerationResult.of(Outcome.RETRYABLE, "server error: " + response.status());
+        }
 
-        // 다음날 자정에 리셋 체크
-        if (quotaResetTime != null && LocalDateTime.now().isAfter(quotaResetTime)) {
-            apiQuotaExceeded = false;
-            quotaResetTime = null;
-            log.info("API 쿼터 상태 리셋됨");
-            return false;
+        // 인증/권한 오류는 키나 권한을 고치면 성공하므로 재시도 대상
+        if (response.status() == 401 || response.status() == 403) {
+            log.error("뉴스 ID {} - 인증 에러 {} 상세 응답: {}", newsId, response.status(), errorDetails);
+            return ImageGenerationResult.of(Outcome.RETRYABLE, "auth error: " + response.status());
         }
-        return true;
+
+        // 그 밖의 400번대는 재시도 불가능한 클라이언트 에러 (FAILED 후 failed-retry-after-seconds가 지나면 다시 시도)
+        log.error("뉴스 ID {} - 클라이언트 에러 {} 상세 응답: {}", newsId, response.status(), errorDetails);
+        return ImageGenerationResult.of(Outcome.FAILED, "client error: " + response.status());
     }
 
-    // 재시도 로직이 포함된 API 호출 메서드 - 수정된 부분
-    private String callApiWithRetry(Map<String, Object> requestBody, String imagenUrl, Long newsId) {
-        final int MAX_RETRIES = 3;
+    // Imagen API 호출 - 상태 코드와 본문, Retry-After 헤더를 그대로 돌려줌
+    private ImagenResponse callApi(Map<String, Object> requestBody, String imagenUrl, Long newsId) {
+        return restClient.post().uri(imagenUrl).header("x-goog-api-key", geminiQuestionProperties.getApiKey()).header("Content-Type",
+                "application/json").body(requestBody).exchange((request, httpResponse) -> {
+            int status = httpResponse.getStatusCode().value();
 
-        for (int attempt = 1; attempt <= MAX_RETRIES; attempt++) {
+            String body = "";
             try {
-                String response = restClient.post().uri(imagenUrl).header("x-goog-api-key", geminiQuestionProperties.getApiKey()).header("Content-Type",
-                        "application/json").body(requestBody).exchange((request, httpResponse) -> {
-                    if (!httpResponse.getStatusCode().is2xxSuccessful()) {
-                        int status = httpResponse.getStatusCode().value();
-
-                        // 에러 응답 본문 먼저 읽기
-                        String errorDetails = "응답 본문 없음";
-                        try {
-                            byte[] errorBodyBytes = httpResponse.getBody().readAllBytes();
-                            if (errorBodyBytes.length > 0) {
-                                errorDetails = new String(errorBodyBytes);
-                            }
-                        } catch (Exception bodyException) {
-                            log.warn("뉴스 ID {} - 에러 응답 본문 읽기 실패: {}", newsId, bodyException.getMessage());
-                        }
-
-                        // 쿼터 초과 감지 - 429 또는 RESOURCE_EXHAUSTED 메시지
-                        if (status == 429 || errorDetails.contains("RESOURCE_EXHAUSTED") || errorDetails.contains("exceeded your current quota")) {
-                            apiQuotaExceeded = true;
-                            quotaResetTime = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0);
-                            log.error("API 쿼터 초과 감지 ({}) - 다음날까지 이미지 생성 중단", status == 429 ? "429" : "RESOURCE_EXHAUSTED");
-                            return null; // 재시도 안함
-                        }
-
-                        // 500번대 에러는 재시도 가능한 서버 에러로 처리
-                        if (status >= 500) {
-                            log.error("뉴스 ID {} - 서버 에러 {} 상세 응답: {}", newsId, status, errorDetails);
-                            log.warn("뉴스 ID {} - 서버 에러 {}, 재시도 예정", newsId, status);
-                            throw new RuntimeException("Retryable server error: " + status);
-                        }
-
-                        // 400번대는 재시도 불가능한 클라이언트 에러
-                        log.error("뉴스 ID {} - 클라이언트 에러 {} 상세 응답: {}", newsId, status, errorDetails);
-                        log.error("뉴스 ID {} - 클라이언트 에러 {}, 재시도 안함", newsId, status);
-                        return null; // 재시도 불가능한 에러 (4xx)
-                    }
-                    try {
-                        return new String(httpResponse.getBody().readAllBytes());
-                    } catch (Exception e) {
-                        throw new RuntimeException("Response parsing error", e);
-                    }
-                });
-
-                if (response != null) {
-                    log.info("뉴스 ID {} - API 성공 (시도 {})", newsId, attempt);
-                    return response; // 성공
+                byte[] bodyBytes = httpResponse.getBody().readAllBytes();
+                if (bodyBytes.length > 0) {
+                    body = new String(bodyBytes, StandardCharsets.UTF_8);
                 }
-
-            } catch (Exception e) {
-                log.warn("뉴스 ID {} - API 시도 {}/{} 실패: {}", newsId, attempt, MAX_RETRIES, e.getMessage());
-
-                // 마지막 재시도가 아니면 잠깐 대기
-                if (attempt < MAX_RETRIES) {
-                    try {
-                        Thread.sleep(2000 * attempt); // 2초, 4초, 6초 대기
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
+            } catch (Exception bodyException) {
+                if (httpResponse.getStatusCode().is2xxSuccessful()) {
+                    throw new RuntimeException("Response parsing error", bodyException);
                 }
+                log.warn("뉴스 ID {} - 에러 응답 본문 읽기 실패: {}", newsId, bodyException.getMessage());
             }
+
+            return new ImagenResponse(status, body, parseRetryAfter(httpResponse.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+        });
+    }
+
+    // Retry-After 헤더 (초 단위만 지원, HTTP 날짜 형식은 무시)
+    private Duration parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            return null;
         }
+    }
 
-        log.error("뉴스 ID {} - 모든 재시도 실패", newsId);
-        return null;
+    // 오류 본문의 retryDelay
+    private Duration parseRetryDelay(String errorDetails) {
+        Matcher matcher = RETRY_DELAY_PATTERN.matcher(errorDetails);
+        if (!matcher.find()) {
+            return null;
+        }
+        return Duration.ofMillis((long) Math.ceil(Double.parseDouble(matcher.group(1)) * 1000));
     }
 
-    // 개별 뉴스 이미지 처리 (크기 정보 포함) - 수정된 부분
-    private void processImagen4Response(String response, Long newsId, boolean isPopular) {
+    // 개별 뉴스 이미지 처리 (크기 정보 포함) - 저장까지 성공하면 true
+    private boolean processImagen4Response(String response, Long newsId, boolean isPopular) {
         try {
             JsonNode rootNode = objectMapper.readTree(response);
 
@@ -348,12 +216,12 @@ public class NewsImageService {
 
             if (!predictions.isArray()) {
                 log.warn("뉴스 ID {} - predictions가 배열이 아닙니다: {}", newsId, predictions.getNodeType());
-                return;
+                return false;
             }
 
             if (predictions.isEmpty()) {
                 log.warn("뉴스 ID {} - Imagen 4.0 응답에 predictions가 비어있습니다.", newsId);
-                return;
+                return false;
             }
 
             // 첫 번째 생성된 이미지 사용
@@ -361,7 +229,7 @@ public class NewsImageService {
 
             if (firstPrediction == null || firstPrediction.isNull()) {
                 log.warn("뉴스 ID {} - 첫 번째 prediction이 null입니다.", newsId);
-                return;
+                return false;
             }
 
             // Imagen 4.0의 정확한 응답 구조 확인 필요
@@ -383,7 +251,7 @@ public class NewsImageService {
 
             if (base64Data == null || base64Data.trim().isEmpty()) {
                 log.warn("뉴스 ID {} - Imagen 4.0 이미지 데이터가 비어있습니다.", newsId);
-                return;
+                return false;
             }
 
             String newsType = isPopular ? "인기글" : "일반글";
@@ -392,15 +260,18 @@ public class NewsImageService {
             // Base64 이미지를 S3에 업로드
             String imageUrl = uploadBase64ImageToS3(base64Data, mimeType, isPopular);
 
-            if (imageUrl != null) {
-                updateNewsImageUrl(newsId, imageUrl);
-                log.info("뉴스 ID {} - 이미지 URL 저장 완료 ({}): {}", newsId, newsType, imageUrl);
-            } else {
+            if (imageUrl == null) {
                 log.error("뉴스 ID {} - S3 업로드 실패", newsId);
+                return false;
             }
 
+            updateNewsImageUrl(newsId, imageUrl);
+            log.info("뉴스 ID {} - 이미지 URL 저장 완료 ({}): {}", newsId, newsType, imageUrl);
+            return true;
+
         } catch (Exception e) {
             log.error("뉴스 ID {} - Imagen 4.0 응답 처리 중 오류 발생", newsId, e);
+            return false;
         }
     }
 
@@ -410,12 +281,16 @@ public class NewsImageService {
         try {
             newsDataRepository.updateImageUrl(newsId, imageUrl);
             log.info("뉴스 ID {} imageUrl 업데이트 완료", newsId);
+
+            // 피드 스냅샷 갱신 (트랜잭션 밖에서 호출되면 즉시 반영)
+            eventPublisher.publishEvent(new NewsFeedChangedEvent("image-update"));
         } catch (Exception e) {
             log.error("뉴스 ID {} imageUrl 업데이트 실패", newsId, e);
             throw e;
         }
     }
 
+
     // Base64 이미지를 S3에 업로드하는 메서드 (크기 정보 포함) - 수정된 부분
     private String uploadBase64ImageToS3(String base64Data, String mimeType, boolean isPopular) {
         try {
@@ -495,4 +370,24 @@ public class NewsImageService {
                 return ".jpg"; // 기본값
         }
     }
+
+    public enum Outcome {
+        SUCCESS,         // 이미지 저장 완료
+        SKIPPED,         // 생성할 필요 없음 (삭제/비활성화, 이미 이미지 있음)
+        QUOTA_EXCEEDED,  // 쿼터 초과 - 시도 횟수를 소모하지 않고 대기 후 다시 시도
+        RETRYABLE,       // 일시적 오류 - 백오프 후 재시도
+        FAILED           // 재시도해도 소용없는 오류
+    }
+
+    /**
+     * @param retryAfter 쿼터 초과 시 응답이 알려준 대기 시간 (없으면 null)
+     */
+    public record ImageGenerationResult(Outcome outcome, Duration retryAfter, String error) {
+        static ImageGenerationResult of(Outcome outcome, String error) {
+            return new ImageGenerationResult(outcome, null, error);
+        }
+    }
+
+    private record ImagenResponse(int status, String body, Duration retryAfter) {
+    }
 }
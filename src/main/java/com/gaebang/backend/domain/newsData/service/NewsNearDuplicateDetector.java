@@ -0,0 +1,300 @@
+package com.gaebang.backend.domain.newsData.service;
+
+import com.gaebang.backend.domain.newsData.entity.NewsData;
+import com.gaebang.backend.domain.newsData.repository.NewsDataRepository;
+import com.gaebang.backend.domain.newsData.util.MinHasher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 유사 뉴스 탐지기 (MinHash-LSH)
+ * - 최근 window-hours 동안의 뉴스 서명을 메모리 인덱스로 유지하고, 새로 저장된 뉴스만 인덱스와 비교
+ * - LSH 버킷이 겹치는 후보 중 유사도가 가장 높은 기사의 그룹에 합류 (임계값 미만이면 새 그룹)
+ *   후보끼리 연쇄적으로 묶지 않으므로 서로 다른 사건이 한 그룹으로 합쳐지지 않음
+ * - 그룹에 합류한 새 기사는 중복으로 비활성화, 기존 그룹 대표(먼저 노출된 기사)는 그대로 유지
+ * - 제목/설명이 대부분 영문인 기사는 비활성화 대상으로 따로 돌려줌
+ * - 그룹 크기가 popular-min-group-size 이상이 되면 인기 후보로 돌려줌 (최종 판단은 호출 측)
+ * - 기동 시 윈도우 안의 기존 활성 뉴스로 인덱스를 채우며, 이때는 DB 상태를 바꾸지 않음
+ *   비활성(중복/영문) 뉴스는 인덱스에 넣지 않으므로 그룹 대표는 항상 활성 뉴스
+ * - 탐지 결과를 DB에 반영하지 못하면 rollback()으로 인덱스를 다시 만들고 해당 구간을 다음 탐지에서 다시 처리
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class NewsNearDuplicateDetector {
+
+    // 다른 서버가 늦게 커밋한 뉴스도 다음 탐지에서 가져오도록 조회 시작 시각에 두는 여유
+    private static final long SCAN_OVERLAP_MINUTES = 10;
+    private static final int SUMMARY_TITLE_LIMIT = 3;
+
+    private final NewsDataRepository newsDataRepository;
+
+    @Value("${news.dedup.window-hours:48}")
+    private long windowHours;
+
+    @Value("${news.dedup.similarity-threshold:0.5}")
+    private double similarityThreshold;
+
+    @Value("${news.dedup.shingle-size:2}")
+    private int shingleSize;
+
+    @Value("${news.dedup.bands:32}")
+    private int bands;
+
+    @Value("${news.dedup.rows:2}")
+    private int rows;
+
+    @Value("${news.dedup.popular-min-group-size:3}")
+    private int popularMinGroupSize;
+
+    @Value("${news.dedup.english-ratio:0.9}")
+    private double englishRatio;
+
+    private MinHasher minHasher;
+    private final Map<Long, IndexedNews> entries = new HashMap<>();
+    private final Map<Long, List<IndexedNews>> buckets = new HashMap<>();
+    private final Map<Long, DuplicateGroup> groups = new HashMap<>();
+    private LocalDateTime scanFrom;
+    // 반영에 실패한 탐지의 조회 시작 시각 - 다음 탐지 전에 이 시각 이전 뉴스로만 인덱스를 다시 만듦
+    private LocalDateTime rebuildBefore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void bootstrap() {
+        minHasher = new MinHasher(shingleSize, bands, rows);
+        entries.clear();
+        buckets.clear();
+        groups.clear();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime indexedBefore = rebuildBefore;
+        rebuildBefore = null;
+
+        try {
+            List<NewsData> recentNews = new ArrayList<>(
+                    newsDataRepository.findNewsByDateRange(now.minusHours(windowHours), now.plusDays(1)));
+            recentNews.sort(Comparator.comparing(NewsData::getPubDate, Comparator.nullsFirst(Comparator.naturalOrder())));
+            for (NewsData news : recentNews) {
+                if (!Integer.valueOf(1).equals(news.getIsActive()) || news.getPubDate() == null) {
+                    continue;
+                }
+                if (indexedBefore != null && news.getCreatedAt() != null && !news.getCreatedAt().isBefore(indexedBefore)) {
+                    continue;
+                }
+                IndexedNews indexed = index(news);
+                if (indexed != null && Integer.valueOf(1).equals(news.getIsPopular())) {
+                    groups.get(indexed.groupId()).popular = true;
+                }
+            }
+            log.info("유사 뉴스 인덱스 초기화 완료 - 기사: {}, 그룹: {}", entries.size(), groups.size());
+        } catch (Exception e) {
+            // 빈 인덱스로 시작해도 이후 들어오는 뉴스끼리는 탐지됨
+            log.error("유사 뉴스 인덱스 초기화 실패: {}", e.getMessage());
+        }
+        scanFrom = indexedBefore != null ? indexedBefore : now.minusMinutes(SCAN_OVERLAP_MINUTES);
+    }
+
+    /**
+     * 마지막 탐지 이후 저장된 뉴스를 인덱스와 비교
+     */
+    public synchronized DetectionResult detectNewArticles() {
+        if (minHasher == null || rebuildBefore != null) {
+            bootstrap();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        evictBefore(now.minusHours(windowHours));
+
+        LocalDateTime scannedFrom = scanFrom;
+        List<NewsData> createdNews = newsDataRepository.findByCreatedAtGreaterThanEqualOrderByPubDateAsc(scannedFrom);
+        scanFrom = now.minusMinutes(SCAN_OVERLAP_MINUTES);
+
+        List<Long> englishNewsIds = new ArrayList<>();
+        List<Long> duplicateNewsIds = new ArrayList<>();
+        Map<Long, DuplicateGroup> touchedGroups = new LinkedHashMap<>();
+
+        for (NewsData news : createdNews) {
+            if (entries.containsKey(news.getNewsId()) || !Integer.valueOf(1).equals(news.getIsActive())) {
+                continue;
+            }
+            if (news.getPubDate() == null || news.getPubDate().isBefore(now.minusHours(windowHours))) {
+                continue;
+            }
+            if (isMostlyEnglish(news)) {
+                englishNewsIds.add(news.getNewsId());
+                continue;
+            }
+
+            IndexedNews indexed = index(news);
+            if (indexed == null) {
+                continue;
+            }
+            DuplicateGroup group = groups.get(indexed.groupId());
+            if (group.representativeId != news.getNewsId()) {
+                duplicateNewsIds.add(news.getNewsId());
+            }
+            touchedGroups.put(group.id, group);
+        }
+
+        List<GroupSummary> popularCandidates = touchedGroups.values().stream()
+                .filter(group -> !group.popular && group.size >= popularMinGroupSize && group.size > group.judgedSize)
+                .map(DuplicateGroup::toSummary)
+                .toList();
+
+        log.info("유사 뉴스 탐지 완료 - 신규: {}, 중복: {}, 영문: {}, 인기 후보 그룹: {}, 인덱스: {}",
+                createdNews.size(), duplicateNewsIds.size(), englishNewsIds.size(), popularCandidates.size(), entries.size());
+        return new DetectionResult(duplicateNewsIds, englishNewsIds, popularCandidates, scannedFrom);
+    }
+
+    /**
+     * 탐지 결과를 DB에 반영하지 못함 (트랜잭션 롤백 등)
+     * 인덱스에는 이미 들어갔지만 DB에는 비활성화되지 않은 뉴스가 다시 처리되도록,
+     * 다음 탐지 전에 result의 조회 시작 시각 이전 뉴스로만 인덱스를 다시 만들고 그 시각부터 다시 조회함
+     */
+    public synchronized void rollback(DetectionResult result) {
+        if (rebuildBefore == null || result.scannedFrom().isBefore(rebuildBefore)) {
+            rebuildBefore = result.scannedFrom();
+        }
+        log.warn("유사 뉴스 탐지 결과 반영 실패 - {} 이후 저장된 뉴스를 다음 탐지에서 다시 처리", rebuildBefore);
+    }
+
+    // 그룹이 인기 뉴스로 지정됨
+    public synchronized void markPopular(long groupId) {
+        DuplicateGroup group = groups.get(groupId);
+        if (group != null) {
+            group.popular = true;
+        }
+    }
+
+    // 인기 아님으로 판단됨 - 그룹이 더 커질 때까지 다시 묻지 않음
+    public synchronized void markJudged(long groupId) {
+        DuplicateGroup group = groups.get(groupId);
+        if (group != null) {
+            group.judgedSize = group.size;
+        }
+    }
+
+    // 서명을 만들어 가장 비슷한 기사의 그룹에 넣거나 새 그룹을 만듦
+    private IndexedNews index(NewsData news) {
+        long[] signature = minHasher.signature(news.getTitle() + " " + news.getDescription());
+        if (signature == null) {
+            return null;
+        }
+        long[] bandKeys = minHasher.bandKeys(signature);
+
+        IndexedNews best = null;
+        double bestSimilarity = similarityThreshold;
+        for (long bandKey : bandKeys) {
+            for (IndexedNews candidate : buckets.getOrDefault(bandKey, List.of())) {
+                double similarity = MinHasher.similarity(signature, candidate.signature());
+                if (similarity >= bestSimilarity) {
+                    best = candidate;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+
+        DuplicateGroup group = best != null
+                ? groups.get(best.groupId())
+                : groups.computeIfAbsent(news.getNewsId(), id -> new DuplicateGroup(id, id));
+        group.add(news.getTitle());
+
+        IndexedNews indexed = new IndexedNews(news.getNewsId(), news.getPubDate(), signature, bandKeys, group.id);
+        entries.put(indexed.newsId(), indexed);
+        for (long bandKey : bandKeys) {
+            buckets.computeIfAbsent(bandKey, key -> new ArrayList<>()).add(indexed);
+        }
+        return indexed;
+    }
+
+    // 윈도우를 벗어난 기사와 빈 그룹 정리
+    private void evictBefore(LocalDateTime windowStart) {
+        List<IndexedNews> expired = entries.values().stream()
+                .filter(indexed -> indexed.pubDate().isBefore(windowStart))
+                .toList();
+
+        for (IndexedNews indexed : expired) {
+            entries.remove(indexed.newsId());
+            for (long bandKey : indexed.bandKeys()) {
+                List<IndexedNews> bucket = buckets.get(bandKey);
+                if (bucket != null) {
+                    bucket.remove(indexed);
+                    if (bucket.isEmpty()) {
+                        buckets.remove(bandKey);
+                    }
+                }
+            }
+            DuplicateGroup group = groups.get(indexed.groupId());
+            if (group != null && --group.size <= 0) {
+                groups.remove(group.id);
+            }
+        }
+    }
+
+    // 제목+설명의 글자 중 영문 비율이 english-ratio 이상
+    private boolean isMostlyEnglish(NewsData news) {
+        String text = news.getTitle() + " " + news.getDescription();
+        long letters = text.codePoints().filter(Character::isLetter).count();
+        if (letters == 0) {
+            return false;
+        }
+        long english = text.codePoints().filter(c -> (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')).count();
+        return (double) english / letters >= englishRatio;
+    }
+
+    private record IndexedNews(long newsId, LocalDateTime pubDate, long[] signature, long[] bandKeys, long groupId) {
+    }
+
+    private static class DuplicateGroup {
+        private final long id;
+        private final long representativeId;
+        private final List<String> titles = new ArrayList<>();
+        private int size;
+        private int judgedSize;
+        private boolean popular;
+
+        private DuplicateGroup(long id, long representativeId) {
+            this.id = id;
+            this.representativeId = representativeId;
+        }
+
+        private void add(String title) {
+            size++;
+            if (titles.size() < SUMMARY_TITLE_LIMIT && !titles.contains(title)) {
+                titles.add(title);
+            }
+        }
+
+        private GroupSummary toSummary() {
+            return new GroupSummary(id, representativeId, size, List.copyOf(titles));
+        }
+    }
+
+    /**
+     * @param duplicateNewsIds 기존 그룹에 합류해 비활성화할 뉴스
+     * @param englishNewsIds 영문 비율이 높아 비활성화할 뉴스
+     * @param popularCandidates 인기 뉴스 판단이 필요한 그룹
+     * @param scannedFrom 이번 탐지의 조회 시작 시각 (반영 실패 시 여기서부터 다시 처리)
+     */
+    public record DetectionResult(List<Long> duplicateNewsIds, List<Long> englishNewsIds,
+                                  List<GroupSummary> popularCandidates, LocalDateTime scannedFrom) {
+    }
+
+    /**
+     * LLM 인기 판단용 그룹 요약
+     * @param representativeId 그룹 대표(가장 먼저 노출된) 뉴스 - 인기 지정 대상
+     * @param titles 대표 제목 몇 개
+     */
+    public record GroupSummary(long groupId, long representativeId, int articleCount, List<String> titles) {
+    }
+}
@@ -2,22 +2,24 @@ package com.gaebang.backend.domain.newsData.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.gaebang.backend.domain.newsData.entity.NewsData;
 import com.gaebang.backend.domain.newsData.event.NewsCreatedEvent;
+import com.gaebang.backend.domain.newsData.event.NewsFeedChangedEvent;
 import com.gaebang.backend.domain.newsData.repository.NewsDataRepository;
+import com.gaebang.backend.domain.newsData.service.NewsNearDuplicateDetector.DetectionResult;
+import com.gaebang.backend.domain.newsData.service.NewsNearDuplicateDetector.GroupSummary;
 import com.gaebang.backend.domain.question.gemini.util.GeminiQuestionProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestClient;
 
-import java.time.LocalDateTime;
 import java.util.*;
 
 @Slf4j
@@ -30,130 +32,43 @@ public class PopularNewsDataService {
     private final NewsDataRepository newsDataRepository;
     private final NewsImageService newsImageService;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NewsNearDuplicateDetector nearDuplicateDetector;
+    private final TransactionTemplate transactionTemplate;
 
-    // 뉴스 전체 조회 한 것 가공하기 - pubDate 추가
-    public String getNewsData() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfYesterday = now.minusDays(1).toLocalDate().atStartOfDay();
-        LocalDateTime endOfToday = now.toLocalDate().plusDays(1).atStartOfDay();
+    // 유사 기사 그룹의 인기 여부를 LLM으로 판단 (false면 그룹 크기만으로 지정)
+    @Value("${news.dedup.llm-popularity-enabled:true}")
+    private boolean llmPopularityEnabled;
 
-        List<NewsData> newsData = newsDataRepository.findNewsByDateRange(startOfYesterday, endOfToday);
-
-        log.info("뉴스 데이터 개수 확인 ({}부터 {}까지): {}",
-                startOfYesterday, endOfToday, newsData.size());
-
-        StringBuilder data = new StringBuilder();
-        data.append("[\n");
-
-        for (int i = 0; i < newsData.size(); i++) {
-            Long newsId = newsData.get(i).getNewsId();
-            String title = escapeJsonString(newsData.get(i).getTitle());
-            String description = escapeJsonString(newsData.get(i).getDescription());
-            String pubDate = newsData.get(i).getPubDate().toString();
-
-            data.append(String.format("  {\n" +
-                    "    \"newsId\": %d,\n" +
-                    "    \"title\": \"%s\",\n" +
-                    "    \"description\": \"%s\",\n" +
-                    "    \"pubDate\": \"%s\"\n" +
-                    "  }", newsId, title, description, pubDate));
-
-            if (i < newsData.size() - 1) {
-                data.append(",");
-            }
-            data.append("\n");
-        }
-
-        data.append("]");
-        return data.toString();
-    }
-
-    // JSON 문자열 이스케이프 처리
-    private String escapeJsonString(String input) {
-        if (input == null) return "";
-        return input.replace("\\", "\\\\")
-                .replace("\"", "\\\"")
-                .replace("\n", "\\n")
-                .replace("\r", "\\r")
-                .replace("\t", "\\t");
-    }
-
-    // content 작성하기 - 새로운 프롬프트
+    // 인기 판단 프롬프트 - 유사 기사 그룹 요약만 전달
     private static String writeSystem() {
-        return "SYSTEM: You are a Korean news deduplication expert.\n" +
+        return "SYSTEM: You are a Korean IT news editor.\n" +
                 "\n" +
                 "TASK:\n" +
-                "1. Analyze ALL news articles to find groups reporting the SAME EVENT/STORY.\n" +
-                "2. Look for groups of 2+ articles (mark 3+ as 'popular').\n" +
-                "3. Focus on core elements: WHO did WHAT, WHEN, WHERE.\n" +
-                "4. Deactivate articles that are 90%+ English in title/description.\n" +
-                "5. For duplicate groups, keep only the OLDEST article active (is_active = 1), deactivate others (is_active = 0).\n" +
-                "\n" +
-                "DUPLICATE IDENTIFICATION RULES:\n" +
-                "- Same entity (company/person/organization) + same action/event\n" +
-                "- Same incident/announcement with same timeframe\n" +
-                "- Different media outlets reporting identical news event\n" +
-                "- Similar quotes from same spokesperson about same matter\n" +
-                "\n" +
-                "ANALYSIS METHOD:\n" +
-                "1. Extract key entities: companies, people, organizations\n" +
-                "2. Identify main action/event for each article\n" +
-                "3. Group articles with matching entity+action combinations\n" +
-                "4. Verify timing consistency (same day/week)\n" +
-                "5. Check language composition (Korean vs English) in title/description\n" +
-                "6. Determine oldest article in each duplicate group for activation\n" +
+                "Each group below is a cluster of articles from different outlets reporting the SAME story.\n" +
+                "Decide which groups are genuinely notable, widely covered stories worth featuring as 'popular news'.\n" +
                 "\n" +
-                "ACTIVATION RULES:\n" +
-                "- If title + description is 90%+ English: is_active = 0\n" +
-                "- In duplicate groups: oldest article gets is_active = 1, others get is_active = 0\n" +
-                "- Single articles (no duplicates): is_active = 1 (unless English rule applies)\n" +
+                "RULES:\n" +
+                "- Prefer stories with broad impact (major companies, policy, large investments, security incidents, product launches)\n" +
+                "- Exclude advertorials, event/promotion notices, routine personnel news and minor local news\n" +
+                "- articleCount is how many outlets covered the story; use it as a signal, not the only criterion\n" +
                 "\n" +
                 "CRITICAL JSON FORMATTING RULES:\n" +
                 "- Output ONLY pure JSON, no markdown formatting\n" +
                 "- Do NOT use ```json or ``` code blocks\n" +
                 "- Start directly with { and end with }\n" +
-                "- No explanatory text before or after JSON\n" +
-                "- No comments or additional formatting\n" +
                 "\n" +
                 "OUTPUT FORMAT:\n" +
                 "{\n" +
-                "  \"duplicateGroups\": [\n" +
-                "    {\n" +
-                "      \"groupId\": 1,\n" +
-                "      \"theme\": \"주요 사건 요약\",\n" +
-                "      \"articles\": [\n" +
-                "        {\n" +
-                "          \"newsId\": 123,\n" +
-                "          \"title\": \"article title\",\n" +
-                "          \"description\": \"article description\",\n" +
-                "          \"pubDate\": \"article date\",\n" +
-                "          \"is_active\": 1\n" +
-                "        }\n" +
-                "      ],\n" +
-                "      \"articleCount\": 15,\n" +
-                "      \"earlyPubDateNewsId\": 123,\n" +
-                "      \"isPopular\": true\n" +
-                "    }\n" +
-                "  ],\n" +
-                "  \"deactivatedArticles\": [\n" +
-                "    {\n" +
-                "      \"newsId\": 456,\n" +
-                "      \"title\": \"English article title\",\n" +
-                "      \"description\": \"English description\",\n" +
-                "      \"reason\": \"90%+ English content\",\n" +
-                "      \"is_active\": 0\n" +
-                "    }\n" +
-                "  ]\n" +
+                "  \"popularGroupIds\": [123, 456]\n" +
                 "}\n" +
                 "\n" +
-                "If no duplicates:\n" +
+                "If none are notable:\n" +
                 "{\n" +
-                "  \"duplicateGroups\": [],\n" +
-                "  \"deactivatedArticles\": [],\n" +
-                "  \"message\": \"중복 기사 없음\"\n" +
+                "  \"popularGroupIds\": []\n" +
                 "}\n" +
                 "\n" +
-                "INPUT: [news list]";
+                "INPUT: [group list]";
     }
 
     // 이벤트 리스너 - 순차 실행
@@ -169,224 +84,173 @@ public class PopularNewsDataService {
             getDuplatedNews();
             log.info("1단계: 중복 뉴스 분석 완료");
 
-            // 2. 이미지 생성 (후순위) - 쿼터 상태 확인 후 실행
-            log.info("2단계: 이미지 생성 시작");
-            
-            // 쿼터 초과 상태 확인 - 초과 시 이미지 생성 스킵
-            if (newsImageService.isQuotaExceeded()) {
-                log.warn("2단계: API 쿼터 초과로 인해 이미지 생성 스킵");
-            } else {
-                newsImageService.createNewsImages();
-            }
-            
-            log.info("2단계: 이미지 생성 완료");
+            // 2. 이미지 생성 작업 등록 (후순위) - 실제 생성은 스케줄러가 속도 제한에 맞춰 인기 뉴스부터 처리
+            log.info("2단계: 이미지 생성 작업 등록");
+            newsImageService.createNewsImages();
 
         } catch (Exception e) {
             log.error("뉴스 후속 처리 중 오류", e);
         }
     }
 
-    // 중복된 기사 찾기 - Gemini API 사용
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    /**
+     * 중복된 기사 찾기 - 로컬 유사도(MinHash) 탐지 후 인기 여부만 Gemini API로 판단
+     * - LLM 호출은 트랜잭션 밖에서 하고, 비활성/인기 표시는 한 트랜잭션으로 반영
+     * - 탐지기의 판단 완료 표시는 커밋 후에만 반영하고, 반영에 실패하면 탐지기를 되돌려 다음 탐지에서 다시 처리
+     */
     public void getDuplatedNews() {
+        DetectionResult result = null;
         try {
-            log.info("=== 중복 뉴스 탐지 시작 (Gemini API) ===");
-
-            String modelToUse = geminiQuestionProperties.getModelToUse("gemini-2.5-flash");
-            String geminiUrl = geminiQuestionProperties.getResponseUrl(modelToUse);
-            log.info("사용 모델: {}, API URL: {}", modelToUse, geminiUrl);
-
-            String promptSystem = writeSystem();
-            String data = getNewsData();
-            String content = promptSystem + "\n\nNews Data:\n" + data;
-
-            log.info("전송할 프롬프트 길이: {} 문자", content.length());
+            log.info("=== 중복 뉴스 탐지 시작 ===");
 
-            // Gemini API 요청 구조
-            Map<String, Object> part = new HashMap<>();
-            part.put("text", content);
+            result = nearDuplicateDetector.detectNewArticles();
 
-            Map<String, Object> geminiContent = new HashMap<>();
-            geminiContent.put("role", "user");
-            geminiContent.put("parts", Arrays.asList(part));
+            // 일정 크기 이상 그룹만 요약해서 인기 여부 판단
+            List<GroupSummary> candidates = result.popularCandidates();
+            Set<Long> popularGroupIds = judgePopularGroups(candidates);
 
-            Map<String, Object> parameters = new HashMap<>();
-            parameters.put("contents", Arrays.asList(geminiContent));
+            DetectionResult detected = result;
+            transactionTemplate.executeWithoutResult(status -> applyDetection(detected, popularGroupIds));
 
-            log.info("Gemini API 요청 파라미터: {}", parameters.keySet());
-            log.info("Gemini API 호출 시작...");
-
-            String response = restClient.post()
-                    .uri(geminiUrl.replace(":streamGenerateContent?alt=sse", ":generateContent")) // 스트리밍이 아닌 일반 요청
-                    .header("x-goog-api-key", geminiQuestionProperties.getApiKey())
-                    .header("Content-Type", "application/json")
-                    .body(parameters)
-                    .exchange((request, httpResponse) -> {
-                        log.info("Gemini API 응답 상태 코드: {}", httpResponse.getStatusCode());
-
-                        if (Thread.currentThread().isInterrupted()) {
-                            log.warn("Gemini API 스레드 인터럽트 감지 - API 호출 중단");
-                            return null;
-                        }
-
-                        if (!httpResponse.getStatusCode().is2xxSuccessful()) {
-                            log.error("Gemini API 호출 실패: {}", httpResponse.getStatusCode());
-                            try {
-                                String errorBody = new String(httpResponse.getBody().readAllBytes());
-                                log.error("오류 응답 본문: {}", errorBody);
-                            } catch (Exception e) {
-                                log.error("오류 응답 읽기 실패", e);
-                            }
-                            return null;
-                        }
-
-                        try {
-                            String responseBody = new String(httpResponse.getBody().readAllBytes());
-                            log.info("Gemini API 응답 길이: {} 문자", responseBody.length());
-                            return responseBody;
-                        } catch (Exception e) {
-                            log.error("응답 파싱 오류", e);
-                            return null;
-                        }
-                    });
-
-            if (response != null) {
-                log.info("=== Gemini API 응답 성공 ===");
-                processDuplicateNews(response);
-            } else {
-                log.warn("=== Gemini API 응답이 null ===");
+            // 커밋된 뒤에만 탐지기에 판단 결과 기록
+            for (GroupSummary group : candidates) {
+                if (popularGroupIds.contains(group.groupId())) {
+                    nearDuplicateDetector.markPopular(group.groupId());
+                } else {
+                    nearDuplicateDetector.markJudged(group.groupId());
+                }
             }
 
             log.info("=== 중복 뉴스 탐지 완료 ===");
 
         } catch (Exception e) {
             log.error("중복 뉴스 탐지 중 예외 발생", e);
+            if (result != null) {
+                nearDuplicateDetector.rollback(result);
+            }
         }
     }
 
-    // 응답 파싱 메서드 - Gemini 응답 형태에 맞게 수정
-    private void processDuplicateNews(String response) {
-        try {
-            JsonNode rootNode = objectMapper.readTree(response);
-            
-            log.info("전체 응답 구조: {}", rootNode.toString());
-
-            // Gemini 응답 구조 안전하게 파싱
-            JsonNode candidatesNode = rootNode.path("candidates");
-            if (!candidatesNode.isArray() || candidatesNode.size() == 0) {
-                log.error("응답에 candidates 배열이 없거나 비어있습니다: {}", response);
-                return;
-            }
-            
-            JsonNode firstCandidate = candidatesNode.get(0);
-            if (firstCandidate == null || firstCandidate.isNull()) {
-                log.error("첫 번째 candidate가 null입니다");
-                return;
-            }
-            
-            JsonNode partsNode = firstCandidate.path("content").path("parts");
-            if (!partsNode.isArray() || partsNode.size() == 0) {
-                log.error("parts 배열이 없거나 비어있습니다");
-                return;
-            }
-            
-            JsonNode firstPart = partsNode.get(0);
-            if (firstPart == null || firstPart.isNull()) {
-                log.error("첫 번째 part가 null입니다");
-                return;
-            }
-            
-            String contentJson = firstPart.path("text").asText();
-            if (contentJson == null || contentJson.trim().isEmpty()) {
-                log.error("text 내용이 비어있습니다");
-                return;
-            }
-
-            log.info("추출된 content JSON: {}", contentJson);
-
-            JsonNode contentNode = objectMapper.readTree(contentJson);
+    // 탐지 결과를 DB에 반영 - 예외가 나면 트랜잭션 전체가 롤백됨
+    private void applyDetection(DetectionResult result, Set<Long> popularGroupIds) {
+        // 1. 영어 콘텐츠 비활성화 처리
+        for (Long newsId : result.englishNewsIds()) {
+            newsDataRepository.markAsActive(newsId);
+            log.info("영어 콘텐츠 비활성화: newsId={}", newsId);
+        }
 
-            // 1. 영어 콘텐츠 비활성화 처리
-            JsonNode deactivatedArticles = contentNode.path("deactivatedArticles");
-            if (deactivatedArticles.isArray()) {
-                for (JsonNode article : deactivatedArticles) {
-                    Long newsId = article.path("newsId").asLong();
-                    String reason = article.path("reason").asText();
+        // 2. 기존 그룹에 합류한 중복 기사 비활성화 (그룹 대표 기사는 유지)
+        for (Long newsId : result.duplicateNewsIds()) {
+            newsDataRepository.markAsActive(newsId);
+            log.info("중복 기사 비활성화: newsId={}", newsId);
+        }
 
-                    if ("90%+ English content".equals(reason)) {
-                        newsDataRepository.markAsActive(newsId);
-                        log.info("영어 콘텐츠 비활성화: newsId={}, reason={}", newsId, reason);
-                    }
-                }
+        // 3. 인기 그룹의 대표 기사 지정
+        for (GroupSummary group : result.popularCandidates()) {
+            if (popularGroupIds.contains(group.groupId())) {
+                newsDataRepository.markAsPopular(group.representativeId());
+                log.info("인기 기사로 설정: newsId={}, 그룹 기사 수={}", group.representativeId(), group.articleCount());
             }
+        }
 
-            // 2. 중복 그룹 처리
-            JsonNode duplicateGroups = contentNode.path("duplicateGroups");
-            for (JsonNode group : duplicateGroups) {
-                int groupId = group.path("groupId").asInt();
-                Long earlyPubDateNewsId = group.path("earlyPubDateNewsId").asLong();
-                JsonNode articles = group.path("articles");
-
-                log.info("=== 중복 그룹 {} 처리 시작 (기사 {}개) ===", groupId, articles.size());
-                log.info("  - 가장 오래된 기사: newsId={}", earlyPubDateNewsId);
+        if (!result.englishNewsIds().isEmpty() || !result.duplicateNewsIds().isEmpty() || !popularGroupIds.isEmpty()) {
+            // 인기/비활성 표시가 바뀌었으므로 피드 스냅샷 갱신 (트랜잭션 커밋 후 반영)
+            eventPublisher.publishEvent(new NewsFeedChangedEvent("duplicate-marking"));
+        }
+    }
 
-                List<Long> allNewsIds = new ArrayList<>();
+    /**
+     * 인기 후보 그룹 중 인기 뉴스로 지정할 그룹 판단
+     * LLM 판단을 끄거나 실패하면 그룹 크기 기준(후보 전체)으로 지정
+     */
+    private Set<Long> judgePopularGroups(List<GroupSummary> candidates) {
+        Set<Long> allCandidates = new HashSet<>();
+        candidates.forEach(group -> allCandidates.add(group.groupId()));
+        if (candidates.isEmpty() || !llmPopularityEnabled) {
+            return allCandidates;
+        }
 
-                // 모든 기사 정보 수집
-                for (JsonNode article : articles) {
-                    Long newsId = article.path("newsId").asLong();
-                    String title = article.path("title").asText();
-                    allNewsIds.add(newsId);
+        try {
+            String content = writeSystem() + "\n\nGroups:\n" + objectMapper.writeValueAsString(candidates.stream()
+                    .map(group -> Map.of(
+                            "groupId", group.groupId(),
+                            "articleCount", group.articleCount(),
+                            "titles", group.titles()))
+                    .toList());
+            log.info("인기 판단 요청 - 그룹 수: {}, 프롬프트 길이: {} 문자", candidates.size(), content.length());
+
+            String text = extractText(requestGemini(content));
+            if (text == null) {
+                log.warn("인기 판단 응답이 비어있음 - 그룹 크기 기준으로 지정");
+                return allCandidates;
+            }
 
-                    log.info("  - 중복 기사: newsId={}, title={}", newsId, title);
+            Set<Long> popularGroupIds = new HashSet<>();
+            JsonNode ids = objectMapper.readTree(text).path("popularGroupIds");
+            for (JsonNode id : ids) {
+                if (allCandidates.contains(id.asLong())) {
+                    popularGroupIds.add(id.asLong());
                 }
+            }
+            log.info("인기 판단 완료 - 후보: {}, 인기: {}", candidates.size(), popularGroupIds.size());
+            return popularGroupIds;
 
-                log.info("  - 그룹 내 모든 기사: {}", allNewsIds);
-
-                // DB 업데이트 로직 - 3개 이상부터 인기글
-                if (earlyPubDateNewsId != null && allNewsIds.contains(earlyPubDateNewsId)) {
-
-                    if (articles.size() >= 3) {
-                        // 3개 이상: 인기글 처리 + 중복글 비활성화
-                        log.info("  📊 3개 이상 그룹 → 인기글 처리 + 중복글 비활성화");
-
-                        // 가장 오래된 기사를 인기 기사로 설정
-                        newsDataRepository.markAsPopular(earlyPubDateNewsId);
-                        log.info("  ✅ 인기 기사로 설정: newsId = {}", earlyPubDateNewsId);
-
-                        // 나머지 중복 기사들을 비활성화
-                        for (Long newsId : allNewsIds) {
-                            if (!newsId.equals(earlyPubDateNewsId)) {
-                                newsDataRepository.markAsActive(newsId);
-                                log.info("  ❌ 비활성화 처리: newsId = {}", newsId);
-                            }
-                        }
-
-                    } else {
-                        // 3개 미만: 인기글 처리 안함 + 중복글만 비활성화
-                        log.info("  📝 3개 미만 그룹 → 중복글만 비활성화 (인기글 처리 안함)");
+        } catch (Exception e) {
+            log.error("인기 판단 중 오류 - 그룹 크기 기준으로 지정", e);
+            return allCandidates;
+        }
+    }
 
-                        // 인기글 처리는 하지 않고, 중복글만 비활성화
-                        for (Long newsId : allNewsIds) {
-                            if (!newsId.equals(earlyPubDateNewsId)) {
-                                newsDataRepository.markAsActive(newsId);
-                                log.info("  ❌ 비활성화 처리: newsId = {}", newsId);
-                            }
+    // Gemini API 호출 (실패 시 null)
+    private String requestGemini(String content) {
+        String modelToUse = geminiQuestionProperties.getModelToUse("gemini-2.5-flash");
+        String geminiUrl = geminiQuestionProperties.getResponseUrl(modelToUse);
+
+        // Gemini API 요청 구조
+        Map<String, Object> part = new HashMap<>();
+        part.put("text", content);
+
+        Map<String, Object> geminiContent = new HashMap<>();
+        geminiContent.put("role", "user");
+        geminiContent.put("parts", Arrays.asList(part));
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("contents", Arrays.asList(geminiContent));
+
+        return restClient.post()
+                .uri(geminiUrl.replace(":streamGenerateContent?alt=sse", ":generateContent")) // 스트리밍이 아닌 일반 요청
+                .header("x-goog-api-key", geminiQuestionProperties.getApiKey())
+                .header("Content-Type", "application/json")
+                .body(parameters)
+                .exchange((request, httpResponse) -> {
+                    if (!httpResponse.getStatusCode().is2xxSuccessful()) {
+                        log.error("Gemini API 호출 실패: {}", httpResponse.getStatusCode());
+                        try {
+                            String errorBody = new String(httpResponse.getBody().readAllBytes());
+                            log.error("오류 응답 본문: {}", errorBody);
+                        } catch (Exception e) {
+                            log.error("오류 응답 읽기 실패", e);
                         }
-                        log.info("  ℹ️  가장 오래된 기사 유지 (인기글 아님): newsId = {}", earlyPubDateNewsId);
+                        return null;
                     }
+                    return new String(httpResponse.getBody().readAllBytes());
+                });
+    }
 
-                } else {
-                    log.warn("  ⚠️ earlyPubDateNewsId를 찾을 수 없거나 유효하지 않음");
-                }
-
-                log.info("=== 중복 그룹 {} 처리 완료 ===", groupId);
-            }
-
-            log.info("전체 중복 기사 처리 완료: 총 {}개 그룹 처리", duplicateGroups.size());
+    // Gemini 응답에서 첫 번째 candidate의 text 추출 (없으면 null)
+    private String extractText(String response) throws Exception {
+        if (response == null) {
+            return null;
+        }
 
-        } catch (Exception e) {
-            log.error("중복 뉴스 응답 파싱 중 오류 발생", e);
+        JsonNode textNode = objectMapper.readTree(response)
+                .path("candidates").path(0)
+                .path("content").path("parts").path(0)
+                .path("text");
+        if (textNode.isMissingNode() || textNode.asText().isBlank()) {
+            log.error("Gemini 응답에 text가 없습니다: {}", response);
+            return null;
         }
+        return textNode.asText();
     }
-}
\ No newline at end of file
+}
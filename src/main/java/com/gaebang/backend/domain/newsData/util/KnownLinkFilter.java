@@ -0,0 +1,94 @@
+package com.gaebang.backend.domain.newsData.util;
+
+import com.gaebang.backend.global.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 수집 대상 링크 중복 확인 (뉴스/채용정보 공용)
+ * - 이미 저장된 링크를 블룸 필터에 올려두고, "없음"이 확실한 링크는 DB 조회 없이 신규로 판단
+ * - 블룸 필터가 "있을 수 있음"이라고 한 링크만 모아 IN 쿼리 한 번으로 실제 존재 여부를 확인
+ * - 워밍업 전이거나 실패한 경우에는 전체 링크를 IN 쿼리로 확인
+ */
+@Slf4j
+public class KnownLinkFilter {
+
+    private final String name;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Function<Collection<String>, List<String>> existingLinkLoader;
+
+    private volatile BloomFilter bloomFilter;
+
+    /**
+     * @param name 로그용 이름
+     * @param existingLinkLoader 주어진 링크 중 DB에 이미 있는 링크를 돌려주는 조회 (SELECT link ... WHERE link IN (...))
+     */
+    public KnownLinkFilter(String name, long expectedInsertions, double falsePositiveRate,
+                           Function<Collection<String>, List<String>> existingLinkLoader) {
+        this.name = name;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.existingLinkLoader = existingLinkLoader;
+    }
+
+    /**
+     * 저장된 링크 전체로 블룸 필터를 새로 만듦
+     * @param storedLinks DB에 저장된 링크 (호출 측에서 스트리밍 조회)
+     */
+    public void warmUp(Stream<String> storedLinks) {
+        BloomFilter filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        long[] count = {0};
+        storedLinks.forEach(link -> {
+            if (link != null) {
+                filter.put(link);
+                count[0]++;
+            }
+        });
+        bloomFilter = filter;
+
+        if (count[0] > expectedInsertions) {
+            log.warn("{} 링크 필터 예상 크기 초과 - 링크 수: {}, 예상: {} (오탐률 상승, 설정값 조정 필요)",
+                    name, count[0], expectedInsertions);
+        }
+        log.info("{} 링크 필터 워밍업 완료 - 링크 수: {}", name, count[0]);
+    }
+
+    /**
+     * 주어진 링크 중 이미 저장된 링크
+     */
+    public Set<String> findExisting(Collection<String> links) {
+        if (links.isEmpty()) {
+            return Set.of();
+        }
+
+        BloomFilter filter = bloomFilter;
+        List<String> candidates = filter == null
+                ? List.copyOf(links)
+                : links.stream().filter(filter::mightContain).toList();
+        if (candidates.isEmpty()) {
+            log.debug("{} 링크 필터 - 전체 {}건 신규 (DB 조회 생략)", name, links.size());
+            return Set.of();
+        }
+
+        Set<String> existing = new HashSet<>(existingLinkLoader.apply(candidates));
+        log.debug("{} 링크 필터 - 전체: {}, 후보: {}, 기존: {}", name, links.size(), candidates.size(), existing.size());
+        return existing;
+    }
+
+    /**
+     * 저장이 끝난 링크를 필터에 반영 (커밋 이후 호출)
+     */
+    public void register(Collection<String> links) {
+        BloomFilter filter = bloomFilter;
+        if (filter != null) {
+            links.forEach(filter::put);
+        }
+    }
+}
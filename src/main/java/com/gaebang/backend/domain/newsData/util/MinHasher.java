@@ -0,0 +1,142 @@
+package com.gaebang.backend.domain.newsData.util;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 뉴스 유사도 비교용 MinHash
+ * - 텍스트를 정규화(소문자, 글자/숫자만 남김, 대괄호 말머리 제거)한 뒤 글자 k-gram(shingle) 집합으로 만듦
+ *   (한국어는 띄어쓰기/조사 차이가 커서 단어 대신 글자 단위를 사용)
+ * - 서명 길이 = bands * rows, 두 서명의 일치 비율이 shingle 집합의 Jaccard 유사도 추정치
+ * - LSH: 서명을 band 단위로 묶은 해시가 하나라도 같으면 비교 후보 (rows가 작을수록 낮은 유사도도 후보가 됨)
+ */
+public class MinHasher {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int shingleSize;
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+
+    public MinHasher(int shingleSize, int bands, int rows) {
+        if (shingleSize <= 0 || bands <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("shingleSize, bands, rows는 0보다 커야 합니다");
+        }
+        this.shingleSize = shingleSize;
+        this.bands = bands;
+        this.rows = rows;
+
+        // 서버/재시작과 관계없이 같은 서명이 나오도록 고정 시드 사용
+        SplittableRandom random = new SplittableRandom(0x5eed_5eedL);
+        this.seeds = new long[bands * rows];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * MinHash 서명
+     * @return 길이 bands * rows의 서명, shingle이 없으면(빈 텍스트 등) null
+     */
+    public long[] signature(String text) {
+        Set<Long> shingles = shingles(text);
+        if (shingles.isEmpty()) {
+            return null;
+        }
+
+        long[] signature = new long[seeds.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < seeds.length; i++) {
+                long hash = mix(shingle ^ seeds[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * LSH band 키 (band 번호를 섞어 넣어 서로 다른 band끼리 충돌하지 않게 함)
+     */
+    public long[] bandKeys(long[] signature) {
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long hash = mix(band + 1L);
+            for (int row = 0; row < rows; row++) {
+                hash = mix(hash ^ signature[band * rows + row]);
+            }
+            keys[band] = hash;
+        }
+        return keys;
+    }
+
+    /**
+     * 두 서명의 Jaccard 유사도 추정치 (0~1)
+     */
+    public static double similarity(long[] a, long[] b) {
+        int matches = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                matches++;
+            }
+        }
+        return (double) matches / a.length;
+    }
+
+    // 정규화된 텍스트의 글자 k-gram 해시 집합
+    private Set<Long> shingles(String text) {
+        String normalized = normalize(text);
+        Set<Long> shingles = new HashSet<>();
+        if (normalized.isEmpty()) {
+            return shingles;
+        }
+        if (normalized.length() < shingleSize) {
+            shingles.add(hash(normalized, 0, normalized.length()));
+            return shingles;
+        }
+        for (int i = 0; i + shingleSize <= normalized.length(); i++) {
+            shingles.add(hash(normalized, i, i + shingleSize));
+        }
+        return shingles;
+    }
+
+    // [속보], [단독] 같은 말머리와 공백/문장부호 제거, 소문자 변환
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String withoutTags = text.replaceAll("\\[[^\\]]*\\]", " ");
+        StringBuilder builder = new StringBuilder(withoutTags.length());
+        withoutTags.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    // FNV-1a
+    private static long hash(String text, int start, int end) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = start; i < end; i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53e94d3L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
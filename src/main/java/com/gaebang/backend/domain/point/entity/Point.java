@@ -21,7 +21,10 @@ import java.time.LocalDateTime;
 public class Point extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "point_id_generator")
+    @TableGenerator(name = "point_id_generator", table = "id_generator",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "point", allocationSize = 50)
     @Column(name = "point_id")
     private Long pointId;
 
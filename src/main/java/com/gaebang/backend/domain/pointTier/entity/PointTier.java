@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(PointTierEntityListener.class)
 public class PointTier extends BaseTimeEntity {
 
     @Id
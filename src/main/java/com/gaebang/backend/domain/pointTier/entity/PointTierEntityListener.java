@@ -0,0 +1,27 @@
+package com.gaebang.backend.domain.pointTier.entity;
+
+import com.gaebang.backend.domain.pointTier.service.PointTierLookupService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등급 테이블이 변경되면 메모리 등급 인덱스를 재적재하도록 요청
+ */
+@Component
+@RequiredArgsConstructor
+public class PointTierEntityListener {
+
+    // EntityManagerFactory 초기화 시점의 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<PointTierLookupService> pointTierLookupService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onTierChanged(PointTier pointTier) {
+        pointTierLookupService.getObject().requestRefresh();
+    }
+}
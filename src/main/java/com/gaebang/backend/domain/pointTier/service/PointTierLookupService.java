@@ -0,0 +1,160 @@
+package com.gaebang.backend.domain.pointTier.service;
+
+import com.gaebang.backend.domain.member.exception.PointTierIsNotExistException;
+import com.gaebang.backend.domain.pointTier.entity.PointTier;
+import com.gaebang.backend.domain.pointTier.repository.PointTierRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 포인트 → 등급 조회를 메모리에서 처리하는 서비스
+ * - point_tier 테이블을 불변 구간 인덱스(정렬된 int[] 경계 + 이진 탐색)로 적재
+ * - 목록/댓글 조회 시 행마다 발생하던 등급 조회 쿼리를 제거
+ * - 등급 변경 시(엔티티 리스너) 및 주기적으로 인덱스를 재적재
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PointTierLookupService {
+
+    private static final int NO_TIER = -1;
+
+    private final PointTierRepository pointTierRepository;
+
+    private volatile TierIndex tierIndex;
+
+    /**
+     * 포인트에 해당하는 등급 순서 조회
+     * 겹치는 구간이 있으면 가장 높은 등급 순서를 반환 (기존 쿼리와 동일)
+     */
+    public int getTierOrder(int points) {
+        TierIndex index = getIndex();
+        int slot = index.find(points);
+        if (slot == NO_TIER) {
+            throw new PointTierIsNotExistException();
+        }
+        return index.tierOrders[slot];
+    }
+
+    /**
+     * 포인트에 해당하는 등급 ID 조회
+     */
+    public Long getTierId(int points) {
+        TierIndex index = getIndex();
+        int slot = index.find(points);
+        if (slot == NO_TIER) {
+            throw new PointTierIsNotExistException();
+        }
+        return index.tierIds[slot];
+    }
+
+    /**
+     * 등급 테이블 변경 시 호출, 트랜잭션 안이면 커밋 이후 재적재
+     */
+    public void requestRefresh() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    // 외부에서 직접 DB를 수정한 경우를 대비한 주기적 재적재
+    @Scheduled(fixedDelayString = "${point-tier.lookup.refresh-interval-ms:600000}")
+    public void refresh() {
+        List<PointTier> tiers = pointTierRepository.findAllByOrderByTierOrderAsc();
+        this.tierIndex = TierIndex.build(tiers);
+        log.debug("포인트 등급 인덱스 적재 완료 - 등급 수: {}", tiers.size());
+    }
+
+    private TierIndex getIndex() {
+        TierIndex index = tierIndex;
+        if (index == null) {
+            synchronized (this) {
+                if (tierIndex == null) {
+                    refresh();
+                }
+                index = tierIndex;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 불변 구간 인덱스
+     * boundaries[i] ~ boundaries[i + 1] - 1 구간의 등급이 slots[i]에 저장됨
+     */
+    private static final class TierIndex {
+
+        private final int[] boundaries;
+        private final int[] slots;
+        private final int[] tierOrders;
+        private final Long[] tierIds;
+
+        private TierIndex(int[] boundaries, int[] slots, int[] tierOrders, Long[] tierIds) {
+            this.boundaries = boundaries;
+            this.slots = slots;
+            this.tierOrders = tierOrders;
+            this.tierIds = tierIds;
+        }
+
+        private static TierIndex build(List<PointTier> tiers) {
+            int[] tierOrders = new int[tiers.size()];
+            Long[] tierIds = new Long[tiers.size()];
+
+            // 각 등급의 시작점과 (끝점 + 1)을 경계로 사용
+            TreeSet<Integer> boundarySet = new TreeSet<>();
+            for (int i = 0; i < tiers.size(); i++) {
+                PointTier tier = tiers.get(i);
+                tierOrders[i] = tier.getTierOrder();
+                tierIds[i] = tier.getTierId();
+                boundarySet.add(tier.getMinPoint());
+                if (tier.getMaxPoint() != null && tier.getMaxPoint() < Integer.MAX_VALUE) {
+                    boundarySet.add(tier.getMaxPoint() + 1);
+                }
+            }
+
+            int[] boundaries = boundarySet.stream().mapToInt(Integer::intValue).toArray();
+            int[] slots = new int[boundaries.length];
+            Arrays.fill(slots, NO_TIER);
+
+            // 경계 구간마다 해당 구간을 포함하는 등급 중 가장 높은 순서를 미리 계산
+            for (int b = 0; b < boundaries.length; b++) {
+                int point = boundaries[b];
+                for (int i = 0; i < tiers.size(); i++) {
+                    PointTier tier = tiers.get(i);
+                    boolean covers = point >= tier.getMinPoint()
+                            && (tier.getMaxPoint() == null || point <= tier.getMaxPoint());
+                    if (covers && (slots[b] == NO_TIER || tierOrders[i] > tierOrders[slots[b]])) {
+                        slots[b] = i;
+                    }
+                }
+            }
+
+            return new TierIndex(boundaries, slots, tierOrders, tierIds);
+        }
+
+        private int find(int points) {
+            int position = Arrays.binarySearch(boundaries, points);
+            if (position < 0) {
+                // 삽입 위치 바로 앞 경계가 속한 구간
+                position = -position - 2;
+            }
+            return position < 0 ? NO_TIER : slots[position];
+        }
+    }
+}
@@ -10,10 +10,12 @@ import com.gaebang.backend.domain.pointTier.repository.PointTierRepository;
 public class PointTierService {
 
     private final PointTierRepository pointTierRepository;
+    private final PointTierLookupService pointTierLookupService;
 
-    //포인트에 해당하는 등급 찾기
+    //포인트에 해당하는 등급 찾기 (등급 판별은 메모리 인덱스, 엔티티는 PK로 조회)
     public PointTier getTierByPoints(int points) {
-        return pointTierRepository.findTierByPoints(points)
+        Long tierId = pointTierLookupService.getTierId(points);
+        return pointTierRepository.findById(tierId)
                 .orElseThrow(() -> new IllegalStateException("해당 포인트에 맞는 등급을 찾을 수 없습니다: " + points));
     }
 
@@ -13,6 +13,7 @@ import com.gaebang.backend.domain.question.claude.dto.request.ClaudeQuestionRequ
 import com.gaebang.backend.domain.question.claude.util.ClaudeQuestionProperties;
 import com.gaebang.backend.domain.question.common.service.FileProcessingService;
 import com.gaebang.backend.domain.question.common.util.QuestionServiceUtils;
+import com.gaebang.backend.global.ratelimit.RateLimit;
 import com.gaebang.backend.global.springsecurity.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +40,7 @@ public class ClaudeQuestionService {
     private final ConversationService conversationService;
     private final FileProcessingService fileProcessingService;
 
+    @RateLimit("llm-question")
     public SseEmitter createQuestionStream(
             Long conversationId,
             ClaudeQuestionRequestDto claudeQuestionRequestDto,
@@ -13,6 +13,7 @@ import com.gaebang.backend.domain.question.gemini.dto.request.GeminiQuestionRequ
 import com.gaebang.backend.domain.question.gemini.util.GeminiQuestionProperties;
 import com.gaebang.backend.domain.question.common.service.FileProcessingService;
 import com.gaebang.backend.domain.question.common.util.QuestionServiceUtils;
+import com.gaebang.backend.global.ratelimit.RateLimit;
 import com.gaebang.backend.global.springsecurity.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +40,7 @@ public class GeminiQuestionService {
     private final ConversationService conversationService;
     private final FileProcessingService fileProcessingService;
 
+    @RateLimit("llm-question")
     public SseEmitter createQuestionStream(
             Long conversationId,
             GeminiQuestionRequestDto geminiQuestionRequestDto,
@@ -68,6 +70,7 @@ public class GeminiQuestionService {
         return emitter;
     }
 
+    @RateLimit("llm-question")
     public SseEmitter generateImageInConversation(
             Long conversationId,
             String prompt,
@@ -13,6 +13,7 @@ import com.gaebang.backend.domain.question.openai.dto.request.OpenaiQuestionRequ
 import com.gaebang.backend.domain.question.openai.util.OpenaiQuestionProperties;
 import com.gaebang.backend.domain.question.common.service.FileProcessingService;
 import com.gaebang.backend.domain.question.common.util.QuestionServiceUtils;
+import com.gaebang.backend.global.ratelimit.RateLimit;
 import com.gaebang.backend.global.springsecurity.PrincipalDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,6 +43,7 @@ public class OpenaiQuestionService {
     private final ConversationService conversationService;
     private final FileProcessingService fileProcessingService;
 
+    @RateLimit("llm-question")
     public SseEmitter createQuestionStream(
             Long conversationId,
             OpenaiQuestionRequestDto openaiQuestionRequestDto,
@@ -71,6 +73,7 @@ public class OpenaiQuestionService {
         return emitter;
     }
 
+    @RateLimit("llm-question")
     public SseEmitter generateImageInConversation(
             Long conversationId,
             String prompt,
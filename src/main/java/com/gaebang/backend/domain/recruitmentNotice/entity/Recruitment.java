@@ -13,7 +13,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 @Entity
-@Table(name = "recruitment")
+@Table(name = "recruitment", uniqueConstraints = @UniqueConstraint(name = "uk_recruitment_link", columnNames = "link"))
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -21,7 +21,10 @@ import java.time.ZoneId;
 public class Recruitment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "recruitment_id_generator")
+    @TableGenerator(name = "recruitment_id_generator", table = "id_generator",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "recruitment", allocationSize = 50)
     private Long recruitmentId;
 
     @Column(name = "link")
@@ -1,20 +1,30 @@
 package com.gaebang.backend.domain.recruitmentNotice.repository;
 
 import com.gaebang.backend.domain.recruitmentNotice.entity.Recruitment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface RecruitmentRepository extends JpaRepository<Recruitment, Long> {
 
-    // 중복 체크용 (서비스에서 사용)
-    // boolean existsByLink(String link);
-    @Query(value = "SELECT COUNT(*) FROM recruitment WHERE link = ?1", nativeQuery = true)
-    Long countExistingByLink(String link);
+    // 중복 체크용 - 주어진 링크 중 이미 저장된 링크 (서비스에서 사용)
+    @Query("SELECT r.link FROM Recruitment r WHERE r.link IN :links")
+    List<String> findExistingLinks(@Param("links") Collection<String> links);
+
+    // 링크 필터 워밍업용 - 전체 링크를 한 번에 메모리에 올리지 않도록 스트리밍 조회 (트랜잭션 안에서 사용 후 close)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT r.link FROM Recruitment r")
+    Stream<String> streamAllLinks();
 
     // 만료일이 오늘 이후인 채용공고만 조회 (최신순 100개)
     List<Recruitment> findByExpirationDateAfterOrderByPubDateDesc(LocalDateTime currentDate);
@@ -2,24 +2,32 @@ package com.gaebang.backend.domain.recruitmentNotice.service;
 
 import com.gaebang.backend.domain.newsData.util.HtmlUtils;
 import com.gaebang.backend.domain.newsData.util.HttpClientUtil;
+import com.gaebang.backend.domain.newsData.util.KnownLinkFilter;
 import com.gaebang.backend.domain.recruitmentNotice.dto.response.RecruitmentResponseDto;
 import com.gaebang.backend.domain.recruitmentNotice.entity.Recruitment;
 import com.gaebang.backend.domain.recruitmentNotice.repository.RecruitmentRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.cdimascio.dotenv.Dotenv;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -29,6 +37,7 @@ public class RecruitmentService {
     private final HttpClientUtil httpClient;
     private final RecruitmentRepository recruitmentRepository;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     private static Dotenv dotenv = Dotenv.load();
 
@@ -37,6 +46,21 @@ public class RecruitmentService {
     private static final String SARAMIN_API_URL = "https://oapi.saramin.co.kr/job-search";
     private static final int DEFAULT_DISPLAY_COUNT = 100;
 
+    // 링크 중복 확인용 블룸 필터 크기 (저장된 채용정보 수보다 넉넉하게)
+    @Value("${recruitment.link-filter.expected-insertions:100000}")
+    private long linkFilterExpectedInsertions;
+
+    @Value("${recruitment.link-filter.false-positive-rate:0.01}")
+    private double linkFilterFalsePositiveRate;
+
+    private KnownLinkFilter knownLinkFilter;
+
+    @PostConstruct
+    void initLinkFilter() {
+        knownLinkFilter = new KnownLinkFilter("채용정보", linkFilterExpectedInsertions,
+                linkFilterFalsePositiveRate, recruitmentRepository::findExistingLinks);
+    }
+
     // DB에서 채용정보 조회
     public List<RecruitmentResponseDto> getRecruitmentData() {
 
@@ -48,28 +72,46 @@ public class RecruitmentService {
                 .collect(Collectors.toList());
     }
 
+    // 기동 시 저장된 채용정보 링크로 중복 확인용 블룸 필터를 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpLinkFilter() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<String> links = recruitmentRepository.streamAllLinks()) {
+                    knownLinkFilter.warmUp(links);
+                }
+            });
+        } catch (Exception e) {
+            // 워밍업에 실패해도 IN 쿼리로 중복을 확인하므로 수집은 계속 동작함
+            log.error("채용정보 링크 필터 워밍업 실패: {}", e.getMessage());
+        }
+    }
+
     // 채용정보 데이터를 조회하고 DB에 저장
 //    @Scheduled(cron = "0 */5 * * * *", zone = "Asia/Seoul") // 5분마다 실행
     @Scheduled(cron = "0 */10 * * * *", zone = "Asia/Seoul") // 10분마다 실행
 //    @Scheduled(cron = "*/30 * * * * *", zone = "Asia/Seoul") // 30초마다 실행
-    @Transactional
     public void fetchAndSaveRecruitment() {
         try {
             log.info("scheduled 실행 중");
 
+            // API 호출은 트랜잭션 밖에서 처리 (응답을 기다리는 동안 DB 커넥션을 잡지 않음)
             String response = getRecruitmentApiResponse();
-            List<Recruitment> recruitmentList = parseRecruitmentResponse(response);
-
-            // 중복 제거 (링크 기준)
-            recruitmentList = removeDuplicates(recruitmentList);
 
-            // 이미 존재하는 뉴스 필터링
-            recruitmentList = filterExistingRecruitment(recruitmentList);
+            List<Recruitment> savedRecruitments;
+            try {
+                savedRecruitments = saveNewRecruitments(response);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 서버가 같은 링크를 먼저 저장한 경우 - 유니크 인덱스로 중복 저장은 막히고 전체가 롤백됨
+                // 이번 응답의 링크를 필터에 올려 DB 확인 대상으로 만든 뒤 한 번만 다시 시도
+                log.warn("채용정보 링크 중복으로 저장 실패, 재시도: {}", e.getMessage());
+                knownLinkFilter.register(parseRecruitmentResponse(response).stream().map(Recruitment::getLink).toList());
+                savedRecruitments = saveNewRecruitments(response);
+            }
 
-            if (!recruitmentList.isEmpty()) {
-                // 배치 저장
-                recruitmentRepository.saveAll(recruitmentList);
-                log.info("채용정보 데이터 {}건 저장 완료", recruitmentList.size());
+            if (!savedRecruitments.isEmpty()) {
+                knownLinkFilter.register(savedRecruitments.stream().map(Recruitment::getLink).toList());
+                log.info("채용정보 데이터 {}건 저장 완료", savedRecruitments.size());
             } else {
                 log.info("저장할 새로운 채용정보가 없습니다.");
             }
@@ -80,6 +122,26 @@ public class RecruitmentService {
         }
     }
 
+    // 응답에서 신규 채용정보만 골라 한 트랜잭션으로 저장
+    private List<Recruitment> saveNewRecruitments(String response) throws Exception {
+        List<Recruitment> parsed = parseRecruitmentResponse(response);
+
+        List<Recruitment> saved = transactionTemplate.execute(status -> {
+            // 중복 제거 (링크 기준)
+            List<Recruitment> recruitmentList = removeDuplicates(parsed);
+
+            // 이미 존재하는 채용정보 필터링
+            recruitmentList = filterExistingRecruitment(recruitmentList);
+
+            if (!recruitmentList.isEmpty()) {
+                // 배치 저장 (유니크 인덱스 위반은 여기서 바로 드러나도록 flush)
+                recruitmentRepository.saveAllAndFlush(recruitmentList);
+            }
+            return recruitmentList;
+        });
+        return saved == null ? List.of() : saved;
+    }
+
     // API 응답 조회
     private String getRecruitmentApiResponse() throws Exception {
         String apiUrl = buildApiUrl(87, 0, DEFAULT_DISPLAY_COUNT);
@@ -151,13 +213,13 @@ public class RecruitmentService {
                 .collect(Collectors.toList());
     }
 
-    // 이미 DB에 존재하는 채용정보 필터링
+    // 이미 DB에 존재하는 채용정보 필터링 (블룸 필터로 후보를 줄이고 IN 쿼리 한 번으로 확인)
     private List<Recruitment> filterExistingRecruitment(List<Recruitment> recruitmentList) {
+        Set<String> existingLinks = knownLinkFilter.findExisting(
+                recruitmentList.stream().map(Recruitment::getLink).toList());
+
         return recruitmentList.stream()
-                .filter(recruitment -> {
-                    Long count = recruitmentRepository.countExistingByLink(recruitment.getLink());
-                    return count == 0; // 0이면 존재하지 않음
-                })
+                .filter(recruitment -> !existingLinks.contains(recruitment.getLink()))
                 .collect(Collectors.toList());
     }
 
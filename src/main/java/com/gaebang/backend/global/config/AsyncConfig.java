@@ -1,5 +1,9 @@
 package com.gaebang.backend.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,7 +15,9 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Configuration
@@ -31,6 +37,24 @@ public class AsyncConfig implements AsyncConfigurer {
     @Value("${moderation.async.keep-alive-seconds:60}")
     private int moderationKeepAliveSeconds;
 
+    @Value("${moderation.fan-out.core-pool-size:10}")
+    private int fanOutCorePoolSize;
+
+    @Value("${moderation.fan-out.max-pool-size:30}")
+    private int fanOutMaxPoolSize;
+
+    @Value("${moderation.fan-out.queue-capacity:200}")
+    private int fanOutQueueCapacity;
+
+    @Value("${moderation.batch.pool-size:4}")
+    private int batchPoolSize;
+
+    @Value("${moderation.batch.queue-capacity:50}")
+    private int batchQueueCapacity;
+
+    @Value("${news.image.pool-size:2}")
+    private int newsImagePoolSize;
+
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
@@ -46,7 +70,7 @@ public class AsyncConfig implements AsyncConfigurer {
     }
 
     @Bean(name = "moderationExecutor")
-    public Executor moderationExecutor() {
+    public Executor moderationExecutor(MeterRegistry meterRegistry) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(moderationCorePoolSize);
         executor.setMaxPoolSize(moderationMaxPoolSize);
@@ -56,13 +80,14 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(20);
         
-        // 거부된 작업에 대한 정책 설정
+        // 거부된 작업은 예외로 알려 검열 작업 큐가 재시도하도록 함 (조용히 버리면 PENDING 상태로 남음)
         executor.setRejectedExecutionHandler((runnable, threadPoolExecutor) -> {
             log.warn("검열 작업이 거부되었습니다. 큐가 가득참 - 큐 크기: {}, 활성 스레드: {}", 
                      threadPoolExecutor.getQueue().size(), threadPoolExecutor.getActiveCount());
+            throw new RejectedExecutionException("검열 스레드풀 큐가 가득 찼습니다.");
         });
         
-        executor.initialize();
+        instrument(executor, "moderationExecutor", meterRegistry);
         
         log.info("검열용 비동기 스레드풀 초기화 완료 - Core: {}, Max: {}, Queue: {}", 
                  moderationCorePoolSize, moderationMaxPoolSize, moderationQueueCapacity);
@@ -70,6 +95,90 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 게시글 하나의 텍스트/이미지 검열 요청을 동시에 처리하는 스레드풀
+     * 게시글 단위 작업(moderationExecutor)과 분리하여 상위 작업이 하위 작업을 기다리며 스레드를 모두 점유하지 않도록 함
+     */
+    @Bean(name = "moderationFanOutExecutor")
+    public Executor moderationFanOutExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(fanOutCorePoolSize);
+        executor.setMaxPoolSize(fanOutMaxPoolSize);
+        executor.setQueueCapacity(fanOutQueueCapacity);
+        executor.setKeepAliveSeconds(moderationKeepAliveSeconds);
+        executor.setThreadNamePrefix("Moderation-FanOut-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(20);
+        // 큐가 가득 차면 게시글 작업 스레드에서 직접 실행 (순차 처리로 저하)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        instrument(executor, "moderationFanOutExecutor", meterRegistry);
+        return executor;
+    }
+
+    /**
+     * 텍스트 검열 배치 요청 스레드풀 (TextModerationBatcher)
+     * 배치는 타이머 스레드에서도 넘겨지므로 CallerRunsPolicy를 쓰면 타이머 스레드가 LLM 호출을 떠안게 됨
+     * 넘치는 배치는 거부하여 각 요청이 Circuit Breaker 폴백으로 처리되도록 함
+     */
+    @Bean(name = "moderationBatchExecutor")
+    public Executor moderationBatchExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batchPoolSize);
+        executor.setMaxPoolSize(batchPoolSize);
+        executor.setQueueCapacity(batchQueueCapacity);
+        executor.setThreadNamePrefix("Moderation-Batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(20);
+        executor.setRejectedExecutionHandler((runnable, threadPoolExecutor) -> {
+            log.warn("검열 배치가 거부되었습니다. 큐가 가득참 - 큐 크기: {}, 활성 스레드: {}",
+                     threadPoolExecutor.getQueue().size(), threadPoolExecutor.getActiveCount());
+            throw new RejectedExecutionException("검열 배치 스레드풀 큐가 가득 찼습니다.");
+        });
+        instrument(executor, "moderationBatchExecutor", meterRegistry);
+        return executor;
+    }
+
+    /**
+     * 뉴스 이미지 생성 스레드풀
+     * 호출 속도는 NewsImageRateLimiter가 제한하므로 큐를 두지 않고, 넘치는 작업은 거부하여 작업 큐에 돌려놓음
+     */
+    @Bean(name = "newsImageExecutor")
+    public Executor newsImageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(newsImagePoolSize);
+        executor.setMaxPoolSize(newsImagePoolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("News-Image-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 검열 스레드풀 메트릭 등록 후 초기화
+     * - moderation.executor.queue.wait: 작업이 큐에서 실행되기까지 기다린 시간
+     * - executor.*: 활성 스레드, 큐 길이, 완료/거부 작업 수 (Micrometer ExecutorServiceMetrics)
+     */
+    private void instrument(ThreadPoolTaskExecutor executor, String name, MeterRegistry meterRegistry) {
+        Timer queueWait = Timer.builder("moderation.executor.queue.wait")
+                .tag("executor", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        executor.setTaskDecorator(runnable -> {
+            long queuedAt = System.nanoTime();
+            return () -> {
+                queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                runnable.run();
+            };
+        });
+        executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return (throwable, method, params) -> {
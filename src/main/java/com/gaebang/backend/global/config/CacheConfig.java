@@ -0,0 +1,42 @@
+package com.gaebang.backend.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 로컬(Caffeine) 캐시 설정
+ * recordStats()를 켠 캐시는 Actuator가 cache.gets{result=hit|miss} 등의 지표로 노출
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String BOARD_LIST_CACHE = "boardListFirstPages";
+
+    @Value("${board.list-cache.ttl-seconds:30}")
+    private long boardListTtlSeconds;
+
+    @Value("${board.list-cache.maximum-size:50}")
+    private long boardListMaximumSize;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        // 게시판 목록 앞쪽 페이지 캐시 (이벤트 기반 무효화 + 짧은 TTL)
+        cacheManager.registerCustomCache(BOARD_LIST_CACHE, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(boardListTtlSeconds))
+                .maximumSize(boardListMaximumSize)
+                .recordStats()
+                .build());
+
+        return cacheManager;
+    }
+}
@@ -0,0 +1,65 @@
+package com.gaebang.backend.global.entity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 테이블 기반 ID 생성기(id_generator) 초기값 보정
+ * - IDENTITY에서 전환된 엔티티는 기존 행의 최대 ID 이후부터 발급되어야 하므로 기동 시 next_val을 맞춰둠
+ * - 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 실행되며, next_val은 절대 줄이지 않음
+ * - pooled 최적화기는 next_val - allocationSize + 1부터 발급하므로 allocationSize만큼 여유를 둠
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class IdGeneratorInitializer implements SmartInitializingSingleton {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String SEED_SQL_TEMPLATE =
+            "INSERT INTO id_generator (sequence_name, next_val) " +
+            "SELECT ?, COALESCE(MAX(%s), 0) + ? FROM %s " +
+            "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))";
+
+    // (id_generator의 sequence_name, 테이블, ID 컬럼)
+    private static final List<IdSequence> SEQUENCES = List.of(
+            new IdSequence("board", "board", "board_id"),
+            new IdSequence("image", "image", "image_id"),
+            new IdSequence("comment", "comment", "comment_id"),
+            new IdSequence("point", "points", "point_id"),
+            new IdSequence("news", "news", "news_id"),
+            new IdSequence("recruitment", "recruitment", "recruitment_id"),
+            new IdSequence("conversation_message", "conversation_messages", "message_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${id-generator.seed-on-startup:true}")
+    private boolean seedOnStartup;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!seedOnStartup) {
+            return;
+        }
+
+        for (IdSequence sequence : SEQUENCES) {
+            try {
+                String sql = String.format(SEED_SQL_TEMPLATE, sequence.idColumn(), sequence.table());
+                jdbcTemplate.update(sql, sequence.name(), ALLOCATION_SIZE + 1);
+            } catch (Exception e) {
+                log.error("ID 생성기 초기값 보정 실패 - 대상: {}, 오류: {}", sequence.name(), e.getMessage());
+            }
+        }
+        log.info("ID 생성기 초기값 보정 완료 - 대상 수: {}", SEQUENCES.size());
+    }
+
+    private record IdSequence(String name, String table, String idColumn) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.gaebang.backend.global.entity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 수집 데이터(뉴스/채용정보) 링크 유니크 인덱스 보정
+ * - 유니크 제약이 추가되기 전에 쌓인 중복 행이 있으면 ddl-auto가 인덱스를 만들지 못하므로 기동 시 직접 맞춰둠
+ * - 인덱스가 없을 때만 링크별로 가장 먼저 저장된 행(최소 ID)만 남기고 중복 행을 삭제한 뒤 인덱스를 생성
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UniqueLinkIndexInitializer implements SmartInitializingSingleton {
+
+    private static final String INDEX_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?";
+    private static final String DELETE_DUPLICATES_SQL_TEMPLATE =
+            "DELETE t1 FROM %1$s t1 JOIN %1$s t2 ON t1.link = t2.link AND t1.%2$s > t2.%2$s";
+    private static final String ADD_INDEX_SQL_TEMPLATE =
+            "ALTER TABLE %s ADD CONSTRAINT %s UNIQUE (link)";
+
+    // (테이블, ID 컬럼, 인덱스 이름) - 엔티티의 @UniqueConstraint 이름과 같아야 함
+    private static final List<LinkIndex> INDEXES = List.of(
+            new LinkIndex("news", "news_id", "uk_news_link"),
+            new LinkIndex("recruitment", "recruitment_id", "uk_recruitment_link")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${ingest.unique-link-index.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+
+        for (LinkIndex index : INDEXES) {
+            try {
+                Integer exists = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Integer.class, index.table(), index.name());
+                if (exists != null && exists > 0) {
+                    continue;
+                }
+
+                int deleted = jdbcTemplate.update(String.format(DELETE_DUPLICATES_SQL_TEMPLATE, index.table(), index.idColumn()));
+                jdbcTemplate.execute(String.format(ADD_INDEX_SQL_TEMPLATE, index.table(), index.name()));
+                log.info("링크 유니크 인덱스 생성 완료 - 테이블: {}, 삭제한 중복 행: {}", index.table(), deleted);
+            } catch (Exception e) {
+                log.error("링크 유니크 인덱스 보정 실패 - 테이블: {}, 오류: {}", index.table(), e.getMessage());
+            }
+        }
+    }
+
+    private record LinkIndex(String table, String idColumn, String name) {
+    }
+}
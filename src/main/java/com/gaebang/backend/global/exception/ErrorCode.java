@@ -64,6 +64,7 @@ public enum ErrorCode {
 
     // board
     BOARD_NOT_FOUND(HttpStatus.BAD_REQUEST, "해당 게시글을 찾을 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
 
     // comment
     COMMENT_NOT_FOUND(HttpStatus.BAD_REQUEST, "해당 댓글을 찾을 수 없습니다."),
@@ -78,6 +79,9 @@ public enum ErrorCode {
     POST_RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "5분 내 게시글 작성 한도(3개)를 초과했습니다."),
     CONTENT_MODERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "컨텐츠 검열 처리 중 오류가 발생했습니다."),
 
+    // rateLimit
+    RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+
     // 5xx
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 에러");
 
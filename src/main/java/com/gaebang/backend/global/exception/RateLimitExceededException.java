@@ -0,0 +1,11 @@
+package com.gaebang.backend.global.exception;
+
+
+public class RateLimitExceededException extends ApplicationException {
+
+    private static final ErrorCode ERROR_CODE = ErrorCode.RATE_LIMIT_EXCEEDED;
+
+    public RateLimitExceededException() {
+        super(ERROR_CODE);
+    }
+}
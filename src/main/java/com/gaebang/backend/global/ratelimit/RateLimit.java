@@ -0,0 +1,23 @@
+package com.gaebang.backend.global.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 회원별 요청 횟수 제한
+ * rate-limit.{value}.max-count / window-minutes 설정을 사용하며,
+ * 메서드 인자의 PrincipalDetails(없으면 SecurityContext)로 회원을 식별
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+
+    /**
+     * 정책 이름 (예: "comment", "like")
+     */
+    String value();
+}
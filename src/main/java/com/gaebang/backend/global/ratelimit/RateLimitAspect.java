@@ -0,0 +1,54 @@
+package com.gaebang.backend.global.ratelimit;
+
+import com.gaebang.backend.global.exception.RateLimitExceededException;
+import com.gaebang.backend.global.springsecurity.PrincipalDetails;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * @RateLimit 처리 Aspect
+ * 트랜잭션이 시작되기 전에 판정하도록 가장 먼저 실행
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Component
+public class RateLimitAspect {
+
+    private final SlidingWindowRateLimiter rateLimiter;
+
+    @Before("@annotation(rateLimit)")
+    public void checkRateLimit(JoinPoint joinPoint, RateLimit rateLimit) {
+        Long memberId = resolveMemberId(joinPoint.getArgs());
+        // 비로그인 요청은 인증 단계에서 걸러지므로 제한 대상에서 제외
+        if (memberId == null) {
+            return;
+        }
+
+        if (!rateLimiter.tryAcquire(rateLimit.value(), memberId)) {
+            throw new RateLimitExceededException();
+        }
+    }
+
+    private Long resolveMemberId(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof PrincipalDetails principalDetails && principalDetails.getMember() != null) {
+                return principalDetails.getMember().getId();
+            }
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof PrincipalDetails principalDetails
+                && principalDetails.getMember() != null) {
+            return principalDetails.getMember().getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,103 @@
+package com.gaebang.backend.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 슬라이딩 윈도우 요청 제한기
+ * - 회원별로 윈도우 내 허용된 요청 시각만 보관 (최대 max-count개)하여 DB 조회 없이 판정
+ * - 정책별 Caffeine 캐시를 사용하여 추적 회원 수를 제한하고, 윈도우 동안 요청이 없는 회원은 자동 제거
+ * - 게시글 삭제 등으로 기록이 사라지지 않으므로 삭제 후 재작성으로 우회할 수 없음
+ * - 인스턴스 단위로 동작하므로 다중 인스턴스 환경에서는 인스턴스별로 한도가 적용됨
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SlidingWindowRateLimiter {
+
+    private static final int DEFAULT_MAX_COUNT = 60;
+    private static final int DEFAULT_WINDOW_MINUTES = 1;
+
+    private final Environment environment;
+
+    @Value("${rate-limit.max-tracked-members:100000}")
+    private long maxTrackedMembers;
+
+    private final Map<String, Policy> policies = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 허용 여부를 판정하고, 허용된 경우 요청 시각을 기록
+     */
+    public boolean tryAcquire(String policyName, Long memberId) {
+        Policy policy = policies.computeIfAbsent(policyName, this::createPolicy);
+        Deque<Long> timestamps = policy.requests().get(memberId, id -> new ArrayDeque<>());
+
+        long now = System.currentTimeMillis();
+        long windowStart = now - policy.windowMillis();
+
+        synchronized (timestamps) {
+            while (!timestamps.isEmpty() && timestamps.peekFirst() <= windowStart) {
+                timestamps.pollFirst();
+            }
+
+            if (timestamps.size() >= policy.maxCount()) {
+                log.warn("요청 한도 초과 - 정책: {}, 사용자 ID: {}, 최근 {}분간 요청 수: {}",
+                        policyName, memberId, policy.windowMinutes(), timestamps.size());
+                return false;
+            }
+
+            timestamps.addLast(now);
+            log.debug("요청 허용 - 정책: {}, 사용자 ID: {}, 최근 {}분간 요청 수: {}/{}",
+                    policyName, memberId, policy.windowMinutes(), timestamps.size(), policy.maxCount());
+            return true;
+        }
+    }
+
+    /**
+     * 허용된 요청이 실제로 처리되지 않았을 때 기록을 되돌림 (가장 최근 기록 하나 제거)
+     */
+    public void refund(String policyName, Long memberId) {
+        Policy policy = policies.get(policyName);
+        if (policy == null) {
+            return;
+        }
+
+        Deque<Long> timestamps = policy.requests().getIfPresent(memberId);
+        if (timestamps == null) {
+            return;
+        }
+
+        synchronized (timestamps) {
+            timestamps.pollLast();
+        }
+    }
+
+    private Policy createPolicy(String policyName) {
+        String prefix = "rate-limit." + policyName + ".";
+        int maxCount = environment.getProperty(prefix + "max-count", Integer.class, DEFAULT_MAX_COUNT);
+        int windowMinutes = environment.getProperty(prefix + "window-minutes", Integer.class, DEFAULT_WINDOW_MINUTES);
+
+        // 마지막 요청 이후 윈도우가 지나면 기록이 의미 없으므로 제거
+        Cache<Long, Deque<Long>> requests = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(windowMinutes))
+                .maximumSize(maxTrackedMembers)
+                .build();
+
+        log.info("요청 제한 정책 등록 - 정책: {}, {}분간 최대 {}회", policyName, windowMinutes, maxCount);
+        return new Policy(maxCount, windowMinutes, Duration.ofMinutes(windowMinutes).toMillis(), requests);
+    }
+
+    private record Policy(int maxCount, int windowMinutes, long windowMillis, Cache<Long, Deque<Long>> requests) {
+    }
+}
@@ -91,8 +91,11 @@ public class SpringSecurityConfig {
                 .requestMatchers(new AntPathRequestMatcher("/api/member/id")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/api/member/test/jwt")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/api/boards/search")).permitAll()
+                .requestMatchers(new AntPathRequestMatcher("/api/boards/search/relevance")).permitAll()
+                .requestMatchers(new AntPathRequestMatcher("/api/boards/trending")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/api/boards")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/api/boards/{boardId}")).permitAll()
+                .requestMatchers(new AntPathRequestMatcher("/api/boards/{boardId}/comments/cursor")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/api/s3/upload/**")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/items/**")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/free-boards/**")).permitAll()
@@ -10,17 +10,37 @@ import com.gaebang.backend.global.exception.S3Exception;
 import io.github.cdimascio.dotenv.Dotenv;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLConnection;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -34,6 +54,21 @@ public class S3ImageService {
     private final AmazonS3 amazonS3;
     private final String bucketName = dotenv.get("BUCKET_NAME");;
 
+    private static final long MAX_IMAGE_BYTES = 20L * 1024 * 1024;
+    private static final String JPEG_MIME_TYPE = "image/jpeg";
+
+    static {
+        // 기본값이면 ImageInputStream을 열 때마다 임시 파일을 만들어 원본을 디스크에 복사함 (메모리 캐시 사용)
+        ImageIO.setUseCache(false);
+    }
+
+    // 검열 모델에 보낼 이미지의 긴 변 최대 크기 (이 이상은 판정에 도움이 되지 않고 전송량만 늘어남)
+    @Value("${moderation.image.max-dimension:1024}")
+    private int maxDimension;
+
+    @Value("${moderation.image.jpeg-quality:0.8}")
+    private float jpegQuality;
+
     public String upload(MultipartFile image) {
         if(image.isEmpty() || Objects.isNull(image.getOriginalFilename())){
             throw new S3Exception();
@@ -113,50 +148,46 @@ public class S3ImageService {
     }
 
     /**
-     * 이미지 URL을 Base64로 인코딩 (검열 시스템용)
+     * 이미지 URL을 검열 요청용 Base64로 인코딩 (검열 시스템용)
+     * - 전체 파일을 메모리에 올리지 않고 스트리밍으로 디코딩하며, 헤더의 크기를 보고 서브샘플링하여 디코딩
+     * - 긴 변이 moderation.image.max-dimension을 넘지 않도록 축소한 뒤 JPEG로 다시 인코딩하여
+     *   Base64 인코더로 바로 기록
+     * - 디코더가 없는 형식(webp 등)과 GIF(첫 프레임만 디코딩되므로)는 원본 바이트를 그대로 Base64로 스트리밍
+     * - 디코딩에 실패한 이미지(CMYK JPEG 등)는 다시 내려받아 원본 바이트를 보냄 (축소 실패로 검열 자체가 실패하지 않도록)
      * @param imageUrl S3 이미지 URL
-     * @return Base64 인코딩된 이미지 문자열
+     * @return Base64 인코딩된 이미지와 전송할 MIME 타입
      * @throws IOException 이미지 읽기 실패 시
      */
-    public String encodeImageToBase64(String imageUrl) throws IOException {
+    public EncodedImage encodeImageToBase64(String imageUrl) throws IOException {
         if (imageUrl == null || imageUrl.trim().isEmpty()) {
             throw new IllegalArgumentException("이미지 URL이 비어있습니다.");
         }
 
         try {
-            // URL 연결 생성
-            URL url = new URL(imageUrl);
-            java.net.URLConnection connection = url.openConnection();
-            connection.setConnectTimeout(10000); // 10초 연결 타임아웃
-            connection.setReadTimeout(30000);    // 30초 읽기 타임아웃
-            
-            // Content-Type 확인
-            String contentType = connection.getContentType();
-            
-            // Content-Type이 없거나 잘못된 경우 URL 확장자로 추정
-            if (!isValidImageContentType(contentType)) {
-                String guessedType = guessContentTypeFromUrl(imageUrl);
-                if (isValidImageContentType(guessedType)) {
-                    contentType = guessedType;
-                } else {
-                    throw new IllegalArgumentException("지원하지 않는 이미지 형식: " + contentType);
-                }
-            }
+            URLConnection connection = openImageConnection(imageUrl);
+            String contentType = resolveContentType(connection, imageUrl);
 
-            // 이미지 데이터 읽기
-            try (InputStream inputStream = connection.getInputStream()) {
-                byte[] imageBytes = IOUtils.toByteArray(inputStream);
-                
-                // 크기 제한 확인 (20MB)
-                if (imageBytes.length > 20 * 1024 * 1024) {
-                    throw new IllegalArgumentException("이미지 크기가 20MB를 초과합니다.");
+            // 이미지 데이터를 스트리밍으로 읽어 축소 후 인코딩
+            try (SizeLimitedInputStream inputStream = new SizeLimitedInputStream(connection.getInputStream(), MAX_IMAGE_BYTES);
+                 ImageInputStream imageInput = ImageIO.createImageInputStream(inputStream)) {
+
+                EncodedImage encoded;
+                try {
+                    BufferedImage image = readDownscaled(imageInput);
+                    encoded = image != null
+                            ? new EncodedImage(encodeJpegToBase64(image), JPEG_MIME_TYPE)
+                            : new EncodedImage(streamToBase64(imageInput), contentType);
+                } catch (IOException | RuntimeException e) {
+                    if (inputStream.isLimitExceeded()) {
+                        throw e;
+                    }
+                    log.warn("이미지 디코딩 실패, 원본으로 검열 요청 - URL: {}, 오류: {}", imageUrl, e.getMessage());
+                    return downloadOriginal(imageUrl);
                 }
-                
-                // Base64 인코딩
-                String base64Image = java.util.Base64.getEncoder().encodeToString(imageBytes);
-                
-                log.debug("이미지 Base64 인코딩 완료 - URL: {}, 크기: {}bytes", imageUrl, imageBytes.length);
-                return base64Image;
+
+                log.debug("이미지 Base64 인코딩 완료 - URL: {}, 원본: {}bytes, 전송: {}bytes, 형식: {}",
+                        imageUrl, inputStream.getBytesRead(), encoded.base64().length(), encoded.mimeType());
+                return encoded;
             }
             
         } catch (Exception e) {
@@ -165,6 +196,134 @@ public class S3ImageService {
         }
     }
 
+    // 원본 바이트를 크기 제한 안에서 그대로 Base64로 스트리밍
+    private EncodedImage downloadOriginal(String imageUrl) throws IOException {
+        URLConnection connection = openImageConnection(imageUrl);
+        String contentType = resolveContentType(connection, imageUrl);
+        try (SizeLimitedInputStream inputStream = new SizeLimitedInputStream(connection.getInputStream(), MAX_IMAGE_BYTES)) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (OutputStream base64Output = Base64.getEncoder().wrap(buffer)) {
+                byte[] chunk = new byte[8192];
+                int read;
+                while ((read = inputStream.read(chunk, 0, chunk.length)) != -1) {
+                    base64Output.write(chunk, 0, read);
+                }
+            }
+            return new EncodedImage(buffer.toString(StandardCharsets.US_ASCII), contentType);
+        }
+    }
+
+    private URLConnection openImageConnection(String imageUrl) throws IOException {
+        URLConnection connection = new URL(imageUrl).openConnection();
+        connection.setConnectTimeout(10000); // 10초 연결 타임아웃
+        connection.setReadTimeout(30000);    // 30초 읽기 타임아웃
+
+        // 크기 제한 확인 (Content-Length가 있으면 내려받기 전에 거부)
+        if (connection.getContentLengthLong() > MAX_IMAGE_BYTES) {
+            throw new IllegalArgumentException("이미지 크기가 20MB를 초과합니다.");
+        }
+        return connection;
+    }
+
+    // Content-Type이 없거나 잘못된 경우 URL 확장자로 추정
+    private String resolveContentType(URLConnection connection, String imageUrl) {
+        String contentType = normalizeContentType(connection.getContentType());
+        if (isValidImageContentType(contentType)) {
+            return contentType;
+        }
+
+        String guessedType = guessContentTypeFromUrl(imageUrl);
+        if (isValidImageContentType(guessedType)) {
+            return guessedType;
+        }
+        throw new IllegalArgumentException("지원하지 않는 이미지 형식: " + contentType);
+    }
+
+    /**
+     * 긴 변이 최대 크기 이하가 되도록 디코딩 (디코더가 없거나 GIF면 null)
+     * 서브샘플링으로 필요한 해상도에 가깝게 디코딩하여 원본 해상도의 픽셀 버퍼를 만들지 않음
+     */
+    private BufferedImage readDownscaled(ImageInputStream imageInput) throws IOException {
+        if (imageInput == null) {
+            throw new IOException("이미지 스트림을 열 수 없습니다.");
+        }
+
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+        if (!readers.hasNext()) {
+            return null;
+        }
+
+        ImageReader reader = readers.next();
+        if ("gif".equalsIgnoreCase(reader.getFormatName())) {
+            // 움직이는 GIF는 첫 프레임만 디코딩되므로 원본을 그대로 보냄
+            reader.dispose();
+            return null;
+        }
+        try {
+            reader.setInput(imageInput, true, true);
+            int longestSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+
+            ImageReadParam param = reader.getDefaultReadParam();
+            int subsampling = Math.max(1, longestSide / maxDimension);
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+            return toRgb(reader.read(0, param));
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    // 최대 크기로 축소하며 JPEG로 저장할 수 있도록 알파 채널을 흰 배경으로 합성
+    private BufferedImage toRgb(BufferedImage source) {
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private String encodeJpegToBase64(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        try (OutputStream base64Output = Base64.getEncoder().wrap(buffer);
+             ImageOutputStream imageOutput = ImageIO.createImageOutputStream(base64Output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return buffer.toString(StandardCharsets.US_ASCII);
+    }
+
+    // 디코딩할 수 없는 형식은 원본을 버퍼 단위로 Base64 인코더에 흘려보냄
+    private String streamToBase64(ImageInputStream imageInput) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream base64Output = Base64.getEncoder().wrap(buffer)) {
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = imageInput.read(chunk)) != -1) {
+                base64Output.write(chunk, 0, read);
+            }
+        }
+        return buffer.toString(StandardCharsets.US_ASCII);
+    }
+
     /**
      * MIME 타입이 지원되는 이미지 형식인지 확인
      * @param contentType MIME 타입
@@ -173,18 +332,26 @@ public class S3ImageService {
     private boolean isValidImageContentType(String contentType) {
         if (contentType == null) return false;
         
+        String normalizedType = normalizeContentType(contentType);
+        
+        return normalizedType.equals("image/jpeg") ||
+               normalizedType.equals("image/jpg") ||
+               normalizedType.equals("image/png") ||
+               normalizedType.equals("image/webp") ||
+               normalizedType.equals("image/gif");
+    }
+
+    private String normalizeContentType(String contentType) {
+        if (contentType == null) return null;
+
         // MIME 타입 정규화 (소문자 변환, 공백 제거)
         String normalizedType = contentType.toLowerCase().trim();
-        
+
         // 세미콜론 이후 파라미터 제거 (예: "image/png; charset=UTF-8" -> "image/png")
         if (normalizedType.contains(";")) {
             normalizedType = normalizedType.substring(0, normalizedType.indexOf(";")).trim();
         }
-        
-        return normalizedType.equals("image/jpeg") ||
-               normalizedType.equals("image/jpg") ||
-               normalizedType.equals("image/png") ||
-               normalizedType.equals("image/webp");
+        return normalizedType.equals("image/jpg") ? JPEG_MIME_TYPE : normalizedType;
     }
 
     /**
@@ -206,6 +373,8 @@ public class S3ImageService {
                 return "image/png";
             } else if (lowerUrl.endsWith(".webp")) {
                 return "image/webp";
+            } else if (lowerUrl.endsWith(".gif")) {
+                return "image/gif";
             }
         } catch (UnsupportedEncodingException e) {
             log.warn("URL 디코딩 실패: {}", imageUrl);
@@ -243,4 +412,59 @@ public class S3ImageService {
         if (base64String == null) return 0;
         return (long) (base64String.length() * 0.75); // Base64는 원본의 약 133% 크기
     }
+
+    /**
+     * 읽은 바이트 수가 제한을 넘으면 예외를 던지는 입력 스트림
+     */
+    private static final class SizeLimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long bytesRead;
+
+        private SizeLimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(long read) throws IOException {
+            bytesRead += read;
+            if (bytesRead > limit) {
+                throw new IOException("이미지 크기가 20MB를 초과합니다.");
+            }
+        }
+
+        private long getBytesRead() {
+            return bytesRead;
+        }
+
+        private boolean isLimitExceeded() {
+            return bytesRead > limit;
+        }
+    }
+
+    /**
+     * 검열 요청용 이미지
+     * @param base64 Base64 인코딩된 이미지 데이터
+     * @param mimeType 전송할 MIME 타입 (축소한 이미지는 image/jpeg, 원본을 보내면 원본 형식)
+     */
+    public record EncodedImage(String base64, String mimeType) {
+    }
 }
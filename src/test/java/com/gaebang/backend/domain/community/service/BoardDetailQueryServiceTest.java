@@ -0,0 +1,105 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.dto.response.BoardDetailResponseDto;
+import com.gaebang.backend.domain.community.entity.Board;
+import com.gaebang.backend.domain.community.entity.Comment;
+import com.gaebang.backend.domain.community.entity.Image;
+import com.gaebang.backend.domain.community.util.TimeUtil;
+import com.gaebang.backend.domain.member.entity.Member;
+import com.gaebang.backend.domain.pointTier.entity.PointTier;
+import com.gaebang.backend.domain.pointTier.entity.TierType;
+import com.gaebang.backend.domain.pointTier.service.PointTierLookupService;
+import com.gaebang.backend.global.config.JpaConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BoardDetailQueryService.class, BoardCounterService.class, BoardViewCountService.class,
+        PointTierLookupService.class, TimeUtil.class, JpaConfig.class})
+@Testcontainers
+class BoardDetailQueryServiceTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private BoardDetailQueryService boardDetailQueryService;
+
+    @Autowired
+    private PointTierLookupService pointTierLookupService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void 게시글_상세는_댓글_수와_무관하게_두_번의_쿼리로_조회된다() {
+        PointTier tier = em.persist(PointTier.builder()
+                .tierType(TierType.MERCURY)
+                .minPoint(0)
+                .maxPoint(null)
+                .tierOrder(1)
+                .build());
+
+        Member writer = em.persist(Member.builder()
+                .email("writer@test.com")
+                .nickname("writer")
+                .password("password")
+                .authority("ROLE_USER")
+                .currentTier(tier)
+                .build());
+
+        Board board = em.persist(Board.builder()
+                .member(writer)
+                .title("title")
+                .content("content")
+                .build());
+
+        em.persist(Image.builder().board(board).imageUrl("https://image/1.png").build());
+        em.persist(Image.builder().board(board).imageUrl("https://image/2.png").build());
+
+        for (int i = 0; i < 15; i++) {
+            Member commenter = em.persist(Member.builder()
+                    .email("commenter" + i + "@test.com")
+                    .nickname("commenter" + i)
+                    .password("password")
+                    .authority("ROLE_USER")
+                    .currentTier(tier)
+                    .build());
+            em.persist(Comment.builder().member(commenter).board(board).content("comment" + i).build());
+        }
+
+        em.flush();
+        em.clear();
+
+        // 등급 인덱스는 기동 후 한 번만 적재되므로 측정 전에 미리 적재
+        pointTierLookupService.refresh();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        BoardDetailResponseDto detail = boardDetailQueryService.getBoardDetail(board.getId(), PageRequest.of(0, 10));
+
+        assertThat(detail.comments().getContent()).hasSize(10);
+        assertThat(detail.imageUrl()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,73 @@
+package com.gaebang.backend.domain.community.service;
+
+import com.gaebang.backend.domain.community.service.KeywordPreFilter.Decision;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordPreFilterTest {
+
+    private KeywordPreFilter keywordPreFilter;
+
+    @BeforeEach
+    void setUp() {
+        keywordPreFilter = new KeywordPreFilter();
+        ReflectionTestUtils.setField(keywordPreFilter, "enabled", true);
+        ReflectionTestUtils.setField(keywordPreFilter, "dictionary", new ClassPathResource("moderation/banned-terms.txt"));
+        ReflectionTestUtils.setField(keywordPreFilter, "passMaxLength", 5);
+        keywordPreFilter.init();
+    }
+
+    @Test
+    void 확정_금칙어는_변형되어도_LLM_없이_즉시_차단한다() {
+        assertThat(keywordPreFilter.classify("개 새 끼 야").decision()).isEqualTo(Decision.BLOCK);
+        assertThat(keywordPreFilter.classify("개색히").decision()).isEqualTo(Decision.BLOCK);
+        assertThat(keywordPreFilter.classify("motherfucker").decision()).isEqualTo(Decision.BLOCK);
+        assertThat(keywordPreFilter.classify("개새끼").requiresLlm()).isFalse();
+    }
+
+    @Test
+    void 금칙어_변형은_의심으로_표시하고_LLM_확인으로_넘긴다() {
+        assertThat(keywordPreFilter.classify("씨-발").decision()).isEqualTo(Decision.SUSPECT);
+        assertThat(keywordPreFilter.classify("ㅅ.ㅂ").decision()).isEqualTo(Decision.SUSPECT);
+        assertThat(keywordPreFilter.classify("what the f.u.c.k").decision()).isEqualTo(Decision.SUSPECT);
+        assertThat(keywordPreFilter.classify("씨-발").requiresLlm()).isTrue();
+    }
+
+    @Test
+    void 예외어에_포함된_매치는_무시한다() {
+        assertThat(keywordPreFilter.classify("시발점에서 출발").decision()).isEqualTo(Decision.ESCALATE);
+        assertThat(keywordPreFilter.classify("병신년 새해 복 많이 받으세요").decision()).isEqualTo(Decision.ESCALATE);
+        assertThat(keywordPreFilter.classify("존나이트 가자").decision()).isEqualTo(Decision.ESCALATE);
+    }
+
+    @Test
+    void 한글은_글자_경계_영문은_단어_경계에_맞는_매치만_인정한다() {
+        assertThat(keywordPreFilter.classify("오늘 밥사줘 부탁이야").decision()).isEqualTo(Decision.ESCALATE);
+        assertThat(keywordPreFilter.classify("shitake mushrooms").decision()).isEqualTo(Decision.ESCALATE);
+        assertThat(keywordPreFilter.classify("Moby Dick").decision()).isEqualTo(Decision.ESCALATE);
+    }
+
+    @Test
+    void 짧은_위협_자해_표현은_즉시_통과하지_않고_LLM_검열로_넘긴다() {
+        assertThat(keywordPreFilter.classify("죽어라").decision()).isEqualTo(Decision.SUSPECT);
+        assertThat(keywordPreFilter.classify("자살하자").decision()).isEqualTo(Decision.SUSPECT);
+        assertThat(keywordPreFilter.classify("꺼져").requiresLlm()).isTrue();
+    }
+
+    @Test
+    void 금칙어가_없는_짧은_텍스트와_빈_텍스트는_즉시_통과한다() {
+        assertThat(keywordPreFilter.classify("감사합니다").decision()).isEqualTo(Decision.PASS);
+        assertThat(keywordPreFilter.classify("ㅋㅋㅋ").decision()).isEqualTo(Decision.PASS);
+        assertThat(keywordPreFilter.classify(" ... ").decision()).isEqualTo(Decision.PASS);
+        assertThat(keywordPreFilter.classify(" ... ").requiresLlm()).isFalse();
+    }
+
+    @Test
+    void 금칙어가_없어도_기준보다_긴_텍스트는_LLM_검열로_넘긴다() {
+        assertThat(keywordPreFilter.classify("좋은 글 감사합니다").decision()).isEqualTo(Decision.ESCALATE);
+    }
+}
@@ -0,0 +1,39 @@
+package com.gaebang.backend.domain.community.util;
+
+import com.gaebang.backend.domain.community.util.AhoCorasickMatcher.Match;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    void 겹치는_패턴의_모든_등장_위치를_찾는다() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("he", "she", "his", "hers"));
+
+        assertThat(matcher.findAll("ushers")).containsExactly(
+                new Match("she", 1, 4),
+                new Match("he", 2, 4),
+                new Match("hers", 2, 6));
+    }
+
+    @Test
+    void 조건을_만족하지_않는_매치는_건너뛰고_다음_매치를_반환한다() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("ab", "b"));
+
+        Match match = matcher.findFirst("abab", candidate -> candidate.start() >= 2);
+
+        assertThat(match).isEqualTo(new Match("ab", 2, 4));
+    }
+
+    @Test
+    void 패턴이_없으면_아무것도_찾지_않는다() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of());
+
+        assertThat(matcher.isEmpty()).isTrue();
+        assertThat(matcher.findAll("abc")).isEmpty();
+        assertThat(matcher.findFirst("abc", candidate -> true)).isNull();
+    }
+}
@@ -0,0 +1,54 @@
+package com.gaebang.backend.domain.community.util;
+
+import com.gaebang.backend.domain.community.util.ModerationTextNormalizer.NormalizedText;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModerationTextNormalizerTest {
+
+    @Test
+    void 된소리와_자모_분리_변형은_같은_형태로_정규화된다() {
+        String expected = ModerationTextNormalizer.normalize("시발").text();
+
+        assertThat(ModerationTextNormalizer.normalize("씨발").text()).isEqualTo(expected);
+        assertThat(ModerationTextNormalizer.normalize("시ㅂㅏㄹ").text()).isEqualTo(expected);
+        assertThat(ModerationTextNormalizer.normalize("ㅆㅂ").text())
+                .isEqualTo(ModerationTextNormalizer.normalize("ㅅㅂ").text());
+    }
+
+    @Test
+    void 글자_사이의_기호와_숫자_치환은_되돌린다() {
+        assertThat(ModerationTextNormalizer.normalize("f.u.c.k").text()).isEqualTo("fuck");
+        assertThat(ModerationTextNormalizer.normalize("sh1t").text()).isEqualTo("shit");
+        assertThat(ModerationTextNormalizer.normalize("Ｆｕｃｋ").text()).isEqualTo("fuck");
+        assertThat(ModerationTextNormalizer.normalize("ㅅ.ㅂ").text()).isEqualTo("ㅅㅂ");
+    }
+
+    @Test
+    void 공백과_기호를_제외한_글자_수와_단어_시작_위치를_기록한다() {
+        NormalizedText normalized = ModerationTextNormalizer.normalize("what the fuck!");
+
+        assertThat(normalized.text()).isEqualTo("whatthefuck");
+        assertThat(normalized.letterCount()).isEqualTo(11);
+        assertThat(normalized.isWordBoundary(7, 11)).isTrue();
+        assertThat(normalized.isWordBoundary(4, 6)).isFalse();
+    }
+
+    @Test
+    void 음절을_가로지르는_자모_구간은_글자_경계가_아니다() {
+        // 밥사 → ㅂㅏㅂㅅㅏ, 가운데 ㅂㅅ은 두 음절에 걸쳐 있음
+        NormalizedText normalized = ModerationTextNormalizer.normalize("밥사");
+
+        assertThat(normalized.text()).isEqualTo("ㅂㅏㅂㅅㅏ");
+        assertThat(normalized.isLetterBoundary(2, 4)).isFalse();
+        assertThat(normalized.isLetterBoundary(0, 3)).isTrue();
+    }
+
+    @Test
+    void 빈_입력은_빈_문자열로_정규화된다() {
+        assertThat(ModerationTextNormalizer.normalize(null).text()).isEmpty();
+        assertThat(ModerationTextNormalizer.normalize(" .. ").text()).isEmpty();
+        assertThat(ModerationTextNormalizer.normalize(" .. ").letterCount()).isZero();
+    }
+}
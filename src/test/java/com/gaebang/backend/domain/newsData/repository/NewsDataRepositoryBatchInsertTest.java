@@ -0,0 +1,90 @@
+package com.gaebang.backend.domain.newsData.repository;
+
+import com.gaebang.backend.domain.newsData.entity.NewsData;
+import com.gaebang.backend.global.config.JpaConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// rewriteBatchedStatements는 application-core.yml의 hikari data-source-properties 설정을 그대로 사용
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+@Testcontainers
+class NewsDataRepositoryBatchInsertTest {
+
+    private static final int NEWS_COUNT = 120;
+    private static final int BATCH_SIZE = 50;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private NewsDataRepository newsDataRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void 뉴스_일괄_저장은_행마다가_아니라_배치_단위로_전송된다() {
+        List<NewsData> newsList = new ArrayList<>();
+        for (int i = 0; i < NEWS_COUNT; i++) {
+            newsList.add(NewsData.builder()
+                    .title("title" + i)
+                    .originalLink("https://news/original/" + i)
+                    .link("https://news/" + i)
+                    .description("description" + i)
+                    .pubDate(LocalDateTime.now())
+                    .build());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long insertsBefore = serverInsertStatementCount();
+
+        newsDataRepository.saveAll(newsList);
+        em.flush();
+
+        // IDENTITY였다면 120번의 단건 INSERT가 발생
+        // 테이블 ID 생성기(50개 단위 할당) 조회 + 50건 단위 INSERT 배치 3회로 줄어야 함
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(NEWS_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+        assertThat(newsList).allSatisfy(news -> assertThat(news.getNewsId()).isNotNull());
+
+        // 서버가 실제로 실행한 INSERT 문 수 (같은 커넥션 기준)
+        // rewriteBatchedStatements가 없으면 Connector/J가 배치를 행마다 전송하여 120이 됨
+        long executedInserts = serverInsertStatementCount() - insertsBefore;
+        assertThat(executedInserts).isEqualTo((NEWS_COUNT + BATCH_SIZE - 1) / BATCH_SIZE);
+    }
+
+    private long serverInsertStatementCount() {
+        Object[] row = (Object[]) em.getEntityManager()
+                .createNativeQuery("SHOW SESSION STATUS LIKE 'Com_insert'")
+                .getSingleResult();
+        return Long.parseLong(row[1].toString());
+    }
+}